@@ -37,6 +37,18 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support decode payload body of hot requests encoded by compact binary format.
+     */
+    SERVER_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support decode payload body encoded by binary format",
+            AbilityMode.SERVER),
+    
+    /**
+     * Server support receive config changes synced in batch from other members.
+     */
+    SERVER_SUPPORT_BATCH_CLUSTER_SYNC("supportBatchClusterSync",
+            "support receive config changes synced in batch from other members", AbilityMode.SERVER),
+    
     /**
      * For Test temporarily.
      */
@@ -47,6 +59,24 @@ public enum AbilityKey {
      */
     SERVER_TEST_2("test_2", "just for junit test", AbilityMode.SERVER),
     
+    /**
+     * Sdk client support apply delta of instances pushed by server.
+     */
+    SDK_CLIENT_SUPPORT_DELTA_PUSH("supportDeltaPush", "support apply delta of instances pushed by server",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support handle config change notify merged with multiple configs.
+     */
+    SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY("supportBatchConfigChangeNotify",
+            "support handle config change notify merged with multiple configs", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decode payload body of hot requests encoded by compact binary format.
+     */
+    SDK_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support decode payload body encoded by binary format",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -45,6 +45,9 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD, true);
     }
     
     /**.
@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * config changes sync request on clusters, which carries a batch of changed configs to the same member.
+ *
+ * @author agent
+ */
+public class ConfigChangeClusterBatchSyncRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeItem> configChangeItems = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId       dataId.
+     * @param group        group.
+     * @param tenant       tenant.
+     * @param tag          tag.
+     * @param lastModified lastModified.
+     * @param isBeta       whether beta config changed.
+     * @param isBatch      whether batch config changed.
+     */
+    public void addConfigChangeItem(String dataId, String group, String tenant, String tag, long lastModified,
+            boolean isBeta, boolean isBatch) {
+        ConfigChangeItem item = new ConfigChangeItem();
+        item.dataId = dataId;
+        item.group = group;
+        item.tenant = tenant;
+        item.tag = tag;
+        item.lastModified = lastModified;
+        item.isBeta = isBeta;
+        item.isBatch = isBatch;
+        configChangeItems.add(item);
+    }
+    
+    public List<ConfigChangeItem> getConfigChangeItems() {
+        return configChangeItems;
+    }
+    
+    public void setConfigChangeItems(List<ConfigChangeItem> configChangeItems) {
+        this.configChangeItems = configChangeItems;
+    }
+    
+    public static class ConfigChangeItem {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        String tag;
+        
+        long lastModified;
+        
+        boolean isBeta;
+        
+        boolean isBatch;
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getTag() {
+            return tag;
+        }
+        
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+        
+        public long getLastModified() {
+            return lastModified;
+        }
+        
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+        
+        public boolean isBeta() {
+            return isBeta;
+        }
+        
+        public void setBeta(boolean beta) {
+            isBeta = beta;
+        }
+        
+        public boolean isBatch() {
+            return isBatch;
+        }
+        
+        public void setBatch(boolean batch) {
+            isBatch = batch;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigChangeItem{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='"
+                    + tenant + '\'' + ", tag='" + tag + '\'' + ", lastModified=" + lastModified + ", isBeta=" + isBeta
+                    + ", isBatch=" + isBatch + '}';
+        }
+    }
+}
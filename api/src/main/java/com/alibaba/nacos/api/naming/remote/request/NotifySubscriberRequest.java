@@ -16,14 +16,23 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
 
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
  * Notify subscriber request.
  *
+ * <p>If {@link #baseRevision} is set, the request is a delta push: the hosts of {@link #serviceInfo} are the added or
+ * modified instances and {@link #removedHosts} are the removed instances since base revision, instances are identified
+ * by ip, port and cluster name. Delta push is only sent to clients with ability
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_DELTA_PUSH}.
+ *
  * @author xiweng.yy
  */
 public class NotifySubscriberRequest extends ServerRequest {
@@ -36,6 +45,18 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of pushed service info, null if server doesn't support delta push.
+     */
+    private Long revision;
+    
+    /**
+     * Base revision of delta push, null means this request carries full service info.
+     */
+    private Long baseRevision;
+    
+    private List<Instance> removedHosts;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -84,4 +105,32 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public Long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+    
+    public Long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(Long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
+    @JsonIgnore
+    public boolean isDelta() {
+        return null != baseRevision;
+    }
 }
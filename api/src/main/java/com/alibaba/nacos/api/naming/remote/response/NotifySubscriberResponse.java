@@ -25,4 +25,20 @@ import com.alibaba.nacos.api.remote.response.Response;
  */
 public class NotifySubscriberResponse extends Response {
     
+    /**
+     * Error code when the delta push can't be applied because the revision of client is not the base revision.
+     */
+    public static final int REVISION_GAP = 410;
+    
+    /**
+     * Build response to tell server that the delta push can't be applied and full service info is required.
+     *
+     * @param message error message
+     * @return response of revision gap
+     */
+    public static NotifySubscriberResponse buildRevisionGapResponse(String message) {
+        NotifySubscriberResponse result = new NotifySubscriberResponse();
+        result.setErrorInfo(REVISION_GAP, message);
+        return result;
+    }
 }
@@ -16,15 +16,32 @@
 
 package com.alibaba.nacos.api.ability.register.impl;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import org.junit.Test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class SdkClientAbilitiesTest {
     
     @Test
     public void testGetStaticAbilities() {
-        // TODO add the sdk client abilities.
-        assertTrue(SdkClientAbilities.getStaticAbilities().isEmpty());
+        assertFalse(SdkClientAbilities.getStaticAbilities().isEmpty());
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testSupportDeltaPushAbilities() {
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH));
+    }
+    
+    @Test
+    public void testSupportBatchConfigChangeNotifyAbilities() {
+        assertTrue(SdkClientAbilities.getStaticAbilities()
+                .get(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY));
+    }
+    
+    @Test
+    public void testSupportBinaryPayloadAbilities() {
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD));
+    }
+}
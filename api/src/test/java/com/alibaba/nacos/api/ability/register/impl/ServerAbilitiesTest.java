@@ -33,4 +33,10 @@ public class ServerAbilitiesTest {
     public void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC));
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testSupportBinaryPayloadAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD));
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BATCH_CLUSTER_SYNC));
+    }
+}
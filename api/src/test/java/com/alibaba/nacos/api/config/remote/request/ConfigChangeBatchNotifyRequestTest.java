@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigChangeBatchNotifyRequestTest extends BasedConfigRequestTest {
+    
+    ConfigChangeBatchNotifyRequest configChangeBatchNotifyRequest;
+    
+    String requestId;
+    
+    @Before
+    public void before() {
+        configChangeBatchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+        configChangeBatchNotifyRequest.addChangeConfig(DATA_ID, GROUP, TENANT);
+        configChangeBatchNotifyRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configChangeBatchNotifyRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configChangeBatchNotifyRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"changedConfigs\":[{"));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"group\":\"" + GROUP));
+        assertTrue(json.contains("\"tenant\":\"" + TENANT));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"changedConfigs\":[{\"dataId\":\"test_data\","
+                + "\"group\":\"group\",\"tenant\":\"test_tenant\"}],\"module\":\"config\"}";
+        ConfigChangeBatchNotifyRequest actual = mapper.readValue(json, ConfigChangeBatchNotifyRequest.class);
+        assertEquals(1, actual.getChangedConfigs().size());
+        assertEquals(DATA_ID, actual.getChangedConfigs().get(0).getDataId());
+        assertEquals(GROUP, actual.getChangedConfigs().get(0).getGroup());
+        assertEquals(TENANT, actual.getChangedConfigs().get(0).getTenant());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(HEADER_VALUE, actual.getHeader(HEADER_KEY));
+    }
+}
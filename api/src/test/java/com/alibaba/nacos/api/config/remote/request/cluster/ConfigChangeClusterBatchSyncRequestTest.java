@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.BasedConfigRequestTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigChangeClusterBatchSyncRequestTest extends BasedConfigRequestTest {
+    
+    ConfigChangeClusterBatchSyncRequest configChangeClusterBatchSyncRequest;
+    
+    String requestId;
+    
+    @Before
+    public void before() {
+        configChangeClusterBatchSyncRequest = new ConfigChangeClusterBatchSyncRequest();
+        configChangeClusterBatchSyncRequest.addConfigChangeItem(DATA_ID, GROUP, TENANT, TAG, 1L, true, false);
+        configChangeClusterBatchSyncRequest.addConfigChangeItem(DATA_ID + "1", GROUP, TENANT, null, 2L, false, true);
+        configChangeClusterBatchSyncRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configChangeClusterBatchSyncRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configChangeClusterBatchSyncRequest);
+        System.out.println(json);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"configChangeItems\":["));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"tag\":\"" + TAG));
+        assertTrue(json.contains("\"beta\":" + Boolean.TRUE));
+        assertTrue(json.contains("\"batch\":" + Boolean.TRUE));
+        assertTrue(json.contains("\"lastModified\":" + 2));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"requestId\":\"ece89111-3c42-4055-aca4-c95e16ec564b\","
+                + "\"configChangeItems\":[{\"dataId\":\"test_data\",\"group\":\"group\",\"tenant\":\"test_tenant\","
+                + "\"tag\":\"tag\",\"lastModified\":1,\"beta\":true,\"batch\":false}],\"module\":\"config\"}";
+        ConfigChangeClusterBatchSyncRequest actual = mapper.readValue(json, ConfigChangeClusterBatchSyncRequest.class);
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(1, actual.getConfigChangeItems().size());
+        ConfigChangeClusterBatchSyncRequest.ConfigChangeItem item = actual.getConfigChangeItems().get(0);
+        assertEquals(DATA_ID, item.getDataId());
+        assertEquals(GROUP, item.getGroup());
+        assertEquals(TENANT, item.getTenant());
+        assertEquals(TAG, item.getTag());
+        assertEquals(1L, item.getLastModified());
+        assertTrue(item.isBeta());
+        assertFalse(item.isBatch());
+    }
+}
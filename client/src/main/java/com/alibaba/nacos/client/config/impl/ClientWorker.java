@@ -22,12 +22,14 @@ import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -89,6 +91,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -98,7 +101,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -127,7 +129,13 @@ public class ClientWorker implements Closeable {
     /**
      * groupKey -> cacheData.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final Map<String, CacheData> cacheMap = new ConcurrentHashMap<>();
+    
+    /**
+     * groupKey -> cacheData which is not consistent with server or uses local config info, only these caches are
+     * checked by listen cycles between two all sync.
+     */
+    private final Map<String, CacheData> dirtyCacheMap = new ConcurrentHashMap<>();
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -170,6 +178,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             // make sure cache exists in cacheMap
             if (getCache(dataId, group) != cache) {
                 putCache(GroupKey.getKey(dataId, group), cache);
@@ -197,6 +206,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             // ensure cache present in cacheMap
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
@@ -229,6 +239,7 @@ public class ClientWorker implements Closeable {
             }
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
+            markDirty(cache);
             // make sure cache exists in cacheMap
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
@@ -254,6 +265,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -278,6 +290,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -287,16 +300,15 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
+                dirtyCacheMap.remove(GroupKey.getKeyTenant(remove.dataId, remove.group, remove.tenant), remove);
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -364,14 +376,13 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
+            markDirty(cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -412,13 +423,12 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
+            markDirty(cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -431,12 +441,24 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
+            markDirty(cache);
         }
     }
     
+    /**
+     * Mark cache to be checked by next listen cycle, should be called after cache is set inconsistent with server.
+     *
+     * @param cache cache data
+     */
+    private void markDirty(CacheData cache) {
+        markDirty(GroupKey.getKeyTenant(cache.dataId, cache.group, cache.tenant), cache);
+    }
+    
+    private void markDirty(String groupKey, CacheData cache) {
+        dirtyCacheMap.put(groupKey, cache);
+    }
+    
     private void increaseTaskIdCount(int taskId) {
         taskIdCacheCountList.get(taskId).incrementAndGet();
     }
@@ -464,7 +486,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -524,7 +546,7 @@ public class ClientWorker implements Closeable {
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         boolean isFixServer = agent.serverListManager.isFixed;
@@ -547,7 +569,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -631,8 +653,7 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
+                for (Map.Entry<String, CacheData> entry : cacheMap.entrySet()) {
                     entry.getValue().setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
@@ -670,11 +691,12 @@ public class ClientWorker implements Closeable {
             String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                     configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
             
-            CacheData cacheData = cacheMap.get().get(groupKey);
+            CacheData cacheData = cacheMap.get(groupKey);
             if (cacheData != null) {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
                     cacheData.setConsistentWithServer(false);
+                    markDirty(groupKey, cacheData);
                     notifyListenConfig();
                 }
                 
@@ -682,6 +704,31 @@ public class ClientWorker implements Closeable {
             return new ConfigChangeNotifyResponse();
         }
         
+        ConfigChangeBatchNotifyResponse handleConfigChangeBatchNotifyRequest(
+                ConfigChangeBatchNotifyRequest configChangeBatchNotifyRequest, String clientName) {
+            LOGGER.info("[{}] [server-push] batch config changed. size={}", clientName,
+                    configChangeBatchNotifyRequest.getChangedConfigs().size());
+            boolean changed = false;
+            for (ConfigChangeBatchNotifyRequest.ConfigContext each : configChangeBatchNotifyRequest
+                    .getChangedConfigs()) {
+                String groupKey = GroupKey.getKeyTenant(each.getDataId(), each.getGroup(), each.getTenant());
+                CacheData cacheData = cacheMap.get(groupKey);
+                if (cacheData != null) {
+                    synchronized (cacheData) {
+                        cacheData.getReceiveNotifyChanged().set(true);
+                        cacheData.setConsistentWithServer(false);
+                        markDirty(groupKey, cacheData);
+                    }
+                    changed = true;
+                }
+            }
+            // Ring the bell once, so all changed configs are checked by one batch listen request per task.
+            if (changed) {
+                notifyListenConfig();
+            }
+            return new ConfigChangeBatchNotifyResponse();
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -697,6 +744,10 @@ public class ClientWorker implements Closeable {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
+                if (request instanceof ConfigChangeBatchNotifyRequest) {
+                    return handleConfigChangeBatchNotifyRequest((ConfigChangeBatchNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
                 return null;
             });
             
@@ -719,15 +770,17 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = cacheMap.values();
                     
                     for (CacheData cacheData : values) {
                         if (StringUtils.isNotBlank(taskId)) {
                             if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
                                 cacheData.setConsistentWithServer(false);
+                                markDirty(cacheData);
                             }
                         } else {
                             cacheData.setConsistentWithServer(false);
+                            markDirty(cacheData);
                         }
                     }
                 }
@@ -809,11 +862,15 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            // Only dirty caches need to be checked, unless all sync or failover files may be created or changed.
+            boolean checkAll = needAllSync || LocalConfigInfoProcessor.getFailoverDir(getName()).exists();
+            Collection<CacheData> caches = checkAll ? cacheMap.values() : new ArrayList<>(dirtyCacheMap.values());
+            for (CacheData cache : caches) {
                 
                 synchronized (cache) {
                     
                     checkLocalConfig(cache);
+                    refreshDirty(cache);
                     
                     // check local listeners consistent.
                     if (cache.isConsistentWithServer()) {
@@ -857,6 +914,20 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * Remove cache from dirty caches if it is consistent with server and not using local config info. Remove
+         * before checking, so that a concurrent {@link #markDirty(CacheData)} is never lost.
+         *
+         * @param cache cache data
+         */
+        private void refreshDirty(CacheData cache) {
+            String groupKey = GroupKey.getKeyTenant(cache.dataId, cache.group, cache.tenant);
+            dirtyCacheMap.remove(groupKey, cache);
+            if (!cache.isConsistentWithServer() || cache.isUseLocalConfigInfo()) {
+                dirtyCacheMap.put(groupKey, cache);
+            }
+        }
+        
         /**
          * Checks and handles local configuration for a given CacheData object. This method evaluates the use of
          * failover files for local configuration storage and updates the CacheData accordingly.
@@ -920,8 +991,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            if (cacheMap.containsKey(groupKey)) {
+                CacheData cache = cacheMap.get(groupKey);
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1030,7 +1101,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1041,7 +1112,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1147,7 +1218,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
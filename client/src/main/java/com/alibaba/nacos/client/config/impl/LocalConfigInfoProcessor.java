@@ -190,6 +190,11 @@ public class LocalConfigInfoProcessor {
         }
     }
     
+    static File getFailoverDir(String serverName) {
+        serverName = simplyEnvNameIfOverLimit(serverName);
+        return new File(new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX), FAILOVER_FILE_CHILD_1);
+    }
+    
     static File getFailoverFile(String serverName, String dataId, String group, String tenant) {
         serverName = simplyEnvNameIfOverLimit(serverName);
         File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
@@ -23,6 +23,7 @@ import com.alibaba.nacos.client.naming.backups.FailoverSwitch;
 import com.alibaba.nacos.client.naming.backups.NamingFailoverData;
 import com.alibaba.nacos.client.utils.ConcurrentDiskUtil;
 import com.alibaba.nacos.client.naming.cache.DiskCache;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoSnapshotStore;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
 import com.alibaba.nacos.client.naming.utils.UtilAndComs;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -83,7 +84,8 @@ public class DiskFailoverDataSource implements FailoverDataSource {
                         continue;
                     }
                     
-                    if (file.getName().equals(UtilAndComs.FAILOVER_SWITCH)) {
+                    if (file.getName().equals(UtilAndComs.FAILOVER_SWITCH) || file.getName()
+                            .equals(ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME)) {
                         continue;
                     }
                     
@@ -95,9 +97,29 @@ public class DiskFailoverDataSource implements FailoverDataSource {
                 NAMING_LOGGER.error("[NA] failed to read cache file", e);
             }
             
-            if (domMap.size() > 0) {
-                serviceMap = domMap;
-            }
+            updateFailoverData(domMap);
+        }
+    }
+    
+    protected String getFailoverDir() {
+        return failoverDir;
+    }
+    
+    /**
+     * Load failover data when failover mode is turned on.
+     */
+    protected void loadFailoverData() {
+        new FailoverFileReader().run();
+    }
+    
+    /**
+     * Replace current failover data, empty data is ignored.
+     *
+     * @param failoverData new failover data
+     */
+    protected void updateFailoverData(Map<String, FailoverData> failoverData) {
+        if (failoverData.size() > 0) {
+            serviceMap = failoverData;
         }
     }
     
@@ -124,7 +146,7 @@ public class DiskFailoverDataSource implements FailoverDataSource {
                         if (IS_FAILOVER_MODE.equals(line1)) {
                             switchParams.put(FAILOVER_MODE_PARAM, Boolean.TRUE.toString());
                             NAMING_LOGGER.info("failover-mode is on");
-                            new FailoverFileReader().run();
+                            loadFailoverData();
                             return new FailoverSwitch(Boolean.TRUE);
                         } else if (NO_FAILOVER_MODE.equals(line1)) {
                             switchParams.put(FAILOVER_MODE_PARAM, Boolean.FALSE.toString());
@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.backups.datasource;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.backups.FailoverData;
+import com.alibaba.nacos.client.naming.backups.NamingFailoverData;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoSnapshotStore;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Failover data source reading the snapshot file written by {@link ServiceInfoSnapshotStore}.
+ *
+ * <p>The failover switch is the same as {@link DiskFailoverDataSource}. If the failover directory contains a snapshot
+ * file, the failover data is read from it, otherwise from the json files of the failover directory.
+ *
+ * <p>This data source is not registered by default, register it in
+ * {@code META-INF/services/com.alibaba.nacos.client.naming.backups.FailoverDataSource} of the application to use it.
+ *
+ * @author agent
+ */
+public class SnapshotFailoverDataSource extends DiskFailoverDataSource {
+    
+    @Override
+    protected void loadFailoverData() {
+        File snapshotFile = new File(getFailoverDir(), ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        if (!snapshotFile.isFile()) {
+            super.loadFailoverData();
+            return;
+        }
+        Map<String, ServiceInfo> snapshot = ServiceInfoSnapshotStore.readAll(snapshotFile);
+        Map<String, FailoverData> failoverData = new HashMap<>(snapshot.size());
+        for (Map.Entry<String, ServiceInfo> entry : snapshot.entrySet()) {
+            failoverData.put(entry.getKey(), NamingFailoverData.newNamingFailoverData(entry.getValue()));
+        }
+        updateFailoverData(failoverData);
+    }
+}
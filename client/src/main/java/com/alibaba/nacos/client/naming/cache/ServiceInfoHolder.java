@@ -35,6 +35,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,17 +53,32 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of service info pushed by server, used to check whether a delta push can be applied.
+     */
+    private final ConcurrentMap<String, Long> pushRevisions = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
     
+    /**
+     * Snapshot store used instead of {@link DiskCache} if enabled, otherwise {@code null}.
+     */
+    private final ServiceInfoSnapshotStore snapshotStore;
+    
+    private final boolean lazyLoadSnapshot;
+    
     private String cacheDir;
     
     private String notifierEventScope;
     
     public ServiceInfoHolder(String namespace, String notifierEventScope, NacosClientProperties properties) {
         cacheDir = CacheDirUtil.initCacheDir(namespace, properties);
-        if (isLoadCacheAtStart(properties)) {
+        boolean loadCacheAtStart = isLoadCacheAtStart(properties);
+        this.snapshotStore = isSnapshotEnabled(properties) ? openSnapshotStore(cacheDir) : null;
+        this.lazyLoadSnapshot = null != snapshotStore && loadCacheAtStart;
+        if (loadCacheAtStart && null == snapshotStore) {
             this.serviceInfoMap = new ConcurrentHashMap<>(DiskCache.read(this.cacheDir));
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
@@ -82,6 +98,25 @@ public class ServiceInfoHolder implements Closeable {
         return loadCacheAtStart;
     }
     
+    private boolean isSnapshotEnabled(NacosClientProperties properties) {
+        return properties != null && ConvertUtils.toBoolean(
+                properties.getProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT_ENABLED), false);
+    }
+    
+    private ServiceInfoSnapshotStore openSnapshotStore(String cacheDir) {
+        ServiceInfoSnapshotStore result = new ServiceInfoSnapshotStore(cacheDir);
+        if (result.isAvailable()) {
+            return result;
+        }
+        NAMING_LOGGER.warn("[NA] naming snapshot store of {} is unavailable, use disk cache instead", cacheDir);
+        try {
+            result.shutdown();
+        } catch (NacosException e) {
+            NAMING_LOGGER.warn("[NA] shutdown unavailable naming snapshot store failed: {}", e.getMessage());
+        }
+        return null;
+    }
+    
     private boolean isPushEmptyProtect(NacosClientProperties properties) {
         boolean pushEmptyProtection = false;
         if (properties != null && StringUtils.isNotEmpty(
@@ -99,7 +134,20 @@ public class ServiceInfoHolder implements Closeable {
     public ServiceInfo getServiceInfo(final String serviceName, final String groupName, final String clusters) {
         String groupedServiceName = NamingUtils.getGroupedName(serviceName, groupName);
         String key = ServiceInfo.getKey(groupedServiceName, clusters);
-        return serviceInfoMap.get(key);
+        ServiceInfo result = serviceInfoMap.get(key);
+        if (null == result && lazyLoadSnapshot) {
+            result = loadFromSnapshot(key);
+        }
+        return result;
+    }
+    
+    private ServiceInfo loadFromSnapshot(String key) {
+        ServiceInfo cached = snapshotStore.read(key);
+        if (null == cached) {
+            return null;
+        }
+        ServiceInfo previous = serviceInfoMap.putIfAbsent(key, cached);
+        return null == previous ? cached : previous;
     }
     
     /**
@@ -120,7 +168,97 @@ public class ServiceInfoHolder implements Closeable {
      * @param serviceInfo new service info
      * @return service info
      */
-    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+    public synchronized ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+        String serviceKey = serviceInfo.getKey();
+        if (null != serviceKey && serviceInfoMap.get(serviceKey) != serviceInfo) {
+            // revision of service info from other way is unknown, delta push can't be applied until next full push.
+            pushRevisions.remove(serviceKey);
+        }
+        return doProcessServiceInfo(serviceInfo);
+    }
+    
+    /**
+     * Process full service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of new service info
+     * @return service info
+     */
+    public synchronized ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = doProcessServiceInfo(serviceInfo);
+        updatePushRevision(serviceInfo, result, revision);
+        return result;
+    }
+    
+    /**
+     * Process delta of service info pushed by server.
+     *
+     * @param delta        service info with added or modified instances
+     * @param removedHosts removed instances
+     * @param baseRevision base revision of delta
+     * @param revision     revision after applying delta
+     * @return {@code true} if applied, {@code false} if local revision is not base revision and full service info is
+     *     required
+     */
+    public synchronized boolean processServiceInfoDelta(ServiceInfo delta, List<Instance> removedHosts,
+            long baseRevision, long revision) {
+        String serviceKey = delta.getKey();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        Long currentRevision = null == serviceKey ? null : pushRevisions.get(serviceKey);
+        if (null == oldService || null == currentRevision || currentRevision != baseRevision
+                || oldService.isReachProtectionThreshold()) {
+            NAMING_LOGGER.info("revision gap for delta push, serviceKey: {}, local revision: {}, base revision: {}",
+                    serviceKey, currentRevision, baseRevision);
+            if (null != serviceKey) {
+                pushRevisions.remove(serviceKey);
+            }
+            return false;
+        }
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(getDeltaKey(each), each);
+        }
+        if (null != removedHosts) {
+            for (Instance each : removedHosts) {
+                hosts.remove(getDeltaKey(each));
+            }
+        }
+        for (Instance each : delta.getHosts()) {
+            hosts.put(getDeltaKey(each), each);
+        }
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(delta.getName());
+        serviceInfo.setGroupName(delta.getGroupName());
+        serviceInfo.setClusters(delta.getClusters());
+        serviceInfo.setCacheMillis(delta.getCacheMillis());
+        serviceInfo.setLastRefTime(delta.getLastRefTime());
+        serviceInfo.setChecksum(delta.getChecksum());
+        serviceInfo.setAllIPs(delta.isAllIPs());
+        serviceInfo.setReachProtectionThreshold(delta.isReachProtectionThreshold());
+        serviceInfo.setHosts(new ArrayList<>(hosts.values()));
+        ServiceInfo result = doProcessServiceInfo(serviceInfo);
+        updatePushRevision(serviceInfo, result, revision);
+        return true;
+    }
+    
+    private void updatePushRevision(ServiceInfo serviceInfo, ServiceInfo result, long revision) {
+        String serviceKey = serviceInfo.getKey();
+        if (null == serviceKey) {
+            return;
+        }
+        if (result == serviceInfo) {
+            pushRevisions.put(serviceKey, revision);
+        } else {
+            // push is ignored, such as empty push protection, local data is not the revision any more.
+            pushRevisions.remove(serviceKey);
+        }
+    }
+    
+    private String getDeltaKey(Instance instance) {
+        return instance.toInetAddr() + "#" + instance.getClusterName();
+    }
+    
+    private ServiceInfo doProcessServiceInfo(ServiceInfo serviceInfo) {
         String serviceKey = serviceInfo.getKey();
         if (serviceKey == null) {
             NAMING_LOGGER.warn("process service info but serviceKey is null, service host: {}",
@@ -148,7 +286,11 @@ public class ServiceInfoHolder implements Closeable {
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                                 serviceInfo.getClusters(), serviceInfo.getHosts()));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            if (null != snapshotStore) {
+                snapshotStore.write(serviceInfo);
+            } else {
+                DiskCache.write(serviceInfo, cacheDir);
+            }
         }
         return serviceInfo;
     }
@@ -253,6 +395,9 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        if (null != snapshotStore) {
+            snapshotStore.shutdown();
+        }
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
 }
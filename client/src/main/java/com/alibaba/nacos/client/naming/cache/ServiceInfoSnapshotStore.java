@@ -0,0 +1,431 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Snapshot store of naming service info, an alternative of {@link DiskCache}.
+ *
+ * <p>All services are kept in one memory-mapped file. The file starts with a magic number and a format version,
+ * followed by slots. Each slot holds the key and the json of one service, and is rewritten in place while the new
+ * content fits in the slot, otherwise the slot is released for reuse and the service moves to another slot.
+ *
+ * <p>Writes are coalesced and flushed asynchronously, only the latest service info of each key is written. Opening the
+ * store only indexes the slots, the content of a service is decoded when it is read at the first time.
+ *
+ * <p>The file is locked exclusively while opened, so only one store can write it. If the lock is held by another
+ * store, this store is not {@link #isAvailable() available} and callers should fall back to {@link DiskCache}.
+ *
+ * @author agent
+ */
+public class ServiceInfoSnapshotStore implements Closeable {
+    
+    public static final String SNAPSHOT_FILE_NAME = "service-info.snapshot";
+    
+    private static final int MAGIC = 0x4E41534E;
+    
+    private static final int VERSION = 1;
+    
+    private static final int VERSION_OFFSET = 4;
+    
+    private static final int FILE_HEADER_SIZE = 8;
+    
+    /**
+     * Slot header: capacity(int), state(byte), key length(int), data length(int).
+     */
+    private static final int SLOT_HEADER_SIZE = 13;
+    
+    private static final int STATE_OFFSET = 4;
+    
+    private static final int KEY_LENGTH_OFFSET = 5;
+    
+    private static final int DATA_LENGTH_OFFSET = 9;
+    
+    private static final byte SLOT_FREE = 0;
+    
+    private static final byte SLOT_USED = 1;
+    
+    private static final int MIN_SLOT_CAPACITY = 512;
+    
+    private static final int INITIAL_FILE_SIZE = 1024 * 1024;
+    
+    private static final long FLUSH_DELAY_MILLIS = 1000L;
+    
+    private final File file;
+    
+    private final Map<String, Integer> slotIndex = new HashMap<>(16);
+    
+    private final List<Integer> freeSlots = new ArrayList<>();
+    
+    private final Map<String, ServiceInfo> pendingWrites = new ConcurrentHashMap<>(16);
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    
+    private final ScheduledExecutorService executorService;
+    
+    private RandomAccessFile randomAccessFile;
+    
+    private FileLock fileLock;
+    
+    private MappedByteBuffer buffer;
+    
+    private int writePosition;
+    
+    private volatile boolean available;
+    
+    public ServiceInfoSnapshotStore(String dir) {
+        this.file = new File(dir, SNAPSHOT_FILE_NAME);
+        this.executorService = new ScheduledThreadPoolExecutor(1,
+                new NameThreadFactory("com.alibaba.nacos.naming.snapshot"));
+        open();
+    }
+    
+    private synchronized void open() {
+        try {
+            DiskCache.createFileIfAbsent(file.getParentFile(), true);
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            fileLock = tryLock(randomAccessFile.getChannel());
+            if (null == fileLock) {
+                NAMING_LOGGER.warn("[NA] naming snapshot file {} is locked by another store", file);
+                closeFile();
+                return;
+            }
+            long fileSize = randomAccessFile.length();
+            buffer = randomAccessFile.getChannel()
+                    .map(FileChannel.MapMode.READ_WRITE, 0, Math.max(fileSize, INITIAL_FILE_SIZE));
+            if (fileSize >= FILE_HEADER_SIZE && isSupportedFormat(buffer)) {
+                writePosition = scanSlots(buffer, slotIndex, freeSlots);
+            } else {
+                if (fileSize > 0) {
+                    NAMING_LOGGER.warn("[NA] unsupported naming snapshot file {}, rebuild it", file);
+                }
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putInt(FILE_HEADER_SIZE, 0);
+                writePosition = FILE_HEADER_SIZE;
+            }
+            available = true;
+            NAMING_LOGGER.info("[NA] naming snapshot store opened, file: {}, services: {}", file, slotIndex.size());
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to open naming snapshot file " + file, e);
+            closeFile();
+        }
+    }
+    
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // locked by another store in the same process
+            return null;
+        }
+    }
+    
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    /**
+     * Read service info of the key, the pending write is preferred.
+     *
+     * @param key service key
+     * @return service info, or {@code null} if not found
+     */
+    public ServiceInfo read(String key) {
+        ServiceInfo pending = pendingWrites.get(key);
+        if (null != pending) {
+            return pending;
+        }
+        if (!available) {
+            return null;
+        }
+        synchronized (this) {
+            Integer position = slotIndex.get(key);
+            return null == position ? null : decodeSlot(buffer, position, key);
+        }
+    }
+    
+    /**
+     * Write service info asynchronously, writes of the same service before flush are coalesced.
+     *
+     * @param serviceInfo service info
+     */
+    public void write(ServiceInfo serviceInfo) {
+        if (!available || null == serviceInfo.getKey()) {
+            return;
+        }
+        pendingWrites.put(serviceInfo.getKey(), serviceInfo);
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                executorService.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                flushScheduled.set(false);
+                NAMING_LOGGER.warn("[NA] schedule naming snapshot flush failed: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Write all pending service info into the snapshot file.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (!available) {
+                return;
+            }
+            Iterator<Map.Entry<String, ServiceInfo>> iterator = pendingWrites.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, ServiceInfo> entry = iterator.next();
+                iterator.remove();
+                try {
+                    writeSlot(entry.getKey(), encode(entry.getValue()));
+                } catch (Throwable e) {
+                    NAMING_LOGGER.error("[NA] failed to write naming snapshot for service: " + entry.getKey(), e);
+                }
+            }
+            buffer.force();
+        }
+    }
+    
+    private byte[] encode(ServiceInfo serviceInfo) {
+        String json = serviceInfo.getJsonFromServer();
+        if (StringUtils.isEmpty(json)) {
+            return JacksonUtils.toJsonBytes(serviceInfo);
+        }
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void writeSlot(String key, byte[] data) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int required = keyBytes.length + data.length;
+        Integer position = slotIndex.get(key);
+        if (null == position || buffer.getInt(position) < required) {
+            if (null != position) {
+                buffer.put(position + STATE_OFFSET, SLOT_FREE);
+                freeSlots.add(position);
+            }
+            position = allocateSlot(required);
+            slotIndex.put(key, position);
+        }
+        buffer.put(position + STATE_OFFSET, SLOT_FREE);
+        buffer.putInt(position + KEY_LENGTH_OFFSET, keyBytes.length);
+        buffer.putInt(position + DATA_LENGTH_OFFSET, data.length);
+        ByteBuffer content = buffer.duplicate();
+        content.position(position + SLOT_HEADER_SIZE);
+        content.put(keyBytes);
+        content.put(data);
+        buffer.put(position + STATE_OFFSET, SLOT_USED);
+    }
+    
+    private int allocateSlot(int required) throws IOException {
+        Iterator<Integer> iterator = freeSlots.iterator();
+        while (iterator.hasNext()) {
+            int position = iterator.next();
+            if (buffer.getInt(position) >= required) {
+                iterator.remove();
+                return position;
+            }
+        }
+        int capacity = Math.max(MIN_SLOT_CAPACITY, required + (required >> 1));
+        long end = (long) writePosition + SLOT_HEADER_SIZE + capacity;
+        ensureFileSize(end + Integer.BYTES);
+        int position = writePosition;
+        buffer.putInt(position, capacity);
+        buffer.put(position + STATE_OFFSET, SLOT_FREE);
+        writePosition = (int) end;
+        buffer.putInt(writePosition, 0);
+        return position;
+    }
+    
+    private void ensureFileSize(long required) throws IOException {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long newSize = buffer.capacity();
+        while (newSize < required) {
+            newSize <<= 1;
+        }
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IOException("naming snapshot file is too large: " + newSize);
+        }
+        buffer.force();
+        buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+    }
+    
+    /**
+     * Read all service info from a snapshot file, used by failover.
+     *
+     * @param snapshotFile snapshot file
+     * @return service info map, empty if the file is absent or not supported
+     */
+    public static Map<String, ServiceInfo> readAll(File snapshotFile) {
+        Map<String, ServiceInfo> result = new HashMap<>(16);
+        if (!snapshotFile.isFile() || snapshotFile.length() < FILE_HEADER_SIZE) {
+            return result;
+        }
+        try (RandomAccessFile readOnlyFile = new RandomAccessFile(snapshotFile, "r")) {
+            ByteBuffer readOnlyBuffer = readOnlyFile.getChannel()
+                    .map(FileChannel.MapMode.READ_ONLY, 0, readOnlyFile.length());
+            if (!isSupportedFormat(readOnlyBuffer)) {
+                NAMING_LOGGER.warn("[NA] unsupported naming snapshot file {}", snapshotFile);
+                return result;
+            }
+            Map<String, Integer> usedSlots = new HashMap<>(16);
+            scanSlots(readOnlyBuffer, usedSlots, new ArrayList<>());
+            for (Map.Entry<String, Integer> entry : usedSlots.entrySet()) {
+                ServiceInfo serviceInfo = decodeSlot(readOnlyBuffer, entry.getValue(), entry.getKey());
+                if (null != serviceInfo) {
+                    result.put(entry.getKey(), serviceInfo);
+                }
+            }
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to read naming snapshot file " + snapshotFile, e);
+        }
+        return result;
+    }
+    
+    private static boolean isSupportedFormat(ByteBuffer buffer) {
+        return MAGIC == buffer.getInt(0) && VERSION == buffer.getInt(VERSION_OFFSET);
+    }
+    
+    /**
+     * Index slots of snapshot, stop at the first slot with no capacity or out of bound.
+     *
+     * @return the end position of slots
+     */
+    private static int scanSlots(ByteBuffer buffer, Map<String, Integer> usedSlots, List<Integer> freeSlots) {
+        int position = FILE_HEADER_SIZE;
+        while (position + SLOT_HEADER_SIZE <= buffer.limit()) {
+            int capacity = buffer.getInt(position);
+            if (capacity <= 0 || capacity > buffer.limit() - position - SLOT_HEADER_SIZE) {
+                break;
+            }
+            int keyLength = buffer.getInt(position + KEY_LENGTH_OFFSET);
+            int dataLength = buffer.getInt(position + DATA_LENGTH_OFFSET);
+            boolean used = SLOT_USED == buffer.get(position + STATE_OFFSET) && keyLength > 0 && dataLength > 0
+                    && keyLength <= capacity - dataLength;
+            if (used) {
+                String key = new String(readBytes(buffer, position + SLOT_HEADER_SIZE, keyLength),
+                        StandardCharsets.UTF_8);
+                Integer duplicated = usedSlots.put(key, position);
+                if (null != duplicated) {
+                    freeSlots.add(duplicated);
+                }
+            } else {
+                freeSlots.add(position);
+            }
+            position += SLOT_HEADER_SIZE + capacity;
+        }
+        return position;
+    }
+    
+    /**
+     * Decode service info in the slot, return {@code null} if the slot is not used or holds another key.
+     */
+    private static ServiceInfo decodeSlot(ByteBuffer buffer, int position, String key) {
+        int keyLength = buffer.getInt(position + KEY_LENGTH_OFFSET);
+        int dataLength = buffer.getInt(position + DATA_LENGTH_OFFSET);
+        try {
+            byte[] storedKey = readBytes(buffer, position + SLOT_HEADER_SIZE, keyLength);
+            if (SLOT_USED != buffer.get(position + STATE_OFFSET) || !Arrays
+                    .equals(storedKey, key.getBytes(StandardCharsets.UTF_8))) {
+                NAMING_LOGGER.warn("[NA] naming snapshot slot at {} does not hold service {}", position, key);
+                return null;
+            }
+            byte[] data = readBytes(buffer, position + SLOT_HEADER_SIZE + keyLength, dataLength);
+            return JacksonUtils.toObj(data, ServiceInfo.class);
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to decode naming snapshot slot at " + position, e);
+            return null;
+        }
+    }
+    
+    private static byte[] readBytes(ByteBuffer buffer, int position, int length) {
+        byte[] result = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(position);
+        source.get(result);
+        return result;
+    }
+    
+    private void closeFile() {
+        available = false;
+        buffer = null;
+        if (null != fileLock) {
+            try {
+                fileLock.release();
+            } catch (IOException e) {
+                NAMING_LOGGER.warn("[NA] failed to unlock naming snapshot file {}: {}", file, e.getMessage());
+            }
+            fileLock = null;
+        }
+        if (null != randomAccessFile) {
+            try {
+                randomAccessFile.close();
+            } catch (IOException e) {
+                NAMING_LOGGER.warn("[NA] failed to close naming snapshot file {}: {}", file, e.getMessage());
+            }
+            randomAccessFile = null;
+        }
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        String className = this.getClass().getName();
+        NAMING_LOGGER.info("{} do shutdown begin", className);
+        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        flush();
+        synchronized (this) {
+            closeFile();
+        }
+        NAMING_LOGGER.info("{} do shutdown stop", className);
+    }
+}
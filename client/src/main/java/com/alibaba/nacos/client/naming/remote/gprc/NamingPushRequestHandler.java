@@ -41,7 +41,17 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (notifyRequest.isDelta()) {
+                if (!serviceInfoHolder.processServiceInfoDelta(notifyRequest.getServiceInfo(),
+                        notifyRequest.getRemovedHosts(), notifyRequest.getBaseRevision(),
+                        notifyRequest.getRevision())) {
+                    return NotifySubscriberResponse.buildRevisionGapResponse("Revision gap, full push required");
+                }
+            } else if (null != notifyRequest.getRevision()) {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+            } else {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            }
             return new NotifySubscriberResponse();
         }
         return null;
@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
@@ -357,12 +358,10 @@ public class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
@@ -377,7 +376,7 @@ public class ClientWorkerTest {
     }
     
     @Test
-    public void testHandleClientMetricsReqeust() throws Exception {
+    public void testHandleConfigChangeBatchNotifyRequest() throws Exception {
         
         Properties prop = new Properties();
         String tenant = "c";
@@ -387,12 +386,77 @@ public class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
+        CacheData cacheDataMocked = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
+        String group = "b";
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a", group, tenant))).thenReturn(cacheDataMocked);
+        ConfigChangeBatchNotifyRequest request = new ConfigChangeBatchNotifyRequest();
+        request.addChangeConfig("a", group, tenant);
+        request.addChangeConfig("notListened", group, tenant);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeBatchNotifyRequest(
+                request, "testname");
+        Mockito.verify(cacheDataMocked, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean, times(1)).set(true);
+    }
+    
+    @Test
+    public void testIdleListenOnlyChecksDirtyCaches() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        File file = Mockito.mock(File.class);
+        localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getFailoverDir(anyString()))
+                .thenReturn(file);
+        localConfigInfoProcessorMockedStatic.when(
+                () -> LocalConfigInfoProcessor.getFailoverFile(anyString(), anyString(), anyString(), any()))
+                .thenReturn(file);
+        
+        int cacheCount = 10000;
+        for (int i = 0; i < cacheCount; i++) {
+            clientWorker.addCacheDataIfAbsent("dataId" + i, "group").setConsistentWithServer(true);
+        }
+        Field dirtyCacheMapField = ClientWorker.class.getDeclaredField("dirtyCacheMap");
+        dirtyCacheMapField.setAccessible(true);
+        Map<String, CacheData> dirtyCacheMap = (Map<String, CacheData>) dirtyCacheMapField.get(clientWorker);
+        Assert.assertEquals(cacheCount, dirtyCacheMap.size());
+        
+        // first cycle checks all new caches, following idle cycles check nothing.
+        clientWorker.getAgent().executeConfigListen();
+        Assert.assertTrue(dirtyCacheMap.isEmpty());
+        clientWorker.getAgent().executeConfigListen();
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.getFailoverFile(anyString(), anyString(), anyString(), any()),
+                times(cacheCount));
+        
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
+                ConfigChangeNotifyRequest.build("dataId0", "group", null), "testname");
+        Assert.assertEquals(1, dirtyCacheMap.size());
+        Assert.assertFalse(dirtyCacheMap.values().iterator().next().isConsistentWithServer());
+    }
+    
+    @Test
+    public void testHandleClientMetricsReqeust() throws Exception {
+        
+        Properties prop = new Properties();
+        String tenant = "c";
+        
+        prop.put(NAMESPACE, tenant);
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
         Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -540,11 +604,13 @@ public class ClientWorkerTest {
                 .thenReturn(true);
         
         Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
+        File failoverDir = Mockito.mock(File.class);
+        Mockito.when(failoverDir.exists()).thenReturn(true);
+        localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getFailoverDir(anyString()))
+                .thenReturn(failoverDir);
         
         //mock request
         ConfigChangeBatchListenResponse.ConfigContext configContext = new ConfigChangeBatchListenResponse.ConfigContext();
@@ -572,7 +638,7 @@ public class ClientWorkerTest {
         //use local cache.
         Assert.assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        Assert.assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        Assert.assertFalse(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
         //normal cache listener be notified.
         Assert.assertEquals(configQueryResponse.getContent(), normalContent.get());
         
@@ -651,16 +717,15 @@ public class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        Assert.assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMapRef.get(key));
+        Assert.assertEquals(cacheData, cacheMapRef.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        Assert.assertEquals(newCacheData, cacheMapRef.get().get(key));
+        Assert.assertEquals(newCacheData, cacheMapRef.get(key));
     }
     
     @Test
@@ -672,10 +737,9 @@ public class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -704,10 +768,9 @@ public class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -737,10 +800,9 @@ public class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.backups.datasource;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.backups.FailoverData;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoSnapshotStore;
+import com.alibaba.nacos.client.naming.utils.UtilAndComs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotFailoverDataSourceTest {
+    
+    private File dir;
+    
+    private SnapshotFailoverDataSource dataSource;
+    
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("nacos-failover").toFile();
+        dataSource = new SnapshotFailoverDataSource();
+        Field failoverDirField = DiskFailoverDataSource.class.getDeclaredField("failoverDir");
+        failoverDirField.setAccessible(true);
+        failoverDirField.set(dataSource, dir.getPath());
+        Files.write(new File(dir, UtilAndComs.FAILOVER_SWITCH).toPath(), "1".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        File[] files = dir.listFiles();
+        if (null != files) {
+            for (File each : files) {
+                Files.deleteIfExists(each.toPath());
+            }
+        }
+        Files.deleteIfExists(dir.toPath());
+    }
+    
+    @Test
+    public void testGetFailoverDataFromSnapshot() throws Exception {
+        final ServiceInfoSnapshotStore store = new ServiceInfoSnapshotStore(dir.getPath());
+        ServiceInfo serviceInfo = new ServiceInfo("a@@b");
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        store.write(serviceInfo);
+        store.shutdown();
+        assertTrue(dataSource.getSwitch().getEnabled());
+        Map<String, FailoverData> actual = dataSource.getFailoverData();
+        assertEquals(1, actual.size());
+        assertEquals(FailoverData.DataType.naming, actual.get("a@@b").getDataType());
+        assertEquals("1.1.1.1", ((ServiceInfo) actual.get("a@@b").getData()).getHosts().get(0).getIp());
+    }
+    
+    @Test
+    public void testGetFailoverDataWithoutSnapshot() {
+        assertTrue(dataSource.getSwitch().getEnabled());
+        assertTrue(dataSource.getFailoverData().isEmpty());
+    }
+}
@@ -29,7 +29,9 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
@@ -95,6 +97,38 @@ public class ServiceInfoHolderTest {
         return instance;
     }
     
+    @Test
+    public void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        final ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        List<Instance> changed = new ArrayList<>();
+        changed.add(modified);
+        changed.add(createInstance("1.1.1.3", 3));
+        delta.setHosts(changed);
+        List<Instance> removed = new ArrayList<>();
+        removed.add(createInstance("1.1.1.2", 2));
+        Assert.assertTrue(holder.processServiceInfoDelta(delta, removed, 1L, 2L));
+        
+        ServiceInfo actual = holder.getServiceInfoMap().get("a@@b@@c");
+        Assert.assertEquals(2, actual.getHosts().size());
+        Assert.assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        Assert.assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        // base revision is not local revision.
+        Assert.assertFalse(holder.processServiceInfoDelta(delta, removed, 1L, 3L));
+        // local revision is unknown after service info is updated by query.
+        holder.processServiceInfo(info, 3L);
+        holder.processServiceInfo(new ServiceInfo("a@@b@@c"));
+        Assert.assertFalse(holder.processServiceInfoDelta(delta, removed, 3L, 4L));
+    }
+    
     @Test
     public void testProcessServiceInfo2() {
         String json = "{\"groupName\":\"a\",\"name\":\"b\",\"clusters\":\"c\"}";
@@ -191,6 +225,52 @@ public class ServiceInfoHolderTest {
         Assert.assertTrue(holder.getServiceInfoMap().isEmpty());
     }
     
+    @Test
+    public void testLazyLoadFromSnapshot() throws Exception {
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_LOAD_CACHE_AT_START, "true");
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT_ENABLED, "true");
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_REGISTRY_DIR, "snapshot-test");
+        holder.shutdown();
+        holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info);
+        holder.shutdown();
+        File snapshot = new File(holder.getCacheDir(), ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        try {
+            holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+            Assert.assertTrue(holder.getServiceInfoMap().isEmpty());
+            ServiceInfo actual = holder.getServiceInfo("b", "a", "c");
+            Assert.assertEquals("1.1.1.1", actual.getHosts().get(0).getIp());
+            Assert.assertSame(actual, holder.getServiceInfoMap().get("a@@b@@c"));
+            holder.shutdown();
+        } finally {
+            Files.deleteIfExists(snapshot.toPath());
+        }
+    }
+    
+    @Test
+    public void testFallbackToDiskCacheIfSnapshotLocked() throws Exception {
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT_ENABLED, "true");
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_REGISTRY_DIR, "snapshot-lock-test");
+        holder.shutdown();
+        holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+        ServiceInfoHolder another = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+        File snapshot = new File(holder.getCacheDir(), ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        try {
+            Field snapshotStore = ServiceInfoHolder.class.getDeclaredField("snapshotStore");
+            snapshotStore.setAccessible(true);
+            Assert.assertNotNull(snapshotStore.get(holder));
+            Assert.assertNull(snapshotStore.get(another));
+        } finally {
+            another.shutdown();
+            holder.shutdown();
+            Files.deleteIfExists(snapshot.toPath());
+        }
+    }
+    
     @Test
     public void testIsFailoverSwitch() throws IllegalAccessException, NoSuchFieldException, NacosException {
         FailoverReactor mock = injectMockFailoverReactor();
@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ServiceInfoSnapshotStoreTest {
+    
+    private File dir;
+    
+    private ServiceInfoSnapshotStore store;
+    
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("nacos-snapshot").toFile();
+        store = new ServiceInfoSnapshotStore(dir.getPath());
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        store.shutdown();
+        File snapshot = new File(dir, ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        Files.deleteIfExists(snapshot.toPath());
+        Files.deleteIfExists(dir.toPath());
+    }
+    
+    @Test
+    public void testReadPendingWrite() {
+        ServiceInfo serviceInfo = createServiceInfo("a@@b", 1);
+        store.write(serviceInfo);
+        Assert.assertSame(serviceInfo, store.read("a@@b"));
+        Assert.assertNull(store.read("a@@c"));
+    }
+    
+    @Test
+    public void testFlushAndReopen() throws Exception {
+        store.write(createServiceInfo("a@@b", 1));
+        store.write(createServiceInfo("a@@b", 2));
+        store.write(createServiceInfo("a@@c", 3));
+        store.flush();
+        store.shutdown();
+        store = new ServiceInfoSnapshotStore(dir.getPath());
+        Assert.assertEquals(2, store.read("a@@b").getHosts().size());
+        Assert.assertEquals(3, store.read("a@@c").getHosts().size());
+    }
+    
+    @Test
+    public void testRewriteLargerServiceInfo() throws Exception {
+        store.write(createServiceInfo("a@@b", 1));
+        store.flush();
+        store.write(createServiceInfo("a@@c", 1));
+        store.write(createServiceInfo("a@@b", 100));
+        store.flush();
+        store.write(createServiceInfo("a@@d", 1));
+        store.flush();
+        store.shutdown();
+        Map<String, ServiceInfo> actual = ServiceInfoSnapshotStore
+                .readAll(new File(dir, ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME));
+        Assert.assertEquals(3, actual.size());
+        Assert.assertEquals(100, actual.get("a@@b").getHosts().size());
+        Assert.assertEquals(1, actual.get("a@@c").getHosts().size());
+        Assert.assertEquals(1, actual.get("a@@d").getHosts().size());
+    }
+    
+    @Test
+    public void testGrowSnapshotFile() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            store.write(createServiceInfo("a@@service" + i, 200));
+        }
+        store.flush();
+        store.shutdown();
+        Assert.assertTrue(new File(dir, ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME).length() > 1024 * 1024);
+        store = new ServiceInfoSnapshotStore(dir.getPath());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(200, store.read("a@@service" + i).getHosts().size());
+        }
+    }
+    
+    @Test
+    public void testRebuildUnsupportedFile() throws Exception {
+        store.shutdown();
+        File snapshot = new File(dir, ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        Files.write(snapshot.toPath(), "unsupported content".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(ServiceInfoSnapshotStore.readAll(snapshot).isEmpty());
+        store = new ServiceInfoSnapshotStore(dir.getPath());
+        Assert.assertNull(store.read("a@@b"));
+        store.write(createServiceInfo("a@@b", 1));
+        store.flush();
+        Assert.assertEquals(1, ServiceInfoSnapshotStore.readAll(snapshot).size());
+    }
+    
+    @Test
+    public void testWriteAfterShutdown() throws Exception {
+        store.shutdown();
+        store.write(createServiceInfo("a@@b", 1));
+        Assert.assertNull(store.read("a@@b"));
+    }
+    
+    @Test
+    public void testLockedByAnotherStore() throws Exception {
+        Assert.assertTrue(store.isAvailable());
+        ServiceInfoSnapshotStore another = new ServiceInfoSnapshotStore(dir.getPath());
+        Assert.assertFalse(another.isAvailable());
+        another.write(createServiceInfo("a@@b", 1));
+        Assert.assertNull(another.read("a@@b"));
+        another.shutdown();
+        store.shutdown();
+        store = new ServiceInfoSnapshotStore(dir.getPath());
+        Assert.assertTrue(store.isAvailable());
+    }
+    
+    @Test
+    public void testReadSlotOfAnotherKey() throws Exception {
+        store.write(createServiceInfo("a@@b", 1));
+        store.flush();
+        Assert.assertNotNull(store.read("a@@b"));
+        File snapshot = new File(dir, ServiceInfoSnapshotStore.SNAPSHOT_FILE_NAME);
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            // key of the first slot, after file header and slot header
+            file.seek(8 + 13);
+            file.write("a@@x".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertNull(store.read("a@@b"));
+    }
+    
+    private ServiceInfo createServiceInfo(String key, int hostCount) {
+        ServiceInfo serviceInfo = new ServiceInfo(key);
+        List<Instance> hosts = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1." + (i / 256) + "." + (i % 256));
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        return serviceInfo;
+    }
+}
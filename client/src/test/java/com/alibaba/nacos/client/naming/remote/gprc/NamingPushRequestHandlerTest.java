@@ -30,9 +30,12 @@ import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NamingPushRequestHandlerTest {
     
@@ -50,6 +53,37 @@ public class NamingPushRequestHandlerTest {
         verify(holder, times(1)).processServiceInfo(info);
     }
     
+    @Test
+    public void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        final NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        NotifySubscriberRequest req = NotifySubscriberRequest.buildNotifySubscriberRequest(info);
+        req.setRevision(2L);
+        req.setBaseRevision(1L);
+        req.setRemovedHosts(Collections.emptyList());
+        when(holder.processServiceInfoDelta(info, Collections.emptyList(), 1L, 2L)).thenReturn(true);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        Assert.assertTrue(response.isSuccess());
+        
+        when(holder.processServiceInfoDelta(info, Collections.emptyList(), 1L, 2L)).thenReturn(false);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertEquals(NotifySubscriberResponse.REVISION_GAP, response.getErrorCode());
+    }
+    
+    @Test
+    public void testRequestReplyWithRevision() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        NotifySubscriberRequest req = NotifySubscriberRequest.buildNotifySubscriberRequest(info);
+        req.setRevision(1L);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        Assert.assertTrue(response.isSuccess());
+        verify(holder).processServiceInfo(info, 1L);
+    }
+    
     @Test
     public void testRequestReplyOtherType() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
@@ -46,6 +46,8 @@ public class NotifyCenter {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
     
+    private static final String RING_BUFFER_PUBLISHER_TYPE = "ring-buffer";
+    
     public static int ringBufferSize;
     
     public static int shareBufferSize;
@@ -78,8 +80,14 @@ public class NotifyCenter {
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
+        // The type of built-in publisher when no publisher is loaded by SPI, `default` or `ring-buffer`.
+        String publisherTypeProperty = "nacos.core.notify.publisher-type";
+        String publisherType = System.getProperty(publisherTypeProperty, "default");
+        
         if (iterator.hasNext()) {
             clazz = iterator.next().getClass();
+        } else if (RING_BUFFER_PUBLISHER_TYPE.equalsIgnoreCase(publisherType)) {
+            clazz = RingBufferPublisher.class;
         } else {
             clazz = DefaultPublisher.class;
         }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher backed by a pre-allocated lock-free ring buffer with multiple producers and single consumer.
+ *
+ * <p>Producers claim slots by CAS on the producer sequence without any lock, the consumer thread drains published
+ * events in batches of at most {@value #MAX_BATCH_SIZE} and releases the slots of a batch with one update of the
+ * consumer sequence. When the ring buffer is empty, the consumer waits with the {@link WaitStrategy} configured by
+ * {@code nacos.core.notify.ring-buffer-wait-strategy}. Same as {@link DefaultPublisher}, the event will be handled
+ * synchronously by the publishing thread when the ring buffer is full.
+ *
+ * @author agent
+ */
+public class RingBufferPublisher extends Thread implements EventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String WAIT_STRATEGY_PROPERTY = "nacos.core.notify.ring-buffer-wait-strategy";
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 200;
+    
+    private static final long SLEEP_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private static final int MAX_BATCH_SIZE = 128;
+    
+    /**
+     * Factory to register event type to a ring buffer publisher by
+     * {@link NotifyCenter#registerToPublisher(Class, EventPublisherFactory, int)}.
+     */
+    public static final EventPublisherFactory FACTORY = (eventType, maxQueueSize) -> {
+        RingBufferPublisher result = new RingBufferPublisher();
+        result.init(eventType, maxQueueSize);
+        return result;
+    };
+    
+    private final ConcurrentHashSet<Subscriber> subscribers = new ConcurrentHashSet<>();
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private volatile long lastEventSequence = -1L;
+    
+    private volatile boolean consumerWaiting = false;
+    
+    private WaitStrategy waitStrategy;
+    
+    private int mask;
+    
+    private AtomicReferenceArray<Event> entries;
+    
+    /**
+     * The last sequence claimed by producers.
+     */
+    private final AtomicLong producerSequence = new AtomicLong(-1L);
+    
+    /**
+     * The last sequence handled by consumer.
+     */
+    private final AtomicLong consumerSequence = new AtomicLong(-1L);
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        setName("nacos.ring-buffer-publisher-" + type.getName());
+        int capacity = tableSizeFor(bufferSize == -1 ? ringBufferSize : bufferSize);
+        this.mask = capacity - 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.waitStrategy = WaitStrategy.of(System.getProperty(WAIT_STRATEGY_PROPERTY));
+        start();
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (!initialized) {
+            // start just called once
+            super.start();
+            initialized = true;
+        }
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return producerSequence.get() - consumerSequence.get();
+    }
+    
+    @Override
+    public void run() {
+        try {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            int waitTimes = 60;
+            while (!shutdown && CollectionUtils.isEmpty(subscribers) && waitTimes > 0) {
+                ThreadUtils.sleep(1000L);
+                waitTimes--;
+            }
+            long nextSequence = consumerSequence.get() + 1;
+            int idleCounter = 0;
+            while (!shutdown) {
+                long endSequence = Math.min(producerSequence.get(), nextSequence + MAX_BATCH_SIZE - 1);
+                long startSequence = nextSequence;
+                while (nextSequence <= endSequence) {
+                    int index = (int) nextSequence & mask;
+                    Event event = entries.get(index);
+                    if (event == null) {
+                        // The slot is claimed but the event is not set yet.
+                        break;
+                    }
+                    entries.lazySet(index, null);
+                    nextSequence++;
+                    receiveEvent(event);
+                    lastEventSequence = Math.max(lastEventSequence, event.sequence());
+                }
+                if (nextSequence > startSequence) {
+                    // Release all slots of the batch at once.
+                    consumerSequence.lazySet(nextSequence - 1);
+                    idleCounter = 0;
+                } else {
+                    idleCounter = waitStrategy.idle(this, nextSequence, idleCounter);
+                }
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+        if (!tryPublish(event)) {
+            LOGGER.warn("Unable to plug in due to ring buffer full, synchronize sending time, event : {}", event);
+            receiveEvent(event);
+        }
+        return true;
+    }
+    
+    private boolean tryPublish(Event event) {
+        long current;
+        long next;
+        do {
+            current = producerSequence.get();
+            next = current + 1;
+            if (next - entries.length() > consumerSequence.get()) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(current, next));
+        entries.set((int) next & mask, event);
+        if (consumerWaiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    private void receiveEvent(Event event) {
+        if (CollectionUtils.isEmpty(subscribers)) {
+            LOGGER.warn("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            // Whether to ignore expiration events
+            if (subscriber.ignoreExpireEvent() && lastEventSequence > event.sequence()) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(final Subscriber subscriber, final Event event) {
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    private boolean isAvailable(long sequence) {
+        return entries.get((int) sequence & mask) != null;
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        LockSupport.unpark(this);
+    }
+    
+    private static int tableSizeFor(int size) {
+        int result = 1;
+        while (result < size) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Strategy for consumer to wait when there is no published event in ring buffer.
+     */
+    public enum WaitStrategy {
+        
+        /**
+         * Park consumer until producers publish new events, lowest CPU usage.
+         */
+        BLOCKING {
+            @Override
+            int idle(RingBufferPublisher publisher, long nextSequence, int counter) {
+                publisher.consumerWaiting = true;
+                if (!publisher.isAvailable(nextSequence)) {
+                    LockSupport.parkNanos(publisher, MAX_PARK_NANOS);
+                }
+                publisher.consumerWaiting = false;
+                return counter;
+            }
+        },
+        
+        /**
+         * Spin, then yield, then park for a short time, balanced between latency and CPU usage.
+         */
+        SLEEPING {
+            @Override
+            int idle(RingBufferPublisher publisher, long nextSequence, int counter) {
+                if (counter < SPIN_TRIES) {
+                    return counter + 1;
+                }
+                if (counter < YIELD_TRIES) {
+                    Thread.yield();
+                    return counter + 1;
+                }
+                LockSupport.parkNanos(publisher, SLEEP_PARK_NANOS);
+                return counter;
+            }
+        },
+        
+        /**
+         * Spin, then yield, low latency but keep one CPU busy.
+         */
+        YIELDING {
+            @Override
+            int idle(RingBufferPublisher publisher, long nextSequence, int counter) {
+                if (counter < SPIN_TRIES) {
+                    return counter + 1;
+                }
+                Thread.yield();
+                return counter;
+            }
+        },
+        
+        /**
+         * Busy spin, lowest latency but keep one CPU fully busy.
+         */
+        BUSY_SPIN {
+            @Override
+            int idle(RingBufferPublisher publisher, long nextSequence, int counter) {
+                return counter;
+            }
+        };
+        
+        /**
+         * Wait for one round when no event is available.
+         *
+         * @param publisher    ring buffer publisher
+         * @param nextSequence next sequence to consume
+         * @param counter      idle counter since last consumed event
+         * @return new idle counter
+         */
+        abstract int idle(RingBufferPublisher publisher, long nextSequence, int counter);
+        
+        /**
+         * Get wait strategy by name, default {@link #BLOCKING}.
+         *
+         * @param name name of wait strategy, ignore case
+         * @return wait strategy
+         */
+        public static WaitStrategy of(String name) {
+            for (WaitStrategy each : values()) {
+                if (each.name().replace("_", "-").equalsIgnoreCase(name) || each.name().equalsIgnoreCase(name)) {
+                    return each;
+                }
+            }
+            return BLOCKING;
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package com.alibaba.nacos.common.remote.client.grpc;
 
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -24,14 +26,20 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.UnsafeByteOperations;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +51,19 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    /**
+     * Type url of payload body encoded by binary {@link PayloadCodec}, payload body encoded by json has no type url.
+     */
+    public static final String BINARY_BODY_TYPE_URL = "nacos/binary/v1";
+    
+    /**
+     * Max capacity of the thread local buffer retained after encoding, larger buffer will be released to avoid holding
+     * too much memory by idle threads.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    
+    private static final ThreadLocal<PayloadBuffer> PAYLOAD_BUFFER = ThreadLocal.withInitial(PayloadBuffer::new);
+    
     /**
      * convert request to payload.
      *
@@ -61,8 +82,7 @@ public class GrpcUtils {
         payloadBuilder.setMetadata(metaBuilder.build());
         
         // request body .
-        byte[] jsonBytes = convertRequestToByte(request);
-        return payloadBuilder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes))).build();
+        return payloadBuilder.setBody(Any.newBuilder().setValue(convertRequestToByteString(request))).build();
         
     }
     
@@ -77,13 +97,56 @@ public class GrpcUtils {
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        ByteString body = convertRequestToByteString(request);
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
+        return builder.setBody(Any.newBuilder().setValue(body)).setMetadata(newMeta).build();
+        
+    }
+    
+    /**
+     * convert request to payload, encode body by binary codec if the peer supports and the request type has codec.
+     *
+     * @param request         request.
+     * @param binarySupported whether the peer supports binary payload body.
+     * @return payload.
+     */
+    @SuppressWarnings("unchecked")
+    public static Payload convert(Request request, boolean binarySupported) {
+        PayloadCodec<Request> codec =
+                binarySupported ? (PayloadCodec<Request>) PayloadCodecRegistry.getCodec(request.getClass()) : null;
+        if (null == codec) {
+            return convert(request);
+        }
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        ByteString body = toBinaryByteString(request, codec);
+        return Payload.newBuilder().setBody(Any.newBuilder().setTypeUrl(BINARY_BODY_TYPE_URL).setValue(body))
                 .setMetadata(newMeta).build();
+    }
+    
+    /**
+     * convert request to payload with a body pre-encoded by {@link #convertRequestToSharedBody(Request)}.
+     *
+     * <p>The shared body is encoded without request id, only the request id of current request will be spliced into
+     * it, so that the same body can be reused by multiple connections without serializing again.
+     *
+     * @param request    request.
+     * @param sharedBody body pre-encoded without request id.
+     * @return payload.
+     */
+    public static Payload convert(Request request, byte[] sharedBody) {
         
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        
+        byte[] jsonBytes = spliceRequestId(request.getRequestId(), sharedBody);
+        
+        Payload.Builder builder = Payload.newBuilder();
+        
+        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
+                .setMetadata(newMeta).build();
     }
     
     /**
@@ -93,11 +156,43 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+        ByteString body = toByteString(response);
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(Any.newBuilder().setValue(body)).setMetadata(metaBuilder.build()).build();
+    }
+    
+    /**
+     * convert request to json body without request id and headers, which can be shared by multiple connections.
+     *
+     * @param request request.
+     * @return json body without request id.
+     */
+    public static byte[] convertRequestToSharedBody(Request request) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return convertRequestToByte(request);
+        } finally {
+            request.setRequestId(requestId);
+        }
+    }
+    
+    private static byte[] spliceRequestId(String requestId, byte[] sharedBody) {
+        if (null == requestId) {
+            return sharedBody;
+        }
+        byte[] requestIdField = ("\"requestId\":" + JacksonUtils.toJson(requestId)).getBytes(StandardCharsets.UTF_8);
+        boolean emptyBody = sharedBody.length <= 2;
+        byte[] result = new byte[sharedBody.length + requestIdField.length + (emptyBody ? 0 : 1)];
+        result[0] = '{';
+        System.arraycopy(requestIdField, 0, result, 1, requestIdField.length);
+        int pos = requestIdField.length + 1;
+        if (!emptyBody) {
+            result[pos++] = ',';
+        }
+        System.arraycopy(sharedBody, 1, result, pos, sharedBody.length - 1);
+        return result;
     }
     
     private static byte[] convertRequestToByte(Request request) {
@@ -108,6 +203,55 @@ public class GrpcUtils {
         return jsonBytes;
     }
     
+    private static ByteString convertRequestToByteString(Request request) {
+        Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
+        request.clearHeaders();
+        try {
+            return toByteString(request);
+        } finally {
+            request.putAllHeader(requestHeaders);
+        }
+    }
+    
+    /**
+     * Serialize object into the thread local buffer and copy it into a right-sized {@link ByteString} once, so that
+     * the growing buffers and the intermediate byte array of {@link JacksonUtils#toJsonBytes(Object)} are avoided.
+     *
+     * @param obj object to serialize
+     * @return json bytes
+     */
+    static ByteString toByteString(Object obj) {
+        PayloadBuffer buffer = PAYLOAD_BUFFER.get();
+        try {
+            JacksonUtils.toJsonBytes(obj, buffer);
+            return buffer.toByteString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+    
+    private static <T> ByteString toBinaryByteString(T obj, PayloadCodec<T> codec) {
+        PayloadBuffer buffer = PAYLOAD_BUFFER.get();
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            codec.encode(obj, output);
+            output.flush();
+            return buffer.toByteString();
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+    
+    private static void releaseBuffer(PayloadBuffer buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            PAYLOAD_BUFFER.remove();
+        } else {
+            buffer.reset();
+        }
+    }
+    
     /**
      * parse payload to request/response model.
      *
@@ -118,8 +262,13 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj;
+            if (BINARY_BODY_TYPE_URL.equals(payload.getBody().getTypeUrl())) {
+                obj = parseBinary(byteString, classType);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -129,4 +278,34 @@ public class GrpcUtils {
                     "Unknown payload type:" + payload.getMetadata().getType());
         }
     }
+    
+    private static Object parseBinary(ByteString byteString, Class<?> classType) {
+        PayloadCodec<?> codec = PayloadCodecRegistry.getCodec(classType);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR,
+                    "No binary codec for payload type:" + classType.getSimpleName());
+        }
+        try {
+            return codec.decode(byteString.newCodedInput());
+        } catch (IOException e) {
+            throw new NacosDeserializationException(classType, e);
+        }
+    }
+    
+    private static class PayloadBuffer extends ByteArrayOutputStream {
+        
+        private static final int INITIAL_CAPACITY = 4 * 1024;
+        
+        PayloadBuffer() {
+            super(INITIAL_CAPACITY);
+        }
+        
+        int capacity() {
+            return buf.length;
+        }
+        
+        ByteString toByteString() {
+            return ByteString.copyFrom(buf, 0, count);
+        }
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract payload codec, provides methods to encode and decode nullable values and common models.
+ *
+ * <p>Nullable values are prefixed by a presence flag, the absent values are not set when decoding so that the default
+ * values of model are kept, which is the same as json serialization with {@code NON_NULL} inclusion.
+ *
+ * @param <T> type of payload
+ * @author agent
+ */
+public abstract class AbstractPayloadCodec<T> implements PayloadCodec<T> {
+    
+    protected static final int NULL_SIZE = -1;
+    
+    /**
+     * Max initial capacity of decoded collections, avoid allocating huge memory by malformed size.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    
+    protected static void writeString(CodedOutputStream output, String value) throws IOException {
+        output.writeBoolNoTag(null != value);
+        if (null != value) {
+            output.writeStringNoTag(value);
+        }
+    }
+    
+    protected static String readString(CodedInputStream input) throws IOException {
+        return input.readBool() ? input.readString() : null;
+    }
+    
+    protected static void writeLong(CodedOutputStream output, Long value) throws IOException {
+        output.writeBoolNoTag(null != value);
+        if (null != value) {
+            output.writeInt64NoTag(value);
+        }
+    }
+    
+    protected static Long readLong(CodedInputStream input) throws IOException {
+        return input.readBool() ? input.readInt64() : null;
+    }
+    
+    /**
+     * Write size of collection or map, {@code -1} means null.
+     *
+     * @param output output
+     * @param size   size, {@code -1} if null
+     * @throws IOException when write failed
+     */
+    protected static void writeSize(CodedOutputStream output, int size) throws IOException {
+        output.writeSInt32NoTag(size);
+    }
+    
+    /**
+     * Read size of collection or map.
+     *
+     * @param input input
+     * @return size, {@code -1} if null
+     * @throws IOException when read failed or size is illegal
+     */
+    protected static int readSize(CodedInputStream input) throws IOException {
+        int size = input.readSInt32();
+        if (size < NULL_SIZE) {
+            throw new IOException("Illegal size " + size + " in binary payload");
+        }
+        return size;
+    }
+    
+    /**
+     * Write string map.
+     *
+     * @param output output
+     * @param map    string map, nullable
+     * @throws IOException when write failed
+     */
+    protected static void writeStringMap(CodedOutputStream output, Map<String, String> map) throws IOException {
+        if (null == map) {
+            writeSize(output, NULL_SIZE);
+            return;
+        }
+        writeSize(output, map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+    
+    /**
+     * Read string map.
+     *
+     * @param input input
+     * @return string map, null if absent
+     * @throws IOException when read failed
+     */
+    protected static Map<String, String> readStringMap(CodedInputStream input) throws IOException {
+        int size = readSize(input);
+        if (NULL_SIZE == size) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(Math.min(size, MAX_INITIAL_CAPACITY) * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            result.put(readString(input), readString(input));
+        }
+        return result;
+    }
+    
+    /**
+     * Write instance.
+     *
+     * @param output   output
+     * @param instance instance, nullable
+     * @throws IOException when write failed
+     */
+    protected static void writeInstance(CodedOutputStream output, Instance instance) throws IOException {
+        output.writeBoolNoTag(null != instance);
+        if (null == instance) {
+            return;
+        }
+        writeString(output, instance.getInstanceId());
+        writeString(output, instance.getIp());
+        output.writeInt32NoTag(instance.getPort());
+        output.writeDoubleNoTag(instance.getWeight());
+        output.writeBoolNoTag(instance.isHealthy());
+        output.writeBoolNoTag(instance.isEnabled());
+        output.writeBoolNoTag(instance.isEphemeral());
+        writeString(output, instance.getClusterName());
+        writeString(output, instance.getServiceName());
+        writeStringMap(output, instance.getMetadata());
+    }
+    
+    /**
+     * Read instance.
+     *
+     * @param input input
+     * @return instance, null if absent
+     * @throws IOException when read failed
+     */
+    protected static Instance readInstance(CodedInputStream input) throws IOException {
+        if (!input.readBool()) {
+            return null;
+        }
+        Instance instance = new Instance();
+        instance.setInstanceId(readString(input));
+        instance.setIp(readString(input));
+        instance.setPort(input.readInt32());
+        instance.setWeight(input.readDouble());
+        instance.setHealthy(input.readBool());
+        instance.setEnabled(input.readBool());
+        instance.setEphemeral(input.readBool());
+        instance.setClusterName(readString(input));
+        instance.setServiceName(readString(input));
+        Map<String, String> metadata = readStringMap(input);
+        if (null != metadata) {
+            instance.setMetadata(metadata);
+        }
+        return instance;
+    }
+    
+    /**
+     * Write instance list.
+     *
+     * @param output    output
+     * @param instances instance list, nullable
+     * @throws IOException when write failed
+     */
+    protected static void writeInstances(CodedOutputStream output, List<Instance> instances) throws IOException {
+        if (null == instances) {
+            writeSize(output, NULL_SIZE);
+            return;
+        }
+        writeSize(output, instances.size());
+        for (Instance each : instances) {
+            writeInstance(output, each);
+        }
+    }
+    
+    /**
+     * Read instance list.
+     *
+     * @param input input
+     * @return instance list, null if absent
+     * @throws IOException when read failed
+     */
+    protected static List<Instance> readInstances(CodedInputStream input) throws IOException {
+        int size = readSize(input);
+        if (NULL_SIZE == size) {
+            return null;
+        }
+        List<Instance> result = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            result.add(readInstance(input));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest.ConfigListenContext;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Binary codec for {@link ConfigBatchListenRequest}.
+ *
+ * @author agent
+ */
+public class ConfigBatchListenRequestCodec extends AbstractPayloadCodec<ConfigBatchListenRequest> {
+    
+    @Override
+    public Class<ConfigBatchListenRequest> getPayloadType() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    public void encode(ConfigBatchListenRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getRequestId());
+        writeString(output, payload.getDataId());
+        writeString(output, payload.getGroup());
+        writeString(output, payload.getTenant());
+        output.writeBoolNoTag(payload.isListen());
+        List<ConfigListenContext> contexts = payload.getConfigListenContexts();
+        if (null == contexts) {
+            writeSize(output, NULL_SIZE);
+            return;
+        }
+        writeSize(output, contexts.size());
+        for (ConfigListenContext each : contexts) {
+            writeString(output, each.getGroup());
+            writeString(output, each.getMd5());
+            writeString(output, each.getDataId());
+            writeString(output, each.getTenant());
+        }
+    }
+    
+    @Override
+    public ConfigBatchListenRequest decode(CodedInputStream input) throws IOException {
+        ConfigBatchListenRequest result = new ConfigBatchListenRequest();
+        result.setRequestId(readString(input));
+        result.setDataId(readString(input));
+        result.setGroup(readString(input));
+        result.setTenant(readString(input));
+        result.setListen(input.readBool());
+        int size = readSize(input);
+        for (int i = 0; i < size; i++) {
+            ConfigListenContext context = new ConfigListenContext();
+            context.setGroup(readString(input));
+            context.setMd5(readString(input));
+            context.setDataId(readString(input));
+            context.setTenant(readString(input));
+            result.getConfigListenContexts().add(context);
+        }
+        return result;
+    }
+}
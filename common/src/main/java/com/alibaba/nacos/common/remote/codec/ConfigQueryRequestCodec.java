@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link ConfigQueryRequest}.
+ *
+ * @author agent
+ */
+public class ConfigQueryRequestCodec extends AbstractPayloadCodec<ConfigQueryRequest> {
+    
+    @Override
+    public Class<ConfigQueryRequest> getPayloadType() {
+        return ConfigQueryRequest.class;
+    }
+    
+    @Override
+    public void encode(ConfigQueryRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getRequestId());
+        writeString(output, payload.getDataId());
+        writeString(output, payload.getGroup());
+        writeString(output, payload.getTenant());
+        writeString(output, payload.getTag());
+    }
+    
+    @Override
+    public ConfigQueryRequest decode(CodedInputStream input) throws IOException {
+        ConfigQueryRequest result = new ConfigQueryRequest();
+        result.setRequestId(readString(input));
+        result.setDataId(readString(input));
+        result.setGroup(readString(input));
+        result.setTenant(readString(input));
+        result.setTag(readString(input));
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link InstanceRequest}.
+ *
+ * @author agent
+ */
+public class InstanceRequestCodec extends AbstractPayloadCodec<InstanceRequest> {
+    
+    @Override
+    public Class<InstanceRequest> getPayloadType() {
+        return InstanceRequest.class;
+    }
+    
+    @Override
+    public void encode(InstanceRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getRequestId());
+        writeString(output, payload.getNamespace());
+        writeString(output, payload.getServiceName());
+        writeString(output, payload.getGroupName());
+        writeString(output, payload.getType());
+        writeInstance(output, payload.getInstance());
+    }
+    
+    @Override
+    public InstanceRequest decode(CodedInputStream input) throws IOException {
+        InstanceRequest result = new InstanceRequest();
+        result.setRequestId(readString(input));
+        result.setNamespace(readString(input));
+        result.setServiceName(readString(input));
+        result.setGroupName(readString(input));
+        result.setType(readString(input));
+        result.setInstance(readInstance(input));
+        return result;
+    }
+}
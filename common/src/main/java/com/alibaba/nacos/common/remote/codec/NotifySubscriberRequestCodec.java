@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Binary codec for {@link NotifySubscriberRequest}.
+ *
+ * @author agent
+ */
+public class NotifySubscriberRequestCodec extends AbstractPayloadCodec<NotifySubscriberRequest> {
+    
+    @Override
+    public Class<NotifySubscriberRequest> getPayloadType() {
+        return NotifySubscriberRequest.class;
+    }
+    
+    @Override
+    public void encode(NotifySubscriberRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getRequestId());
+        writeString(output, payload.getNamespace());
+        writeString(output, payload.getServiceName());
+        writeString(output, payload.getGroupName());
+        writeServiceInfo(output, payload.getServiceInfo());
+        writeLong(output, payload.getRevision());
+        writeLong(output, payload.getBaseRevision());
+        writeInstances(output, payload.getRemovedHosts());
+    }
+    
+    @Override
+    public NotifySubscriberRequest decode(CodedInputStream input) throws IOException {
+        NotifySubscriberRequest result = new NotifySubscriberRequest();
+        result.setRequestId(readString(input));
+        result.setNamespace(readString(input));
+        result.setServiceName(readString(input));
+        result.setGroupName(readString(input));
+        result.setServiceInfo(readServiceInfo(input));
+        result.setRevision(readLong(input));
+        result.setBaseRevision(readLong(input));
+        result.setRemovedHosts(readInstances(input));
+        return result;
+    }
+    
+    private void writeServiceInfo(CodedOutputStream output, ServiceInfo serviceInfo) throws IOException {
+        output.writeBoolNoTag(null != serviceInfo);
+        if (null == serviceInfo) {
+            return;
+        }
+        writeString(output, serviceInfo.getName());
+        writeString(output, serviceInfo.getGroupName());
+        writeString(output, serviceInfo.getClusters());
+        output.writeInt64NoTag(serviceInfo.getCacheMillis());
+        writeInstances(output, serviceInfo.getHosts());
+        output.writeInt64NoTag(serviceInfo.getLastRefTime());
+        writeString(output, serviceInfo.getChecksum());
+        output.writeBoolNoTag(serviceInfo.isAllIPs());
+        output.writeBoolNoTag(serviceInfo.isReachProtectionThreshold());
+    }
+    
+    private ServiceInfo readServiceInfo(CodedInputStream input) throws IOException {
+        if (!input.readBool()) {
+            return null;
+        }
+        ServiceInfo result = new ServiceInfo();
+        result.setName(readString(input));
+        result.setGroupName(readString(input));
+        result.setClusters(readString(input));
+        result.setCacheMillis(input.readInt64());
+        List<Instance> hosts = readInstances(input);
+        if (null != hosts) {
+            result.setHosts(hosts);
+        }
+        result.setLastRefTime(input.readInt64());
+        String checksum = readString(input);
+        if (null != checksum) {
+            result.setChecksum(checksum);
+        }
+        result.setAllIPs(input.readBool());
+        result.setReachProtectionThreshold(input.readBool());
+        return result;
+    }
+}
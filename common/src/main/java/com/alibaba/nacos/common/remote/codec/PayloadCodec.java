@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Codec to encode and decode payload body by compact binary format, which avoids the reflection of json serialization
+ * for hot requests.
+ *
+ * <p>The binary format only contains values of fields in fixed order, so both sides must use the same codec version,
+ * which is negotiated by ability {@code supportBinaryPayload}. Headers of request are transferred by metadata of
+ * payload, so codec should not encode them.
+ *
+ * @param <T> type of payload
+ * @author agent
+ */
+public interface PayloadCodec<T> {
+    
+    /**
+     * Get the type of payload which this codec can encode and decode.
+     *
+     * @return class of payload
+     */
+    Class<T> getPayloadType();
+    
+    /**
+     * Encode payload into output.
+     *
+     * @param payload payload to encode
+     * @param output  output to write binary data
+     * @throws IOException when write failed
+     */
+    void encode(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode payload from input.
+     *
+     * @param input input to read binary data
+     * @return payload
+     * @throws IOException when read failed or data is malformed
+     */
+    T decode(CodedInputStream input) throws IOException;
+}
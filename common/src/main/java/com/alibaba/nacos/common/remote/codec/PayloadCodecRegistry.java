@@ -0,0 +1,53 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of binary payload codecs, only the hot requests have binary codec, others are still encoded by json.
+ *
+ * @author agent
+ */
+public class PayloadCodecRegistry {
+    
+    private static final Map<Class<?>, PayloadCodec<?>> CODECS = new HashMap<>();
+    
+    static {
+        register(new ConfigQueryRequestCodec());
+        register(new ConfigBatchListenRequestCodec());
+        register(new InstanceRequestCodec());
+        register(new NotifySubscriberRequestCodec());
+    }
+    
+    private static void register(PayloadCodec<?> codec) {
+        CODECS.put(codec.getPayloadType(), codec);
+    }
+    
+    /**
+     * Get binary codec of payload type.
+     *
+     * @param payloadType class of payload
+     * @param <T>         type of payload
+     * @return binary codec, or {@code null} if the payload type should be encoded by json
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PayloadCodec<T> getCodec(Class<T> payloadType) {
+        return (PayloadCodec<T>) CODECS.get(payloadType);
+    }
+}
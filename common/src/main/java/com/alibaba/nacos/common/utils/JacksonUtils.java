@@ -31,6 +31,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 
 /**
@@ -80,6 +81,21 @@ public final class JacksonUtils {
         }
     }
     
+    /**
+     * Object to json string and write into output stream.
+     *
+     * @param obj obj
+     * @param out output stream to write json bytes
+     * @throws NacosSerializationException if transfer failed
+     */
+    public static void toJsonBytes(Object obj, OutputStream out) {
+        try {
+            mapper.writeValue(out, obj);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
     /**
      * Json string deserialize to Object.
      *
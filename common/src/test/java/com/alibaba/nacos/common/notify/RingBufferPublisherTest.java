@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @Mock
+    private Subscriber<MockEvent> subscriber;
+    
+    @Before
+    public void setUp() throws Exception {
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, 1);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        publisher.shutdown();
+    }
+    
+    @Test
+    public void testInitWithIllegalSize() {
+        publisher.shutdown();
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, -1);
+        assertTrue(publisher.isInitialized());
+    }
+    
+    @Test
+    public void testCurrentEventSize() {
+        assertEquals(0, publisher.currentEventSize());
+        publisher.publish(new MockEvent());
+        assertEquals(1, publisher.currentEventSize());
+    }
+    
+    @Test
+    public void publishEventWhenRingBufferFull() {
+        publisher.shutdown();
+        when(subscriber.scopeMatches(any(MockEvent.class))).thenReturn(true);
+        publisher.addSubscriber(subscriber);
+        publisher.publish(new MockEvent());
+        verify(subscriber, never()).onEvent(any(MockEvent.class));
+        publisher.publish(new MockEvent());
+        verify(subscriber).onEvent(any(MockEvent.class));
+        assertEquals(1, publisher.currentEventSize());
+    }
+    
+    @Test
+    public void testMultiProducerWithAllWaitStrategies() throws InterruptedException {
+        for (RingBufferPublisher.WaitStrategy each : RingBufferPublisher.WaitStrategy.values()) {
+            System.setProperty("nacos.core.notify.ring-buffer-wait-strategy", each.name());
+            try {
+                assertAllEventsReceived();
+            } finally {
+                System.clearProperty("nacos.core.notify.ring-buffer-wait-strategy");
+            }
+        }
+    }
+    
+    private void assertAllEventsReceived() throws InterruptedException {
+        final int producers = 4;
+        final int eventsPerProducer = 10000;
+        AtomicInteger received = new AtomicInteger();
+        RingBufferPublisher ringBufferPublisher = new RingBufferPublisher();
+        ringBufferPublisher.addSubscriber(new Subscriber<MockEvent>() {
+            @Override
+            public void onEvent(MockEvent event) {
+                received.incrementAndGet();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return MockEvent.class;
+            }
+        });
+        ringBufferPublisher.init(MockEvent.class, 64);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int i = 0; i < producers; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < eventsPerProducer; j++) {
+                    ringBufferPublisher.publish(new MockEvent());
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (received.get() < producers * eventsPerProducer && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        ringBufferPublisher.shutdown();
+        assertEquals(producers * eventsPerProducer, received.get());
+        assertEquals(0, ringBufferPublisher.currentEventSize());
+    }
+    
+    @Test
+    public void testDrainEventsInBatchesInOrder() throws InterruptedException {
+        final int events = 1000;
+        List<Long> received = new CopyOnWriteArrayList<>();
+        RingBufferPublisher ringBufferPublisher = new RingBufferPublisher();
+        ringBufferPublisher.addSubscriber(new Subscriber<MockEvent>() {
+            @Override
+            public void onEvent(MockEvent event) {
+                received.add(event.sequence());
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return MockEvent.class;
+            }
+        });
+        List<Long> expected = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            MockEvent event = new MockEvent();
+            expected.add(event.sequence());
+            if (i == 0) {
+                ringBufferPublisher.init(MockEvent.class, events);
+            }
+            ringBufferPublisher.publish(event);
+        }
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (received.size() < events && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        ringBufferPublisher.shutdown();
+        assertEquals(expected, received);
+        assertEquals(0, ringBufferPublisher.currentEventSize());
+    }
+    
+    @Test
+    public void testWaitStrategyOf() {
+        assertEquals(RingBufferPublisher.WaitStrategy.BUSY_SPIN, RingBufferPublisher.WaitStrategy.of("busy-spin"));
+        assertEquals(RingBufferPublisher.WaitStrategy.YIELDING, RingBufferPublisher.WaitStrategy.of("YIELDING"));
+        assertEquals(RingBufferPublisher.WaitStrategy.BLOCKING, RingBufferPublisher.WaitStrategy.of(null));
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 2756713410585286574L;
+    }
+}
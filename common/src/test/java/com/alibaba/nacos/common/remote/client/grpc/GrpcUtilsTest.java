@@ -21,6 +21,8 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
@@ -113,6 +115,62 @@ public class GrpcUtilsTest {
         
     }
     
+    @Test
+    public void testConvertLargeResponse() {
+        StringBuilder largeValue = new StringBuilder();
+        for (int i = 0; i < 200 * 1024; i++) {
+            largeValue.append((char) ('a' + i % 26));
+        }
+        response.getMetrics().put("large", largeValue.toString());
+        ClientConfigMetricResponse actual = (ClientConfigMetricResponse) GrpcUtils.parse(GrpcUtils.convert(response));
+        assertEquals(response.getMetrics(), actual.getMetrics());
+        // buffer should be released or reset after large payload, small payload should not be polluted.
+        Payload requestPayload = GrpcUtils.convert(request);
+        ServiceQueryRequest actualRequest = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(request.getCluster(), actualRequest.getCluster());
+        assertEquals(request.getHeaders(), actualRequest.getHeaders());
+    }
+    
+    @Test
+    public void testConvertRequestByBinary() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        InstanceRequest instanceRequest = new InstanceRequest("namespace", "service", "group", "registerInstance",
+                instance);
+        instanceRequest.putHeader("h1", "v1");
+        Payload convert = GrpcUtils.convert(instanceRequest, true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, convert.getBody().getTypeUrl());
+        assertEquals("v1", convert.getMetadata().getHeadersMap().get("h1"));
+        InstanceRequest actual = (InstanceRequest) GrpcUtils.parse(convert);
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals(instanceRequest.getServiceName(), actual.getServiceName());
+        assertEquals(instance, actual.getInstance());
+        
+        // not supported by peer.
+        assertEquals("", GrpcUtils.convert(instanceRequest, false).getBody().getTypeUrl());
+        // no binary codec for request type.
+        assertEquals("", GrpcUtils.convert(request, true).getBody().getTypeUrl());
+    }
+    
+    @Test
+    public void testConvertRequestWithSharedBody() {
+        request.setRequestId("1");
+        final byte[] sharedBody = GrpcUtils.convertRequestToSharedBody(request);
+        assertEquals("1", request.getRequestId());
+        assertEquals("v1", request.getHeader("h1"));
+        
+        request.setRequestId("2");
+        Payload convert = GrpcUtils.convert(request, sharedBody);
+        assertEquals(request.getClass().getSimpleName(), convert.getMetadata().getType());
+        assertEquals("v1", convert.getMetadata().getHeadersMap().get("h1"));
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(convert);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(request.getCluster(), actual.getCluster());
+        assertEquals(request.isHealthyOnly(), actual.isHealthyOnly());
+        assertEquals(request.getNamespace(), actual.getNamespace());
+    }
+    
     @Test(expected = RemoteException.class)
     public void testParseNullType() {
         Payload mockPayload = mock(Payload.class);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigBatchListenRequestCodecTest {
+    
+    private final ConfigBatchListenRequestCodec codec = new ConfigBatchListenRequestCodec();
+    
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setRequestId("1");
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId1", "tenant", "md5");
+        request.addConfigListenContext("group", "dataId2", null, "md5");
+        ConfigBatchListenRequest actual = encodeAndDecode(request);
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    public void testEncodeAndDecodeWithNullContexts() throws IOException {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setConfigListenContexts(null);
+        ConfigBatchListenRequest actual = encodeAndDecode(request);
+        assertTrue(actual.isListen());
+        assertTrue(actual.getConfigListenContexts().isEmpty());
+    }
+    
+    private ConfigBatchListenRequest encodeAndDecode(ConfigBatchListenRequest request) throws IOException {
+        ByteString.Output out = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        codec.encode(request, output);
+        output.flush();
+        return codec.decode(out.toByteString().newCodedInput());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConfigQueryRequestCodecTest {
+    
+    private final ConfigQueryRequestCodec codec = new ConfigQueryRequestCodec();
+    
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", null);
+        request.setRequestId("1");
+        request.setTag("tag");
+        ConfigQueryRequest actual = encodeAndDecode(request);
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    private ConfigQueryRequest encodeAndDecode(ConfigQueryRequest request) throws IOException {
+        ByteString.Output out = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        codec.encode(request, output);
+        output.flush();
+        return codec.decode(out.toByteString().newCodedInput());
+    }
+}
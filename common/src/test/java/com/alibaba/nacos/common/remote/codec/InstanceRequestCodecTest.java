@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class InstanceRequestCodecTest {
+    
+    private final InstanceRequestCodec codec = new InstanceRequestCodec();
+    
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(2.5D);
+        instance.setHealthy(false);
+        instance.setEphemeral(false);
+        instance.setClusterName("cluster");
+        instance.addMetadata("key", "value");
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "registerInstance", instance);
+        request.setRequestId("1");
+        InstanceRequest actual = encodeAndDecode(request);
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    public void testEncodeAndDecodeWithoutInstance() throws IOException {
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "registerInstance", null);
+        InstanceRequest actual = encodeAndDecode(request);
+        assertNull(actual.getInstance());
+        assertNull(actual.getRequestId());
+        assertEquals("service", actual.getServiceName());
+    }
+    
+    private InstanceRequest encodeAndDecode(InstanceRequest request) throws IOException {
+        ByteString.Output out = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        codec.encode(request, output);
+        output.flush();
+        return codec.decode(out.toByteString().newCodedInput());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NotifySubscriberRequestCodecTest {
+    
+    private final NotifySubscriberRequestCodec codec = new NotifySubscriberRequestCodec();
+    
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service", "cluster");
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setReachProtectionThreshold(true);
+        serviceInfo.addHost(buildInstance("1.1.1.1"));
+        serviceInfo.addHost(buildInstance("2.2.2.2"));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("1");
+        request.setNamespace("namespace");
+        request.setRevision(2L);
+        request.setBaseRevision(1L);
+        request.setRemovedHosts(Collections.singletonList(buildInstance("3.3.3.3")));
+        NotifySubscriberRequest actual = encodeAndDecode(request);
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    public void testEncodeAndDecodeFullPush() throws IOException {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service", "");
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        NotifySubscriberRequest actual = encodeAndDecode(request);
+        assertEquals("group@@service", actual.getServiceInfo().getName());
+        assertTrue(actual.getServiceInfo().getHosts().isEmpty());
+        assertFalse(actual.isDelta());
+    }
+    
+    private Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8080);
+        result.setServiceName("group@@service");
+        result.addMetadata("key", "value");
+        return result;
+    }
+    
+    private NotifySubscriberRequest encodeAndDecode(NotifySubscriberRequest request) throws IOException {
+        ByteString.Output out = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        codec.encode(request, output);
+        output.flush();
+        return codec.decode(out.toByteString().newCodedInput());
+    }
+}
@@ -33,6 +33,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
@@ -104,6 +105,22 @@ public class JacksonUtilsTest {
         JacksonUtils.toJsonBytes(new Object());
     }
     
+    /**
+     * JacksonUtils.toJsonBytes(Object, OutputStream)
+     */
+    @Test
+    public void testToJsonBytesWithOutputStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtils.toJsonBytes(Collections.singletonMap("key", "value"), out);
+        Assert.assertArrayEquals("{\"key\":\"value\"}".getBytes(), out.toByteArray());
+    }
+    
+    @Test(expected = NacosSerializationException.class)
+    public void testToJsonBytesWithOutputStreamFailed() {
+        // object without field will throw exceptions
+        JacksonUtils.toJsonBytes(new Object(), new ByteArrayOutputStream());
+    }
+    
     /**
      * JacksonUtils.toObj(byte[], Class)
      */
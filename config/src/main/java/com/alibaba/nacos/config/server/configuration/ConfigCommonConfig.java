@@ -33,6 +33,11 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private int maxPushRetryTimes = 50;
     
+    /**
+     * Delay in milliseconds to merge config change notifies of one connection, non-positive means not merge.
+     */
+    private long batchNotifyDelay = 50L;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -50,13 +55,23 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.maxPushRetryTimes = maxPushRetryTimes;
     }
     
+    public long getBatchNotifyDelay() {
+        return batchNotifyDelay;
+    }
+    
+    public void setBatchNotifyDelay(long batchNotifyDelay) {
+        this.batchNotifyDelay = batchNotifyDelay;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
+        batchNotifyDelay = EnvUtil.getProperty("nacos.config.push.batchNotifyDelay", Long.class, 50L);
     }
     
     @Override
     protected String printConfig() {
-        return "ConfigCommonConfigs{" + "maxPushRetryTimes=" + maxPushRetryTimes + '}';
+        return "ConfigCommonConfigs{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", batchNotifyDelay="
+                + batchNotifyDelay + '}';
     }
 }
@@ -63,5 +63,9 @@ public class PropertiesConstant {
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
     
+    public static final String CLUSTER_SYNC_BATCH_WINDOW = "clusterSyncBatchWindow";
+    
+    public static final String CLUSTER_SYNC_BATCH_MAX_SIZE = "clusterSyncBatchMaxSize";
+    
     
 }
@@ -60,6 +60,16 @@ public class MetricsMonitor {
     
     private static AtomicInteger dumpTask = new AtomicInteger();
     
+    /**
+     * configs dumped by the running dump all task.
+     */
+    private static AtomicInteger dumpAllCount = new AtomicInteger();
+    
+    /**
+     * id range partitions not finished of the running dump all task.
+     */
+    private static AtomicInteger dumpAllPartition = new AtomicInteger();
+    
     /**
      * config fuzzy search count.
      */
@@ -113,6 +123,16 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "dumpTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpTask);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllCount"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllCount);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllPartition"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllPartition);
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "fuzzySearch"));
@@ -158,6 +178,14 @@ public class MetricsMonitor {
         return dumpTask;
     }
     
+    public static AtomicInteger getDumpAllCountMonitor() {
+        return dumpAllCount;
+    }
+    
+    public static AtomicInteger getDumpAllPartitionMonitor() {
+        return dumpAllPartition;
+    }
+    
     public static AtomicInteger getFuzzySearchMonitor() {
         return fuzzySearch;
     }
@@ -190,6 +218,10 @@ public class MetricsMonitor {
                 .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "writeConfigRpcRt");
     }
     
+    public static Timer getDumpAllRtTimer() {
+        return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpAllRt");
+    }
+    
     public static Timer getNotifyRtTimer() {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "notifyRt");
     }
@@ -213,6 +245,21 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
     }
     
+    public static Counter getConfigContentCacheHit() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_monitor", "module", "config", "name", "contentCacheHit");
+    }
+    
+    public static Counter getConfigContentCacheMiss() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_monitor", "module", "config", "name", "contentCacheMiss");
+    }
+    
+    public static Counter getConfigContentCacheEviction() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_monitor", "module", "config", "name", "contentCacheEviction");
+    }
+    
     public static void incrementConfigChangeCount(String tenant, String group, String dataId) {
         configChangeCount.increment(tenant + "@" + group + "@" + dataId);
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigChangeClusterBatchSyncRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * handler to handle a batch of config changes from other servers.
+ *
+ * @author agent
+ */
+@Component
+public class ConfigChangeClusterBatchSyncRequestHandler
+        extends RequestHandler<ConfigChangeClusterBatchSyncRequest, ConfigChangeClusterBatchSyncResponse> {
+    
+    private final DumpService dumpService;
+    
+    public ConfigChangeClusterBatchSyncRequestHandler(DumpService dumpService) {
+        this.dumpService = dumpService;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @Override
+    @ExtractorManager.Extractor(rpcExtractor = ConfigChangeClusterBatchSyncRequestParamExtractor.class)
+    public ConfigChangeClusterBatchSyncResponse handle(ConfigChangeClusterBatchSyncRequest request, RequestMeta meta)
+            throws NacosException {
+        List<DumpRequest> dumpRequests = new ArrayList<>(request.getConfigChangeItems().size());
+        for (ConfigChangeClusterBatchSyncRequest.ConfigChangeItem each : request.getConfigChangeItems()) {
+            DumpRequest dumpRequest = DumpRequest.create(each.getDataId(), each.getGroup(), each.getTenant(),
+                    each.getLastModified(), meta.getClientIp());
+            dumpRequest.setBeta(each.isBeta());
+            dumpRequest.setBatch(each.isBatch());
+            dumpRequest.setTag(each.getTag());
+            dumpRequests.add(dumpRequest);
+        }
+        dumpService.dump(dumpRequests);
+        return new ConfigChangeClusterBatchSyncResponse();
+    }
+}
@@ -16,6 +16,9 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -52,4 +55,28 @@ public class ConfigClusterRpcClientProxy {
         clusterRpcClientProxy.asyncRequest(member, request, callBack);
         
     }
+    
+    /**
+     * sync a batch of config changes request.
+     *
+     * @param member   member of server.
+     * @param request  request of config changes batch sync.
+     * @param callBack callBack of config changes batch sync.
+     * @throws NacosException exception.
+     */
+    public void syncConfigChanges(Member member, ConfigChangeClusterBatchSyncRequest request, RequestCallBack callBack)
+            throws NacosException {
+        clusterRpcClientProxy.asyncRequest(member, request, callBack);
+    }
+    
+    /**
+     * check whether member supports receiving config changes synced in batch.
+     *
+     * @param member member of server.
+     * @return {@code true} if member supports batch sync, otherwise {@code false}
+     */
+    public boolean isSupportBatchSync(Member member) {
+        return AbilityStatus.SUPPORTED == clusterRpcClientProxy
+                .getConnectionAbility(member, AbilityKey.SERVER_SUPPORT_BATCH_CLUSTER_SYNC);
+    }
 }
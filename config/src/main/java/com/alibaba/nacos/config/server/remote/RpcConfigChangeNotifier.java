@@ -16,8 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -39,8 +42,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -81,6 +87,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    /**
+     * Max count of changed configs in one batch notify request.
+     */
+    private static final int MAX_BATCH_NOTIFY_SIZE = 1000;
+    
+    /**
+     * connectionId -> changed group keys waiting to be notified in one batch.
+     */
+    private final ConcurrentHashMap<String, Set<String>> batchNotifyContext = new ConcurrentHashMap<>();
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -109,6 +125,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                 continue;
             }
             
+            if (isSupportBatchNotify(connection)) {
+                addBatchNotify(client, groupKey);
+                notifyClientCount++;
+                continue;
+            }
+            
             ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
@@ -119,6 +141,63 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isSupportBatchNotify(Connection connection) {
+        if (ConfigCommonConfig.getInstance().getBatchNotifyDelay() <= 0) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName()));
+    }
+    
+    /**
+     * Merge the changed group key into the pending batch of connection, the first key of a batch schedules the
+     * notify after batch notify delay.
+     *
+     * @param connectionId connection id
+     * @param groupKey     changed group key
+     */
+    private void addBatchNotify(String connectionId, String groupKey) {
+        boolean[] newBatch = new boolean[1];
+        batchNotifyContext.compute(connectionId, (key, groupKeys) -> {
+            if (groupKeys == null) {
+                groupKeys = new LinkedHashSet<>();
+                newBatch[0] = true;
+            }
+            groupKeys.add(groupKey);
+            return groupKeys;
+        });
+        if (newBatch[0]) {
+            ConfigExecutor.scheduleClientConfigNotifier(() -> batchNotify(connectionId),
+                    ConfigCommonConfig.getInstance().getBatchNotifyDelay(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    void batchNotify(String connectionId) {
+        Set<String> groupKeys = batchNotifyContext.remove(connectionId);
+        if (CollectionUtils.isEmpty(groupKeys)) {
+            return;
+        }
+        Connection connection = connectionManager.getConnection(connectionId);
+        if (connection == null) {
+            return;
+        }
+        ConnectionMeta metaInfo = connection.getMetaInfo();
+        ConfigChangeBatchNotifyRequest notifyRequest = new ConfigChangeBatchNotifyRequest();
+        for (String each : groupKeys) {
+            if (notifyRequest.getChangedConfigs().size() >= MAX_BATCH_NOTIFY_SIZE) {
+                push(new RpcPushTask(notifyRequest, ConfigCommonConfig.getInstance().getMaxPushRetryTimes(),
+                        connectionId, metaInfo.getClientIp(), metaInfo.getAppName()), connectionManager);
+                notifyRequest = new ConfigChangeBatchNotifyRequest();
+            }
+            String[] strings = GroupKey.parseKey(each);
+            notifyRequest.addChangeConfig(strings[0], strings[1], strings.length > 2 ? strings[2] : "");
+        }
+        push(new RpcPushTask(notifyRequest, ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), connectionId,
+                metaInfo.getClientIp(), metaInfo.getAppName()), connectionManager);
+        Loggers.REMOTE_PUSH.info("batch push [{}] configs, clientId=[{}]", groupKeys.size(), connectionId);
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -141,7 +220,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -153,7 +232,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -170,7 +249,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return tryTimes;
         }
         
-        public ConfigChangeNotifyRequest getNotifyRequest() {
+        public ServerRequest getNotifyRequest() {
             return notifyRequest;
         }
         
@@ -234,20 +313,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
             tpsControlManager.check(tpsCheckRequest);
-            Loggers.REMOTE_PUSH.warn("Push fail, dataId={}, group={}, tenant={}, clientId={}",
-                    rpcPushTask.getNotifyRequest().getDataId(), rpcPushTask.getNotifyRequest().getGroup(),
-                    rpcPushTask.getNotifyRequest().getTenant(), rpcPushTask.getConnectionId(), e);
+            Loggers.REMOTE_PUSH.warn("Push fail, {}, clientId={}", getNotifyDesc(rpcPushTask.getNotifyRequest()),
+                    rpcPushTask.getConnectionId(), e);
             push(rpcPushTask, connectionManager);
         }
     }
     
     private static void push(RpcPushTask retryTask, ConnectionManager connectionManager) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.getNotifyRequest();
         if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.getConnectionId());
+            Loggers.REMOTE_PUSH.warn("push callback retry fail over times. {},clientId={}, will unregister client.",
+                    getNotifyDesc(retryTask.getNotifyRequest()), retryTask.getConnectionId());
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
@@ -257,5 +332,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         }
     }
     
+    private static String getNotifyDesc(ServerRequest notifyRequest) {
+        if (notifyRequest instanceof ConfigChangeBatchNotifyRequest) {
+            return "batchSize=" + ((ConfigChangeBatchNotifyRequest) notifyRequest).getChangedConfigs().size();
+        }
+        ConfigChangeNotifyRequest request = (ConfigChangeNotifyRequest) notifyRequest;
+        return "dataId=" + request.getDataId() + ",group=" + request.getGroup() + ",tenant=" + request.getTenant();
+    }
+    
 }
-
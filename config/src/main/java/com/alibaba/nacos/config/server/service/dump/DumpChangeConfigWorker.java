@@ -29,17 +29,41 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Dump change processor.
  *
+ * <p>Deleted and changed configs are checked page by page, and the existence and content of configs in one page are
+ * queried in batch rather than one by one. The page size grows while pages are full, so that the count of round trips
+ * scales with the count of changes.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpChangeConfigWorker implements Runnable {
     
+    /**
+     * Max page size when page size grows.
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+    
+    /**
+     * Count of configs whose content are fetched in one query, batches are fetched in parallel.
+     */
+    private static final int FETCH_BATCH_SIZE = 100;
+    
+    /**
+     * Count of deleted configs checked in one query, independent of page size, embedded derby rejects the query of
+     * too many keys as too complex.
+     */
+    private static final int EXIST_CHECK_BATCH_SIZE = 100;
+    
     private ConfigInfoPersistService configInfoPersistService;
     
     private HistoryConfigInfoPersistService historyConfigInfoPersistService;
@@ -79,24 +103,16 @@ public class DumpChangeConfigWorker implements Runnable {
             LogUtil.DEFAULT_LOG.info("Check delete configs from  time {}", startTime);
             
             long deleteCursorId = 0L;
-            
+            int deletePageSize = pageSize;
             while (true) {
                 List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfig(startTime,
-                        deleteCursorId, pageSize);
-                for (ConfigInfoStateWrapper configInfo : configDeleted) {
-                    if (configInfoPersistService.findConfigInfoState(configInfo.getDataId(), configInfo.getGroup(),
-                            configInfo.getTenant()) == null) {
-                        ConfigCacheService.remove(configInfo.getDataId(), configInfo.getGroup(),
-                                configInfo.getTenant());
-                        LogUtil.DEFAULT_LOG.info("[dump-delete-ok] {}",
-                                new Object[] {GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup())});
-                    }
-                }
-                if (configDeleted.size() < pageSize) {
+                        deleteCursorId, deletePageSize);
+                removeDeletedConfigs(configDeleted);
+                if (configDeleted.size() < deletePageSize) {
                     break;
                 }
                 deleteCursorId = configDeleted.get(configDeleted.size() - 1).getId();
-                
+                deletePageSize = nextPageSize(deletePageSize);
             }
             LogUtil.DEFAULT_LOG.info("Check delete configs finished,cost:{}",
                     System.currentTimeMillis() - startDeletedConfigTime);
@@ -105,10 +121,12 @@ public class DumpChangeConfigWorker implements Runnable {
             long startChangeConfigTime = System.currentTimeMillis();
             
             long changeCursorId = 0L;
+            int changePageSize = pageSize;
             while (true) {
                 LogUtil.DEFAULT_LOG.info("Check changed configs from  time {},lastMaxId={}", startTime, changeCursorId);
                 List<ConfigInfoStateWrapper> changeConfigs = configInfoPersistService.findChangeConfig(startTime,
-                        changeCursorId, pageSize);
+                        changeCursorId, changePageSize);
+                List<Long> changedIds = new ArrayList<>();
                 for (ConfigInfoStateWrapper cf : changeConfigs) {
                     final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
                     //check md5 & localtimestamp update local disk cache.
@@ -118,27 +136,15 @@ public class DumpChangeConfigWorker implements Runnable {
                     if (newLastModified || md5Update) {
                         LogUtil.DEFAULT_LOG.info("[dump-change] find change config  {}, {}, md5={}",
                                 new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
-                        ConfigInfoWrapper configInfoWrapper = configInfoPersistService.findConfigInfo(cf.getDataId(),
-                                cf.getGroup(), cf.getTenant());
-                        LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}",
-                                new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
-                        ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
-                                configInfoWrapper.getTenant(), configInfoWrapper.getContent(),
-                                configInfoWrapper.getLastModified(), configInfoWrapper.getType(),
-                                configInfoWrapper.getEncryptedDataKey());
-                        final String content = configInfoWrapper.getContent();
-                        final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
-                        final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
-                        
-                        LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
-                                new Object[] {groupKey, configInfoWrapper.getLastModified(), content.length(), md5,
-                                        md5Utf8});
+                        changedIds.add(cf.getId());
                     }
                 }
-                if (changeConfigs.size() < pageSize) {
+                dumpChangedConfigs(changedIds);
+                if (changeConfigs.size() < changePageSize) {
                     break;
                 }
                 changeCursorId = changeConfigs.get(changeConfigs.size() - 1).getId();
+                changePageSize = nextPageSize(changePageSize);
             }
             
             long endChangeConfigTime = System.currentTimeMillis();
@@ -156,4 +162,68 @@ public class DumpChangeConfigWorker implements Runnable {
             
         }
     }
+    
+    private int nextPageSize(int currentPageSize) {
+        return Math.max(currentPageSize, Math.min(currentPageSize * 2, MAX_PAGE_SIZE));
+    }
+    
+    private void removeDeletedConfigs(List<ConfigInfoStateWrapper> configDeleted) {
+        if (configDeleted.isEmpty()) {
+            return;
+        }
+        Set<String> existedGroupKeys = new HashSet<>();
+        for (int i = 0; i < configDeleted.size(); i += EXIST_CHECK_BATCH_SIZE) {
+            List<ConfigInfoStateWrapper> batchKeys = configDeleted.subList(i,
+                    Math.min(i + EXIST_CHECK_BATCH_SIZE, configDeleted.size()));
+            for (ConfigInfoStateWrapper each : configInfoPersistService.findConfigInfoStates(batchKeys)) {
+                existedGroupKeys.add(GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            }
+        }
+        for (ConfigInfoStateWrapper configInfo : configDeleted) {
+            if (!existedGroupKeys.contains(
+                    GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant()))) {
+                ConfigCacheService.remove(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant());
+                LogUtil.DEFAULT_LOG.info("[dump-delete-ok] {}",
+                        new Object[] {GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup())});
+            }
+        }
+    }
+    
+    private void dumpChangedConfigs(List<Long> changedIds) {
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        if (changedIds.size() <= FETCH_BATCH_SIZE) {
+            dumpConfigs(configInfoPersistService.findConfigInfoWrappersByIds(changedIds));
+            return;
+        }
+        List<CompletableFuture<List<ConfigInfoWrapper>>> futures = new ArrayList<>();
+        for (int i = 0; i < changedIds.size(); i += FETCH_BATCH_SIZE) {
+            List<Long> batchIds = changedIds.subList(i, Math.min(i + FETCH_BATCH_SIZE, changedIds.size()));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> configInfoPersistService.findConfigInfoWrappersByIds(batchIds),
+                    ConfigExecutor.getDumpChangeFetchExecutor()));
+        }
+        for (CompletableFuture<List<ConfigInfoWrapper>> each : futures) {
+            dumpConfigs(each.join());
+        }
+    }
+    
+    private void dumpConfigs(List<ConfigInfoWrapper> configInfoWrappers) {
+        for (ConfigInfoWrapper configInfoWrapper : configInfoWrappers) {
+            final String groupKey = GroupKey2.getKey(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
+                    configInfoWrapper.getTenant());
+            LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}",
+                    new Object[] {groupKey, configInfoWrapper.getLastModified(), configInfoWrapper.getMd5()});
+            ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
+                    configInfoWrapper.getTenant(), configInfoWrapper.getContent(), configInfoWrapper.getLastModified(),
+                    configInfoWrapper.getType(), configInfoWrapper.getEncryptedDataKey());
+            final String content = configInfoWrapper.getContent();
+            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
+            final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
+            
+            LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
+                    new Object[] {groupKey, configInfoWrapper.getLastModified(), content.length(), md5, md5Utf8});
+        }
+    }
 }
@@ -56,6 +56,7 @@ import org.slf4j.LoggerFactory;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -363,6 +364,19 @@ public abstract class DumpService {
         return retentionDays;
     }
     
+    /**
+     * dump operation for changed configs received together, such as config changes synced from other members in one
+     * request. Each config is still added as its own dump task, and replaces the pending task of the same config.
+     *
+     * @param dumpRequests dumpRequests.
+     */
+    public void dump(Collection<DumpRequest> dumpRequests) {
+        for (DumpRequest each : dumpRequests) {
+            dump(each);
+        }
+        DUMP_LOG.info("[dump] add {} tasks in batch.", dumpRequests.size());
+    }
+    
     /**
      * dump operation.
      *
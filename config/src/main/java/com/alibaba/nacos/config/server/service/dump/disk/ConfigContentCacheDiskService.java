@@ -0,0 +1,199 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * In-heap content cache tier in front of another {@link ConfigDiskService}.
+ *
+ * <p>Content is stored gzip compressed and bounded by the total bytes of compressed content, the least recently
+ * used entries are evicted first. All writes and removes of {@link com.alibaba.nacos.config.server.service.ConfigCacheService}
+ * go through the disk service under the write lock of the group key, so updating the cache here keeps it consistent
+ * with dump, beta and tag changes.
+ *
+ * @author agent
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigContentCacheDiskService implements ConfigDiskService {
+    
+    private static final String FORMAL_PREFIX = "formal+";
+    
+    private static final String BETA_PREFIX = "beta+";
+    
+    private static final String TAG_PREFIX = "tag+";
+    
+    private final ConfigDiskService delegate;
+    
+    private final Cache<String, byte[]> contentCache;
+    
+    public ConfigContentCacheDiskService(ConfigDiskService delegate, long maxBytes) {
+        this.delegate = delegate;
+        this.contentCache = CacheBuilder.newBuilder().maximumWeight(maxBytes)
+                .weigher((String key, byte[] value) -> key.length() + value.length).removalListener(notification -> {
+                    if (RemovalCause.SIZE == notification.getCause()) {
+                        MetricsMonitor.getConfigContentCacheEviction().increment();
+                    }
+                }).build();
+    }
+    
+    ConfigDiskService getDelegate() {
+        return delegate;
+    }
+    
+    long size() {
+        return contentCache.size();
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        String key = formalKey(dataId, group, tenant);
+        contentCache.invalidate(key);
+        delegate.saveToDisk(dataId, group, tenant, content);
+        putContent(key, content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        String key = betaKey(dataId, group, tenant);
+        contentCache.invalidate(key);
+        delegate.saveBetaToDisk(dataId, group, tenant, content);
+        putContent(key, content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        String key = tagKey(dataId, group, tenant, tag);
+        contentCache.invalidate(key);
+        delegate.saveTagToDisk(dataId, group, tenant, tag, content);
+        putContent(key, content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        contentCache.invalidate(formalKey(dataId, group, tenant));
+        delegate.removeConfigInfo(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        contentCache.invalidate(betaKey(dataId, group, tenant));
+        delegate.removeConfigInfo4Beta(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        contentCache.invalidate(tagKey(dataId, group, tenant, tag));
+        delegate.removeConfigInfo4Tag(dataId, group, tenant, tag);
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        String key = formalKey(dataId, group, tenant);
+        String content = getCachedContent(key);
+        if (content == null) {
+            content = delegate.getContent(dataId, group, tenant);
+            putContent(key, content);
+        }
+        return content;
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        String key = betaKey(dataId, group, tenant);
+        String content = getCachedContent(key);
+        if (content == null) {
+            content = delegate.getBetaContent(dataId, group, tenant);
+            putContent(key, content);
+        }
+        return content;
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        String key = tagKey(dataId, group, tenant, tag);
+        String content = getCachedContent(key);
+        if (content == null) {
+            content = delegate.getTagContent(dataId, group, tenant, tag);
+            putContent(key, content);
+        }
+        return content;
+    }
+    
+    @Override
+    public void clearAll() {
+        contentCache.asMap().keySet().removeIf(key -> key.startsWith(FORMAL_PREFIX));
+        delegate.clearAll();
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        contentCache.asMap().keySet().removeIf(key -> key.startsWith(BETA_PREFIX));
+        delegate.clearAllBeta();
+    }
+    
+    @Override
+    public void clearAllTag() {
+        contentCache.asMap().keySet().removeIf(key -> key.startsWith(TAG_PREFIX));
+        delegate.clearAllTag();
+    }
+    
+    private String getCachedContent(String key) {
+        byte[] compressed = contentCache.getIfPresent(key);
+        if (compressed == null) {
+            MetricsMonitor.getConfigContentCacheMiss().increment();
+            return null;
+        }
+        MetricsMonitor.getConfigContentCacheHit().increment();
+        try {
+            return new String(IoUtils.tryDecompress(compressed), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            DEFAULT_LOG.warn("[content-cache] decompress content failed, key={}", key, e);
+            contentCache.invalidate(key);
+            return null;
+        }
+    }
+    
+    private void putContent(String key, String content) {
+        if (content != null) {
+            contentCache.put(key, IoUtils.tryCompress(content, StandardCharsets.UTF_8.name()));
+        }
+    }
+    
+    private static String formalKey(String dataId, String group, String tenant) {
+        return FORMAL_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String betaKey(String dataId, String group, String tenant) {
+        return BETA_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String tagKey(String dataId, String group, String tenant, String tag) {
+        return TAG_PREFIX + GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), tag);
+    }
+}
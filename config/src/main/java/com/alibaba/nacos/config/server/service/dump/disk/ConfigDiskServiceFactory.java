@@ -29,6 +29,13 @@ public class ConfigDiskServiceFactory {
     
     private static final String TYPE_ROCKSDB = "rocksdb";
     
+    private static final String TYPE_MMAP_DISK = "mmapdisk";
+    
+    /**
+     * Max bytes of compressed content cached in heap, content cache is disabled if not positive.
+     */
+    private static final String CONTENT_CACHE_MAX_BYTES = "config_content_cache_max_bytes";
+    
     /**
      * get disk service.
      *
@@ -41,9 +48,16 @@ public class ConfigDiskServiceFactory {
                     String type = System.getProperty("config_disk_type", TYPE_RAW_DISK);
                     if (type.equalsIgnoreCase(TYPE_ROCKSDB)) {
                         configDiskService = new ConfigRocksDbDiskService();
+                    } else if (type.equalsIgnoreCase(TYPE_MMAP_DISK)) {
+                        configDiskService = new ConfigMmapDiskService();
                     } else {
                         configDiskService = new ConfigRawDiskService();
                     }
+                    long contentCacheMaxBytes = Long.getLong(CONTENT_CACHE_MAX_BYTES, 0L);
+                    if (contentCacheMaxBytes > 0) {
+                        configDiskService = new ConfigContentCacheDiskService(configDiskService,
+                                contentCacheMaxBytes);
+                    }
                 }
                 return configDiskService;
             }
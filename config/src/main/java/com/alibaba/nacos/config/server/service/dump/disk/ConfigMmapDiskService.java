@@ -0,0 +1,227 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+
+/**
+ * config memory mapped segment disk service.
+ *
+ * <p>Configs are appended to memory mapped segment files instead of one file per config, which avoids huge number of
+ * small files and syscalls when dumping all configs. See {@link MmapSegmentStore}.
+ *
+ * @author agent
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    private static final String MMAP_DATA = File.separator + "mmapdata" + File.separator;
+    
+    private static final String BASE_DIR = MMAP_DATA + "config-data";
+    
+    private static final String BETA_DIR = MMAP_DATA + "beta-data";
+    
+    private static final String TAG_DIR = MMAP_DATA + "tag-data";
+    
+    private static final String SEGMENT_SIZE_PROPERTY = "config_disk_mmap_segment_size";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    
+    private static final long COMPACT_INTERVAL_MINUTES = 10L;
+    
+    private final MmapSegmentStore baseStore;
+    
+    private final MmapSegmentStore betaStore;
+    
+    private final MmapSegmentStore tagStore;
+    
+    public ConfigMmapDiskService() {
+        int segmentSize = Integer.getInteger(SEGMENT_SIZE_PROPERTY, DEFAULT_SEGMENT_SIZE);
+        try {
+            baseStore = new MmapSegmentStore(new File(EnvUtil.getNacosHome(), BASE_DIR), segmentSize);
+            betaStore = new MmapSegmentStore(new File(EnvUtil.getNacosHome(), BETA_DIR), segmentSize);
+            tagStore = new MmapSegmentStore(new File(EnvUtil.getNacosHome(), TAG_DIR), segmentSize);
+        } catch (IOException e) {
+            throw new IllegalStateException("init mmap disk service failed.", e);
+        }
+        ConfigExecutor.scheduleConfigTask(this::compact, COMPACT_INTERVAL_MINUTES, COMPACT_INTERVAL_MINUTES,
+                TimeUnit.MINUTES);
+        ThreadUtils.addShutdownHook(this::close);
+    }
+    
+    private String getKey(String dataId, String group, String tenant, String tag) {
+        String[] keys = new String[] {dataId, group, tenant, tag};
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : keys) {
+            if (StringUtils.isBlank(key)) {
+                key = "";
+            }
+            urlEncode(key, stringBuilder);
+            stringBuilder.append('+');
+        }
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * + -> %2B % -> %25.
+     */
+    private static void urlEncode(String str, StringBuilder sb) {
+        for (int idx = 0; idx < str.length(); ++idx) {
+            char c = str.charAt(idx);
+            if ('+' == c) {
+                sb.append("%2B");
+            } else if ('%' == c) {
+                sb.append("%25");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+    
+    /**
+     * Save configuration information to disk.
+     */
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        baseStore.put(getKey(dataId, group, tenant, null), content.getBytes(ENCODE_UTF8));
+    }
+    
+    /**
+     * Save beta information to disk.
+     */
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        betaStore.put(getKey(dataId, group, tenant, null), content.getBytes(ENCODE_UTF8));
+    }
+    
+    /**
+     * Save tag information to disk.
+     */
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        tagStore.put(getKey(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+    }
+    
+    /**
+     * Deletes configuration files on disk.
+     */
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        removeContentInner(baseStore, dataId, group, tenant, null);
+    }
+    
+    /**
+     * Deletes beta configuration files on disk.
+     */
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        removeContentInner(betaStore, dataId, group, tenant, null);
+    }
+    
+    /**
+     * Deletes tag configuration files on disk.
+     */
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        removeContentInner(tagStore, dataId, group, tenant, tag);
+    }
+    
+    private void removeContentInner(MmapSegmentStore store, String dataId, String group, String tenant, String tag) {
+        try {
+            store.remove(getKey(dataId, group, tenant, tag));
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("Remove config fail,dataId={},group={},tenant={},tag={},error={}", dataId, group,
+                    tenant, tag, e.toString());
+        }
+    }
+    
+    private String getContentInner(MmapSegmentStore store, String dataId, String group, String tenant, String tag)
+            throws IOException {
+        byte[] bytes = store.get(getKey(dataId, group, tenant, tag));
+        return bytes == null ? null : new String(bytes, ENCODE_UTF8);
+    }
+    
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return getContentInner(baseStore, dataId, group, tenant, null);
+    }
+    
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        return getContentInner(betaStore, dataId, group, tenant, null);
+    }
+    
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        return getContentInner(tagStore, dataId, group, tenant, tag);
+    }
+    
+    /**
+     * Compact segments of all stores.
+     */
+    void compact() {
+        for (MmapSegmentStore each : new MmapSegmentStore[] {baseStore, betaStore, tagStore}) {
+            try {
+                each.compact();
+            } catch (Throwable e) {
+                LogUtil.DEFAULT_LOG.warn("compact mmap segments failed.", e);
+            }
+        }
+    }
+    
+    /**
+     * Force all stores to disk and release their mappings.
+     */
+    void close() {
+        for (MmapSegmentStore each : new MmapSegmentStore[] {baseStore, betaStore, tagStore}) {
+            each.close();
+        }
+    }
+    
+    /**
+     * Clear all config file.
+     */
+    public void clearAll() {
+        clearStore(baseStore, "config-info");
+    }
+    
+    /**
+     * Clear all beta config file.
+     */
+    public void clearAllBeta() {
+        clearStore(betaStore, "config-info-beta");
+    }
+    
+    /**
+     * Clear all tag config file.
+     */
+    public void clearAllTag() {
+        clearStore(tagStore, "config-info-tag");
+    }
+    
+    private void clearStore(MmapSegmentStore store, String name) {
+        try {
+            store.clear();
+            LogUtil.DEFAULT_LOG.info("clear all {} success.", name);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("clear all {} failed.", name, e);
+        }
+    }
+    
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Key-value store with append-only memory mapped segment files and in-memory offset index.
+ *
+ * <p>Each record is {@code crc(4) + keyLength(4) + valueLength(4) + key + value}, the crc covers all following bytes
+ * of the record and a value length of {@code -1} marks a removed key. Records are replayed in segment order at
+ * startup to rebuild the index, the replay of a segment stops at the first record failing crc check. When more than
+ * half of the written bytes are overwritten or removed, {@link #compact()} rewrites the live records to new segments
+ * and deletes the old ones, so crash during compaction still recovers to the latest data.
+ *
+ * <p>A segment is forced to disk when it is rotated out and when the store is closed, compacted segments are forced
+ * before the old ones are deleted. Mappings are released when segments are deleted or the store is closed, reads
+ * hold the read lock of {@link #mappingLock} so they never touch a released mapping.
+ *
+ * @author agent
+ */
+class MmapSegmentStore {
+    
+    private static final String SEGMENT_SUFFIX = ".segment";
+    
+    private static final int HEADER_SIZE = 12;
+    
+    private static final int TOMBSTONE = -1;
+    
+    private static final int COMPACT_GARBAGE_RATIO = 2;
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    
+    private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+    
+    private Segment activeSegment;
+    
+    private volatile boolean closed;
+    
+    private long writtenBytes;
+    
+    private long liveBytes;
+    
+    MmapSegmentStore(File dir, int segmentSize) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        recover();
+    }
+    
+    /**
+     * Get value of key.
+     *
+     * @param key key
+     * @return value of key, null if not exist
+     */
+    byte[] get(String key) {
+        mappingLock.readLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location == null || closed) {
+                return null;
+            }
+            ByteBuffer buffer = location.segment.buffer.duplicate();
+            buffer.position(location.valueOffset);
+            byte[] result = new byte[location.valueLength];
+            buffer.get(result);
+            return result;
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Put value of key.
+     *
+     * @param key   key
+     * @param value value
+     * @throws IOException if allocate new segment failed
+     */
+    synchronized void put(String key, byte[] value) throws IOException {
+        checkNotClosed();
+        Location location = append(key.getBytes(StandardCharsets.UTF_8), value);
+        liveBytes += location.recordLength;
+        release(index.put(key, location));
+    }
+    
+    /**
+     * Remove key.
+     *
+     * @param key key
+     * @throws IOException if allocate new segment failed
+     */
+    synchronized void remove(String key) throws IOException {
+        checkNotClosed();
+        Location old = index.get(key);
+        if (old == null) {
+            return;
+        }
+        append(key.getBytes(StandardCharsets.UTF_8), null);
+        index.remove(key);
+        release(old);
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    synchronized long getWrittenBytes() {
+        return writtenBytes;
+    }
+    
+    synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+    
+    /**
+     * Rewrite live records to new segments and delete old segments if more than half of written bytes are garbage.
+     *
+     * @return {@code true} if compacted
+     * @throws IOException if allocate new segment failed
+     */
+    synchronized boolean compact() throws IOException {
+        if (closed || writtenBytes <= segmentSize || liveBytes * COMPACT_GARBAGE_RATIO > writtenBytes) {
+            return false;
+        }
+        final List<Segment> oldSegments = new ArrayList<>(segments.values());
+        final long beforeBytes = writtenBytes;
+        rotate(segmentSize);
+        writtenBytes = 0;
+        liveBytes = 0;
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            Location old = entry.getValue();
+            byte[] value = new byte[old.valueLength];
+            ByteBuffer buffer = old.segment.buffer.duplicate();
+            buffer.position(old.valueOffset);
+            buffer.get(value);
+            Location location = append(entry.getKey().getBytes(StandardCharsets.UTF_8), value);
+            liveBytes += location.recordLength;
+            entry.setValue(location);
+        }
+        // new segments must be durable before the old ones are deleted.
+        activeSegment.force();
+        for (Segment each : oldSegments) {
+            segments.remove(each.id);
+        }
+        deleteSegments(oldSegments);
+        LogUtil.DEFAULT_LOG.info("compact mmap segments of {} from {} bytes to {} bytes", dir, beforeBytes,
+                writtenBytes);
+        return true;
+    }
+    
+    /**
+     * Remove all records and segments.
+     *
+     * @throws IOException if allocate new segment failed
+     */
+    synchronized void clear() throws IOException {
+        checkNotClosed();
+        List<Segment> oldSegments = new ArrayList<>(segments.values());
+        segments.clear();
+        writtenBytes = 0;
+        liveBytes = 0;
+        activeSegment = createSegment(activeSegment.id + 1, segmentSize);
+        mappingLock.writeLock().lock();
+        try {
+            index.clear();
+            for (Segment each : oldSegments) {
+                each.unmap();
+                each.delete();
+            }
+        } finally {
+            mappingLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Force all segments to disk and release their mappings, the segment files are kept for recovery.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        mappingLock.writeLock().lock();
+        try {
+            closed = true;
+            for (Segment each : segments.values()) {
+                each.force();
+                each.unmap();
+            }
+            segments.clear();
+            index.clear();
+        } finally {
+            mappingLock.writeLock().unlock();
+        }
+    }
+    
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("mmap segment store of " + dir + " is closed");
+        }
+    }
+    
+    private void deleteSegments(List<Segment> toDelete) {
+        mappingLock.writeLock().lock();
+        try {
+            for (Segment each : toDelete) {
+                each.unmap();
+            }
+        } finally {
+            mappingLock.writeLock().unlock();
+        }
+        for (Segment each : toDelete) {
+            each.delete();
+        }
+    }
+    
+    /**
+     * Force the active segment to disk and switch to a new segment.
+     */
+    private void rotate(int capacity) throws IOException {
+        activeSegment.force();
+        activeSegment = createSegment(activeSegment.id + 1, capacity);
+    }
+    
+    private void release(Location location) {
+        if (location != null) {
+            liveBytes -= location.recordLength;
+        }
+    }
+    
+    private Location append(byte[] key, byte[] value) throws IOException {
+        int valueLength = value == null ? TOMBSTONE : value.length;
+        int recordLength = HEADER_SIZE + key.length + Math.max(valueLength, 0);
+        if (activeSegment.writePosition + recordLength > activeSegment.capacity) {
+            rotate(Math.max(segmentSize, recordLength));
+        }
+        ByteBuffer record = ByteBuffer.allocate(recordLength);
+        record.putInt(0);
+        record.putInt(key.length);
+        record.putInt(valueLength);
+        record.put(key);
+        if (value != null) {
+            record.put(value);
+        }
+        record.putInt(0, crc(record, 0, recordLength));
+        record.flip();
+        int offset = activeSegment.writePosition;
+        ByteBuffer buffer = activeSegment.buffer.duplicate();
+        buffer.position(offset);
+        buffer.put(record);
+        activeSegment.writePosition += recordLength;
+        writtenBytes += recordLength;
+        return new Location(activeSegment, offset + HEADER_SIZE + key.length, valueLength, recordLength);
+    }
+    
+    private void recover() throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Create dir failed: " + dir);
+        }
+        File[] files = dir.listFiles((file, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File each : files) {
+                long id = Long.parseLong(each.getName().substring(0, each.getName().length() - SEGMENT_SUFFIX.length()));
+                segments.put(id, new Segment(id, each, (int) each.length()));
+            }
+        }
+        for (Segment each : segments.values()) {
+            replay(each);
+        }
+        activeSegment = segments.isEmpty() ? createSegment(0, segmentSize) : segments.lastEntry().getValue();
+    }
+    
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = 0;
+        while (position + HEADER_SIZE <= segment.capacity) {
+            int crc = buffer.getInt(position);
+            int keyLength = buffer.getInt(position + 4);
+            int valueLength = buffer.getInt(position + 8);
+            if (keyLength <= 0) {
+                // reach the unused space of segment.
+                break;
+            }
+            long recordLength = (long) HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+            if (valueLength < TOMBSTONE || position + recordLength > segment.capacity
+                    || crc != crc(buffer, position, (int) recordLength)) {
+                LogUtil.FATAL_LOG.warn("Broken record found in segment {} at {}, ignore the following records.",
+                        segment.file, position);
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            ByteBuffer keyBuffer = buffer.duplicate();
+            keyBuffer.position(position + HEADER_SIZE);
+            keyBuffer.get(key);
+            String keyString = new String(key, StandardCharsets.UTF_8);
+            if (valueLength == TOMBSTONE) {
+                release(index.remove(keyString));
+            } else {
+                Location location = new Location(segment, position + HEADER_SIZE + keyLength, valueLength,
+                        (int) recordLength);
+                liveBytes += recordLength;
+                release(index.put(keyString, location));
+            }
+            position += (int) recordLength;
+            writtenBytes += recordLength;
+        }
+        segment.writePosition = position;
+    }
+    
+    private static int crc(ByteBuffer buffer, int recordOffset, int recordLength) {
+        ByteBuffer data = buffer.duplicate();
+        data.limit(recordOffset + recordLength);
+        data.position(recordOffset + 4);
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        return (int) crc32.getValue();
+    }
+    
+    private Segment createSegment(long id, int capacity) throws IOException {
+        Segment result = new Segment(id, new File(dir, String.format("%020d", id) + SEGMENT_SUFFIX), capacity);
+        segments.put(id, result);
+        return result;
+    }
+    
+    private static class Segment {
+        
+        private final long id;
+        
+        private final File file;
+        
+        private final int capacity;
+        
+        private final MappedByteBuffer buffer;
+        
+        private int writePosition;
+        
+        private boolean unmapped;
+        
+        private Segment(long id, File file, int capacity) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.capacity = capacity;
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+                    FileChannel channel = randomAccessFile.getChannel()) {
+                randomAccessFile.setLength(capacity);
+                // The mapping is still valid after the channel is closed.
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        }
+        
+        private void force() {
+            if (!unmapped) {
+                buffer.force();
+            }
+        }
+        
+        private void unmap() {
+            if (!unmapped) {
+                unmapped = true;
+                MmapSegmentStore.unmap(buffer);
+            }
+        }
+        
+        private void delete() {
+            if (!file.delete()) {
+                LogUtil.DEFAULT_LOG.warn("delete mmap segment {} failed.", file);
+            }
+        }
+    }
+    
+    /**
+     * Release the mapping of buffer now instead of waiting for gc, buffer must not be accessed after that.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // before java 9, clean by the cleaner of direct buffer.
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Throwable e) {
+            LogUtil.DEFAULT_LOG.warn("unmap mmap segment failed, it will be released by gc: {}", e.toString());
+        }
+    }
+    
+    private static class Location {
+        
+        private final Segment segment;
+        
+        private final int valueOffset;
+        
+        private final int valueLength;
+        
+        private final int recordLength;
+        
+        private Location(Segment segment, int valueOffset, int valueLength, int recordLength) {
+            this.segment = segment;
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.recordLength = recordLength;
+        }
+    }
+}
@@ -16,10 +16,15 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
@@ -31,10 +36,13 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -60,106 +68,168 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         DumpAllTask dumpAllTask = (DumpAllTask) task;
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        }
+        int partitionCount = dumpAllTask.isStartUp() ? partitionCount(currentMaxId) : 1;
+        AtomicLong dumpedCount = new AtomicLong();
         
-        DEFAULT_LOG.info("start dump all config-info...");
+        DEFAULT_LOG.info("start dump all config-info, maxId={}, partitions={}", currentMaxId, partitionCount);
         
-        while (lastMaxId < currentMaxId) {
-            
-            long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
-            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
+        long start = System.currentTimeMillis();
+        MetricsMonitor.getDumpAllCountMonitor().set(0);
+        MetricsMonitor.getDumpAllPartitionMonitor().set(partitionCount);
+        try {
+            if (partitionCount == 1) {
+                dumpPartition(dumpAllTask, 0, currentMaxId, dumpedCount);
+            } else {
+                dumpPartitionsInParallel(dumpAllTask, currentMaxId, partitionCount, dumpedCount);
             }
-            
-            for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
-                }
-                if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                    AggrWhitelist.load(cf.getContent());
+        } finally {
+            MetricsMonitor.getDumpAllPartitionMonitor().set(0);
+            MetricsMonitor.getDumpAllRtTimer().record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+        }
+        DEFAULT_LOG.info("success to  dump all config-info, dumped {} configs.", dumpedCount.get());
+        return true;
+    }
+    
+    private void dumpPartitionsInParallel(DumpAllTask dumpAllTask, long maxId, int partitionCount,
+            AtomicLong dumpedCount) {
+        long partitionSize = (maxId + partitionCount - 1) / partitionCount;
+        ExecutorService executorService = ExecutorFactory.newFixedExecutorService(partitionCount,
+                new NameThreadFactory("com.alibaba.nacos.config.dump.all"));
+        List<Future<?>> futures = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            final long startId = i * partitionSize;
+            final long endId = Math.min(maxId, startId + partitionSize);
+            futures.add(executorService.submit(() -> dumpPartition(dumpAllTask, startId, endId, dumpedCount)));
+        }
+        
+        //wait all partitions are finished and then shutdown executor, failure of any partition fails the dump.
+        RuntimeException failure = null;
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    DEFAULT_LOG.error("[all-dump] dump partition error", e.getCause());
+                    failure = mergeFailure(failure, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = mergeFailure(failure, e);
                 }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
+    private RuntimeException mergeFailure(RuntimeException failure, Throwable cause) {
+        if (null != failure) {
+            failure.addSuppressed(cause);
+            return failure;
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new NacosRuntimeException(NacosException.SERVER_ERROR, cause);
+    }
+    
+    /**
+     * Split id range (0, maxId] to partitions, each partition covers at least one page of ids.
+     */
+    private int partitionCount(long maxId) {
+        long pages = (maxId + PropertyUtil.getAllDumpPageSize() - 1) / PropertyUtil.getAllDumpPageSize();
+        return (int) Math.max(1, Math.min(pages, Runtime.getRuntime().availableProcessors()));
+    }
+    
+    /**
+     * Dump configs with id in (startId, endId] by keyset pagination.
+     */
+    private void dumpPartition(DumpAllTask dumpAllTask, long startId, long endId, AtomicLong dumpedCount) {
+        try {
+            long lastMaxId = startId;
+            while (lastMaxId < endId) {
                 
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
+                long start = System.currentTimeMillis();
                 
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
+                Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, endId,
+                        PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
+                long dbTimeStamp = System.currentTimeMillis();
+                if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                    break;
                 }
                 
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
+                for (ConfigInfoWrapper cf : page.getPageItems()) {
+                    // mappers of datasource plugins may ignore the max id of the query.
+                    if (cf.getId() > endId) {
+                        lastMaxId = endId;
+                        break;
+                    }
+                    lastMaxId = Math.max(cf.getId(), lastMaxId);
+                    if (dumpConfig(dumpAllTask, cf)) {
+                        dumpedCount.incrementAndGet();
+                        MetricsMonitor.getDumpAllCountMonitor().incrementAndGet();
                     }
-                    
-                });
+                }
                 
+                long diskStamp = System.currentTimeMillis();
+                DEFAULT_LOG.info(
+                        "[all-dump] dump partition ({}, {}] progress {}, total dumped={}, dbTime={},diskTime={}",
+                        startId, endId, lastMaxId, dumpedCount.get(), (dbTimeStamp - start),
+                        (diskStamp - dbTimeStamp));
             }
-            
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+        } finally {
+            MetricsMonitor.getDumpAllPartitionMonitor().decrementAndGet();
         }
-        
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+    }
+    
+    private boolean dumpConfig(DumpAllTask dumpAllTask, ConfigInfoWrapper cf) {
+        //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+        if (!dumpAllTask.isStartUp()) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                        cf.getMd5());
+                cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            } else {
+                return false;
             }
-            executorService.shutdown();
-            
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
+        
+        if (cf == null) {
+            return false;
+        }
+        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+            AggrWhitelist.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final long lastModified = cf.getLastModified();
+        final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+        boolean result = ConfigCacheService.dumpWithMd5(dataId, group, cf.getTenant(), content, md5Utf8,
+                lastModified, cf.getType(), cf.getEncryptedDataKey());
+        if (result) {
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                    lastModified, content.length(), md5Utf8);
+        } else {
+            LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
+        }
+        return result;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
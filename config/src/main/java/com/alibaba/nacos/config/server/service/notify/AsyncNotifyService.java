@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.common.notify.Event;
@@ -30,6 +32,7 @@ import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -44,8 +47,12 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Async notify service.
@@ -63,11 +70,18 @@ public class AsyncNotifyService {
     
     private static final int MAX_COUNT = 6;
     
+    private static final long BATCH_SYNC_TIMEOUT = 3000L;
+    
     @Autowired
     private ConfigClusterRpcClientProxy configClusterRpcClientProxy;
     
     private ServerMemberManager memberManager;
     
+    /**
+     * Accumulated config changes which will be synced in batch, key is the address of target member.
+     */
+    private final ConcurrentMap<String, ClusterSyncBatch> syncBatches = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -153,6 +167,8 @@ public class AsyncNotifyService {
                             ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, member.getAddress());
                     // get delay time and set fail count to the task
                     asyncTaskExecute(task);
+                } else if (isBatchSyncSupported(member)) {
+                    addToSyncBatch(task);
                 } else {
                     
                     // grpc report data change only
@@ -172,6 +188,69 @@ public class AsyncNotifyService {
         }
     }
     
+    private boolean isBatchSyncSupported(Member member) {
+        if (PropertyUtil.getClusterSyncBatchWindow() <= 0) {
+            return false;
+        }
+        return configClusterRpcClientProxy.isSupportBatchSync(member);
+    }
+    
+    private void addToSyncBatch(NotifySingleRpcTask task) {
+        ClusterSyncBatch batch = syncBatches.computeIfAbsent(task.member.getAddress(), key -> new ClusterSyncBatch());
+        batch.tasks.add(task);
+        if (batch.scheduled.compareAndSet(false, true)) {
+            ConfigExecutor.scheduleAsyncNotify(batch, PropertyUtil.getClusterSyncBatchWindow(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    void executeBatchSync(List<NotifySingleRpcTask> tasks) {
+        Member member = tasks.get(0).member;
+        ConfigChangeClusterBatchSyncRequest syncRequest = new ConfigChangeClusterBatchSyncRequest();
+        for (NotifySingleRpcTask each : tasks) {
+            syncRequest.addConfigChangeItem(each.getDataId(), each.getGroup(), each.getTenant(), each.getTag(),
+                    each.getLastModified(), each.isBeta(), each.isBatch());
+        }
+        try {
+            configClusterRpcClientProxy.syncConfigChanges(member, syncRequest,
+                    new AsyncRpcBatchNotifyCallBack(AsyncNotifyService.this, tasks));
+        } catch (Exception e) {
+            MetricsMonitor.getConfigNotifyException().increment();
+            for (NotifySingleRpcTask each : tasks) {
+                asyncTaskExecute(each);
+            }
+        }
+    }
+    
+    /**
+     * Config changes to the same member accumulated in a short window, which will be synced by {@link
+     * ConfigChangeClusterBatchSyncRequest}. Each change keeps its own retry state, so a failed batch is retried item by
+     * item.
+     */
+    private class ClusterSyncBatch implements Runnable {
+        
+        private final Queue<NotifySingleRpcTask> tasks = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        
+        @Override
+        public void run() {
+            scheduled.set(false);
+            int maxSize = Math.max(1, PropertyUtil.getClusterSyncBatchMaxSize());
+            List<NotifySingleRpcTask> batch = new ArrayList<>();
+            NotifySingleRpcTask task;
+            while (null != (task = tasks.poll())) {
+                batch.add(task);
+                if (batch.size() >= maxSize) {
+                    executeBatchSync(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                executeBatchSync(batch);
+            }
+        }
+    }
+    
     public class AsyncRpcTask implements Runnable {
         
         private Queue<NotifySingleRpcTask> queue;
@@ -366,6 +445,46 @@ public class AsyncNotifyService {
         }
     }
     
+    public static class AsyncRpcBatchNotifyCallBack implements RequestCallBack<ConfigChangeClusterBatchSyncResponse> {
+        
+        private final List<AsyncRpcNotifyCallBack> callBacks;
+        
+        public AsyncRpcBatchNotifyCallBack(AsyncNotifyService asyncNotifyService, List<NotifySingleRpcTask> tasks) {
+            this.callBacks = new ArrayList<>(tasks.size());
+            for (NotifySingleRpcTask each : tasks) {
+                callBacks.add(new AsyncRpcNotifyCallBack(asyncNotifyService, each));
+            }
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return BATCH_SYNC_TIMEOUT;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterBatchSyncResponse response) {
+            ConfigChangeClusterSyncResponse itemResponse = new ConfigChangeClusterSyncResponse();
+            itemResponse.setResultCode(response.getResultCode());
+            itemResponse.setErrorCode(response.getErrorCode());
+            itemResponse.setMessage(response.getMessage());
+            for (AsyncRpcNotifyCallBack each : callBacks) {
+                each.onResponse(itemResponse);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            for (AsyncRpcNotifyCallBack each : callBacks) {
+                each.onException(ex);
+            }
+        }
+    }
+    
     /**
      * get delayTime and also set failCount to task; The failure time index increases, so as not to retry invalid tasks
      * in the offline scene, which affects the normal synchronization.
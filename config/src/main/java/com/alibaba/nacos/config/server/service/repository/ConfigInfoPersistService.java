@@ -322,6 +322,18 @@ public interface ConfigInfoPersistService {
      */
     Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final int pageSize, boolean needContent);
     
+    /**
+     * Query config info with id in (lastMaxId, maxId].
+     *
+     * @param lastMaxId   last max id
+     * @param maxId       max id of the query, inclusive
+     * @param pageSize    page size
+     * @param needContent need content or not.
+     * @return {@link Page} with {@link ConfigInfoWrapper} generation
+     */
+    Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final long maxId, final int pageSize,
+            boolean needContent);
+    
     /**
      * Query config info.
      *
@@ -396,6 +408,25 @@ public interface ConfigInfoPersistService {
      */
     ConfigInfoStateWrapper findConfigInfoState(final String dataId, final String group, final String tenant);
     
+    /**
+     * get config info states in batch, configs which not exist are absent in the result.
+     *
+     * <p>All keys are queried in one sql, callers should limit the count of keys, such as 100, because some databases
+     * like derby reject the sql with too many conditions.
+     *
+     * @param configKeys configs to query, only dataId, group and tenant are used.
+     * @return config info states.
+     */
+    List<ConfigInfoStateWrapper> findConfigInfoStates(List<ConfigInfoStateWrapper> configKeys);
+    
+    /**
+     * find config info with content by ids in batch, configs which not exist are absent in the result.
+     *
+     * @param ids id list.
+     * @return {@link ConfigInfoWrapper} list.
+     */
+    List<ConfigInfoWrapper> findConfigInfoWrappersByIds(List<Long> ids);
+    
     /**
      * query all configuration information according to group, appName, tenant (for export).
      *
@@ -791,11 +791,25 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final int pageSize,
             boolean needContent) {
-        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
-                TableConstant.CONFIG_INFO);
+        return findConfigInfoFragment(lastMaxId, null, pageSize, needContent);
+    }
+    
+    @Override
+    public Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final long maxId, final int pageSize,
+            boolean needContent) {
+        return findConfigInfoFragment(lastMaxId, maxId, pageSize, needContent);
+    }
+    
+    private Page<ConfigInfoWrapper> findConfigInfoFragment(final long lastMaxId, final Long maxId, final int pageSize,
+            boolean needContent) {
         MapperContext context = new MapperContext(0, pageSize);
         context.putContextParameter(ContextConstant.NEED_CONTENT, String.valueOf(needContent));
         context.putWhereParameter(FieldConstant.ID, lastMaxId);
+        if (maxId != null) {
+            context.putWhereParameter(FieldConstant.MAX_ID, maxId);
+        }
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
         MapperResult select = configInfoMapper.findAllConfigInfoFragment(context);
         PaginationHelper<ConfigInfoWrapper> helper = createPaginationHelper();
         return helper.fetchPageLimit(select.getSql(), select.getParamList().toArray(), 1, pageSize,
@@ -956,6 +970,44 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return configAdvance;
     }
     
+    @Override
+    public List<ConfigInfoStateWrapper> findConfigInfoStates(List<ConfigInfoStateWrapper> configKeys) {
+        if (CollectionUtils.isEmpty(configKeys)) {
+            return Collections.emptyList();
+        }
+        MapperContext context = new MapperContext();
+        List<String> dataIds = new ArrayList<>(configKeys.size());
+        List<String> groupIds = new ArrayList<>(configKeys.size());
+        List<String> tenantIds = new ArrayList<>(configKeys.size());
+        for (ConfigInfoStateWrapper each : configKeys) {
+            dataIds.add(each.getDataId());
+            groupIds.add(each.getGroup());
+            tenantIds.add(StringUtils.isBlank(each.getTenant()) ? StringUtils.EMPTY : each.getTenant());
+        }
+        context.putWhereParameter(FieldConstant.DATA_IDS, dataIds);
+        context.putWhereParameter(FieldConstant.GROUP_IDS, groupIds);
+        context.putWhereParameter(FieldConstant.TENANT_IDS, tenantIds);
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperResult mapperResult = configInfoMapper.findConfigInfoStatesByKeys(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER);
+    }
+    
+    @Override
+    public List<ConfigInfoWrapper> findConfigInfoWrappersByIds(List<Long> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.IDS, ids);
+        MapperResult mapperResult = configInfoMapper.findConfigInfoWrappersByIds(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_WRAPPER_ROW_MAPPER);
+    }
+    
     @Override
     public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids) {
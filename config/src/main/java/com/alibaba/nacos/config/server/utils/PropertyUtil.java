@@ -106,6 +106,17 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * The window to accumulate config changes syncing to the same member in one batch, unit is milliseconds, and
+     * values not greater than 0 disable batch sync.
+     */
+    private static long clusterSyncBatchWindow = 50L;
+    
+    /**
+     * The max count of config changes in one batch syncing to other member.
+     */
+    private static int clusterSyncBatchMaxSize = 500;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -122,6 +133,22 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static long getClusterSyncBatchWindow() {
+        return clusterSyncBatchWindow;
+    }
+    
+    public static void setClusterSyncBatchWindow(long clusterSyncBatchWindow) {
+        PropertyUtil.clusterSyncBatchWindow = clusterSyncBatchWindow;
+    }
+    
+    public static int getClusterSyncBatchMaxSize() {
+        return clusterSyncBatchMaxSize;
+    }
+    
+    public static void setClusterSyncBatchMaxSize(int clusterSyncBatchMaxSize) {
+        PropertyUtil.clusterSyncBatchMaxSize = clusterSyncBatchMaxSize;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -278,6 +305,8 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setClusterSyncBatchWindow(getLong(PropertiesConstant.CLUSTER_SYNC_BATCH_WINDOW, clusterSyncBatchWindow));
+            setClusterSyncBatchMaxSize(getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_MAX_SIZE, clusterSyncBatchMaxSize));
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
@@ -61,11 +61,20 @@ public class ConfigCommonConfigTest {
         commonConfig.setMaxPushRetryTimes(maxPushRetryTimesOld);
     }
     
+    @Test
+    public void testBatchNotifyDelay() {
+        assertEquals(50L, commonConfig.getBatchNotifyDelay());
+        commonConfig.setBatchNotifyDelay(0L);
+        assertEquals(0L, commonConfig.getBatchNotifyDelay());
+    }
+    
     @Test
     public void testUpgradeFromEvent() {
         environment.setProperty("nacos.config.push.maxRetryTime", "100");
+        environment.setProperty("nacos.config.push.batchNotifyDelay", "200");
         commonConfig.onEvent(ServerConfigChangeEvent.newEvent());
         assertEquals(100, commonConfig.getMaxPushRetryTimes());
+        assertEquals(200L, commonConfig.getBatchNotifyDelay());
     }
     
     @Test
@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigChangeClusterBatchSyncRequestHandlerTest {
+    
+    private ConfigChangeClusterBatchSyncRequestHandler handler;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Before
+    public void setUp() {
+        handler = new ConfigChangeClusterBatchSyncRequestHandler(dumpService);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testHandle() throws NacosException {
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        request.addConfigChangeItem("dataId1", "group", "tenant", null, 1L, false, false);
+        request.addConfigChangeItem("dataId2", "group", "tenant", "tag", 2L, true, false);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        ConfigChangeClusterBatchSyncResponse response = handler.handle(request, meta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        ArgumentCaptor<List<DumpRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dumpService).dump(captor.capture());
+        List<DumpRequest> dumpRequests = captor.getValue();
+        assertEquals(2, dumpRequests.size());
+        assertEquals("dataId1", dumpRequests.get(0).getDataId());
+        assertFalse(dumpRequests.get(0).isBeta());
+        assertEquals("1.1.1.1", dumpRequests.get(0).getSourceIp());
+        assertEquals("dataId2", dumpRequests.get(1).getDataId());
+        assertEquals("tag", dumpRequests.get(1).getTag());
+        assertEquals(2L, dumpRequests.get(1).getLastModifiedTs());
+        assertTrue(dumpRequests.get(1).isBeta());
+    }
+}
@@ -24,6 +24,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigChangeListenContextTest {
@@ -81,4 +85,71 @@ public class ConfigChangeListenContextTest {
         Assert.assertEquals("md5", listenKeyMd5);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConcurrentListenAndNotify() throws InterruptedException {
+        final int threads = 8;
+        final int connections = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < connections; j++) {
+                        String connectionId = index + "_" + j;
+                        configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                        configChangeListenContext.addListen("groupKey" + j, "md5", connectionId);
+                        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+                        for (String each : listeners) {
+                            Assert.assertNotNull(each);
+                        }
+                        if (j % 2 == 0) {
+                            configChangeListenContext.removeListen("groupKey" + j, connectionId);
+                        } else {
+                            configChangeListenContext.clearContextForConnectionId(connectionId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        Assert.assertEquals(threads * connections / 2, configChangeListenContext.getListeners("groupKey").size());
+        Assert.assertEquals(threads * connections / 2, configChangeListenContext.getConnectionCount());
+        for (int j = 0; j < connections; j++) {
+            Assert.assertNull(configChangeListenContext.getListeners("groupKey" + j));
+        }
+    }
+    
+    @Test
+    public void testConcurrentListenAndUnlistenSameKeyKeepConsistent() throws InterruptedException {
+        final int threads = 8;
+        final int rounds = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            final boolean listen = i % 2 == 0;
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < rounds; j++) {
+                        if (listen) {
+                            configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+                        } else {
+                            configChangeListenContext.removeListen("groupKey", "connectionId");
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        boolean listened = configChangeListenContext.getListenKeyMd5("connectionId", "groupKey") != null;
+        Assert.assertEquals(listened, listeners != null && listeners.contains("connectionId"));
+    }
+    
+}
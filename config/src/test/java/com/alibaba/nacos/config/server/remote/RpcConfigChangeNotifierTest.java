@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
@@ -30,9 +32,11 @@ import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,6 +44,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -49,6 +54,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 
@@ -83,6 +89,9 @@ public class RpcConfigChangeNotifierTest {
         envUtilMockedStatic.when(
                 () -> EnvUtil.getProperty(eq("nacos.config.push.maxRetryTime"), eq(Integer.class), anyInt()))
                 .thenReturn(3);
+        envUtilMockedStatic.when(
+                () -> EnvUtil.getProperty(eq("nacos.config.push.batchNotifyDelay"), eq(Long.class), anyLong()))
+                .thenReturn(50L);
         controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
         Mockito.when(ControlManagerCenter.getInstance()).thenReturn(controlManagerCenter);
         Mockito.when(ControlManagerCenter.getInstance().getTpsControlManager()).thenReturn(tpsControlManager);
@@ -140,6 +149,35 @@ public class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    public void testOnDataEventWithBatchNotify() throws InterruptedException {
+        final String groupKey1 = GroupKey2.getKey("dataId1", "group", "tenant");
+        final String groupKey2 = GroupKey2.getKey("dataId2", "group", "tenant");
+        GrpcConnection mockConn = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq("con1"))).thenReturn(mockConn);
+        Mockito.when(mockConn.getMetaInfo()).thenReturn(
+                new ConnectionMeta("con1", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.4.0", null,
+                        new HashMap<>()));
+        Mockito.when(mockConn.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName(), true));
+        Mockito.when(configChangeListenContext.getListeners(any())).thenReturn(Collections.singleton("con1"));
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class)))
+                .thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey2));
+        rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+        //wait batch notify delay and rpc push executed.
+        Thread.sleep(500L);
+        ArgumentCaptor<ConfigChangeBatchNotifyRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeBatchNotifyRequest.class);
+        Mockito.verify(rpcPushService, times(1)).pushWithCallback(eq("con1"), requestCaptor.capture(),
+                any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        Assert.assertEquals(2, requestCaptor.getValue().getChangedConfigs().size());
+        Assert.assertEquals("dataId1", requestCaptor.getValue().getChangedConfigs().get(0).getDataId());
+        Assert.assertEquals("dataId2", requestCaptor.getValue().getChangedConfigs().get(1).getDataId());
+    }
+    
     @Test
     public void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
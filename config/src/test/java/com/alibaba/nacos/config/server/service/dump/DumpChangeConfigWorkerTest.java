@@ -30,6 +30,10 @@ import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
 import com.alibaba.nacos.plugin.datasource.constants.CommonConstant;
+import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
+import com.alibaba.nacos.plugin.datasource.impl.derby.ConfigInfoMapperByDerby;
+import com.alibaba.nacos.plugin.datasource.model.MapperContext;
+import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.After;
 import org.junit.Assert;
@@ -43,8 +47,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -143,17 +153,17 @@ public class DumpChangeConfigWorkerTest {
                         .getConfigCache().getEncryptedDataKey());
         Mockito.when(historyConfigInfoPersistService.findDeletedConfig(eq(startTime), eq(0L), eq(3)))
                 .thenReturn(firstPageDeleted);
-        //mock delete config query is null
-        Mockito.when(
-                        configInfoPersistService.findConfigInfoState(eq(dataIdPrefix + 1), eq("group" + 1), eq("tenant" + 1)))
-                .thenReturn(null);
-        Mockito.when(
-                        configInfoPersistService.findConfigInfoState(eq(dataIdPrefix + 2), eq("group" + 2), eq("tenant" + 2)))
-                .thenReturn(null);
+        //mock delete config query, only id3 still exists
+        Mockito.when(configInfoPersistService.findConfigInfoStates(eq(firstPageDeleted)))
+                .thenReturn(Collections.singletonList(firstPageDeleted.get(2)));
+        preSetCache(dataIdPrefix, 3, System.currentTimeMillis());
         dumpChangeConfigWorker.run();
         
-        //expect delete page return pagesize and will select second page
-        Mockito.verify(historyConfigInfoPersistService, times(1)).findDeletedConfig(eq(startTime), eq(3L), eq(3));
+        //expect delete page return pagesize and will select second page with larger page size
+        Mockito.verify(historyConfigInfoPersistService, times(1)).findDeletedConfig(eq(startTime), eq(3L), eq(6));
+        //expect existed config not to be removed.
+        Assert.assertNotNull(
+                ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataIdPrefix + 3, "group" + 3, "tenant" + 3)));
         //expect cache to be cleared.
         Assert.assertNull(
                 ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataIdPrefix + 1, "group" + 1, "tenant" + 1)));
@@ -183,8 +193,8 @@ public class DumpChangeConfigWorkerTest {
         ConfigInfoWrapper configInfoWrapperNewForId1 = createConfigInfoWrapper(dataIdPrefix, 1,
                 startTime.getTime() + 2);
         configInfoWrapperNewForId1.setContent("content" + System.currentTimeMillis());
-        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataIdPrefix + 1), eq("group" + 1), eq("tenant" + 1)))
-                .thenReturn(configInfoWrapperNewForId1);
+        Mockito.when(configInfoPersistService.findConfigInfoWrappersByIds(eq(Collections.singletonList(1L))))
+                .thenReturn(Collections.singletonList(configInfoWrapperNewForId1));
         
         dumpChangeConfigWorker.run();
         
@@ -220,8 +230,8 @@ public class DumpChangeConfigWorkerTest {
         //1 timestamp-new&content-old
         ConfigInfoWrapper configInfoWrapperNewForId1 = createConfigInfoWrapper(dataIdPrefix, 1,
                 startTime.getTime() + 2);
-        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataIdPrefix + 1), eq("group" + 1), eq("tenant" + 1)))
-                .thenReturn(configInfoWrapperNewForId1);
+        Mockito.when(configInfoPersistService.findConfigInfoWrappersByIds(eq(Collections.singletonList(1L))))
+                .thenReturn(Collections.singletonList(configInfoWrapperNewForId1));
         
         dumpChangeConfigWorker.run();
         
@@ -260,8 +270,8 @@ public class DumpChangeConfigWorkerTest {
         ConfigInfoWrapper configInfoWrapperNewForId1 = createConfigInfoWrapper(dataIdPrefix, 1,
                 startTime.getTime() - 2);
         configInfoWrapperNewForId1.setContent("content" + System.currentTimeMillis());
-        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataIdPrefix + 1), eq("group" + 1), eq("tenant" + 1)))
-                .thenReturn(configInfoWrapperNewForId1);
+        Mockito.when(configInfoPersistService.findConfigInfoWrappersByIds(eq(Collections.singletonList(1L))))
+                .thenReturn(Collections.singletonList(configInfoWrapperNewForId1));
         
         dumpChangeConfigWorker.run();
         
@@ -300,8 +310,8 @@ public class DumpChangeConfigWorkerTest {
         ConfigInfoWrapper configInfoWrapperNewForId1 = createConfigInfoWrapper(dataIdPrefix, 1,
                 startTime.getTime() - 1);
         configInfoWrapperNewForId1.setContent("content" + System.currentTimeMillis());
-        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataIdPrefix + 1), eq("group" + 1), eq("tenant" + 1)))
-                .thenReturn(configInfoWrapperNewForId1);
+        Mockito.when(configInfoPersistService.findConfigInfoWrappersByIds(eq(Collections.singletonList(1L))))
+                .thenReturn(Collections.singletonList(configInfoWrapperNewForId1));
         
         dumpChangeConfigWorker.run();
         
@@ -315,6 +325,112 @@ public class DumpChangeConfigWorkerTest {
         
     }
     
+    @Test
+    public void testDumpChangeOfChangedConfigsInParallelBatches() {
+        PropertyUtil.setDumpChangeOn(true);
+        dumpChangeConfigWorker.setPageSize(1000);
+        Timestamp startTime = dumpChangeConfigWorker.startTime;
+        String dataIdPrefix = "dataIdParallelBatches";
+        List<ConfigInfoStateWrapper> changed = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            changed.add(createConfigInfoStateWrapper(dataIdPrefix, i, startTime.getTime() + 1));
+        }
+        Mockito.when(configInfoPersistService.findChangeConfig(eq(startTime), eq(0L), eq(1000))).thenReturn(changed);
+        Mockito.when(configInfoPersistService.findConfigInfoWrappersByIds(any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            List<ConfigInfoWrapper> result = new ArrayList<>();
+            for (Long each : ids) {
+                result.add(createConfigInfoWrapper(dataIdPrefix, each, startTime.getTime() + 1));
+            }
+            return result;
+        });
+        
+        dumpChangeConfigWorker.run();
+        
+        // 250 changed configs are fetched in 3 batches.
+        Mockito.verify(configInfoPersistService, times(3)).findConfigInfoWrappersByIds(any());
+        for (int i = 1; i <= 250; i++) {
+            Assert.assertEquals(startTime.getTime() + 1, ConfigCacheService.getContentCache(
+                            GroupKey.getKeyTenant(dataIdPrefix + i, "group" + i, "tenant" + i)).getConfigCache()
+                    .getLastModifiedTs());
+        }
+    }
+    
+    @Test
+    public void testDumpChangeOfDeleteConfigsOnDerby() throws Exception {
+        PropertyUtil.setDumpChangeOn(true);
+        dumpChangeConfigWorker.setPageSize(100);
+        Timestamp startTime = dumpChangeConfigWorker.startTime;
+        String dataIdPrefix = "dataIdDeletedOnDerby";
+        List<ConfigInfoStateWrapper> deleted = new ArrayList<>();
+        for (int i = 1; i <= 700; i++) {
+            deleted.add(createConfigInfoStateWrapper(dataIdPrefix, i, startTime.getTime() + 1));
+        }
+        // pages of 100, 200 and 400 deleted configs, the last page is larger than derby could check in one sql.
+        Mockito.when(historyConfigInfoPersistService.findDeletedConfig(eq(startTime), eq(0L), eq(100)))
+                .thenReturn(deleted.subList(0, 100));
+        Mockito.when(historyConfigInfoPersistService.findDeletedConfig(eq(startTime), eq(100L), eq(200)))
+                .thenReturn(deleted.subList(100, 300));
+        Mockito.when(historyConfigInfoPersistService.findDeletedConfig(eq(startTime), eq(300L), eq(400)))
+                .thenReturn(deleted.subList(300, 700));
+        try (Connection connection = DriverManager.getConnection("jdbc:derby:memory:dumpChangeTest;create=true")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE config_info (id BIGINT, data_id VARCHAR(255), group_id VARCHAR(128), "
+                        + "tenant_id VARCHAR(128), gmt_modified TIMESTAMP)");
+                // config 500 is created again after deleted.
+                statement.execute("INSERT INTO config_info VALUES (500, '" + dataIdPrefix
+                        + "500', 'group500', 'tenant500', CURRENT_TIMESTAMP)");
+            }
+            Mockito.when(configInfoPersistService.findConfigInfoStates(any()))
+                    .thenAnswer(invocation -> queryConfigInfoStatesOnDerby(connection, invocation.getArgument(0)));
+            preSetCache(dataIdPrefix, 400, System.currentTimeMillis());
+            preSetCache(dataIdPrefix, 500, System.currentTimeMillis());
+            
+            dumpChangeConfigWorker.run();
+            
+            Assert.assertTrue(dumpChangeConfigWorker.startTime.after(startTime));
+            Assert.assertNull(ConfigCacheService.getContentCache(
+                    GroupKey.getKeyTenant(dataIdPrefix + 400, "group" + 400, "tenant" + 400)));
+            Assert.assertNotNull(ConfigCacheService.getContentCache(
+                    GroupKey.getKeyTenant(dataIdPrefix + 500, "group" + 500, "tenant" + 500)));
+        }
+    }
+    
+    private List<ConfigInfoStateWrapper> queryConfigInfoStatesOnDerby(Connection connection,
+            List<ConfigInfoStateWrapper> configKeys) throws Exception {
+        MapperContext context = new MapperContext();
+        List<String> dataIds = new ArrayList<>();
+        List<String> groupIds = new ArrayList<>();
+        List<String> tenantIds = new ArrayList<>();
+        for (ConfigInfoStateWrapper each : configKeys) {
+            dataIds.add(each.getDataId());
+            groupIds.add(each.getGroup());
+            tenantIds.add(each.getTenant());
+        }
+        context.putWhereParameter(FieldConstant.DATA_IDS, dataIds);
+        context.putWhereParameter(FieldConstant.GROUP_IDS, groupIds);
+        context.putWhereParameter(FieldConstant.TENANT_IDS, tenantIds);
+        MapperResult mapperResult = new ConfigInfoMapperByDerby().findConfigInfoStatesByKeys(context);
+        List<ConfigInfoStateWrapper> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(mapperResult.getSql())) {
+            List<Object> params = mapperResult.getParamList();
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ConfigInfoStateWrapper each = new ConfigInfoStateWrapper();
+                    each.setId(resultSet.getLong("id"));
+                    each.setDataId(resultSet.getString("data_id"));
+                    each.setGroup(resultSet.getString("group_id"));
+                    each.setTenant(resultSet.getString("tenant_id"));
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private void preSetCache(String dataIdPrefix, long id, long timeStamp) {
         ConfigCacheService.dumpWithMd5(dataIdPrefix + id, "group" + id, "tenant" + id, "content" + id,
                 MD5Utils.md5Hex("content" + id, "UTF-8"), timeStamp, "json", "encrykey" + id);
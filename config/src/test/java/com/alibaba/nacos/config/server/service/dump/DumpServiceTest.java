@@ -189,7 +189,8 @@ public class DumpServiceTest {
         dumpService.dumpOperate();
         
         // expect dump
-        Mockito.verify(configInfoPersistService, times(1)).findAllConfigInfoFragment(0, 100, true);
+        Mockito.verify(configInfoPersistService, times(1))
+                .findAllConfigInfoFragment(eq(0L), anyLong(), eq(100), eq(true));
         Mockito.verify(configInfoPersistService, times(1)).findConfigMaxId();
         Mockito.verify(configInfoBetaPersistService, times(1)).configInfoBetaCount();
         Mockito.verify(configInfoTagPersistService, times(1)).configInfoTagCount();
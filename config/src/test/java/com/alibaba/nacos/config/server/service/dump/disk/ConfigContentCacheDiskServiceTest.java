@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigContentCacheDiskServiceTest {
+    
+    @Mock
+    private ConfigDiskService delegate;
+    
+    private ConfigContentCacheDiskService contentCacheDiskService;
+    
+    @Before
+    public void setUp() {
+        contentCacheDiskService = new ConfigContentCacheDiskService(delegate, 1024 * 1024);
+    }
+    
+    @Test
+    public void testGetContentFromCacheAfterSave() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "content");
+        verify(delegate).saveToDisk("dataId", "group", "tenant", "content");
+        assertEquals("content", contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, never()).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    public void testGetContentLoadFromDelegateOnce() throws IOException {
+        when(delegate.getContent("dataId", "group", "")).thenReturn("content");
+        assertEquals("content", contentCacheDiskService.getContent("dataId", "group", ""));
+        assertEquals("content", contentCacheDiskService.getContent("dataId", "group", ""));
+        verify(delegate, times(1)).getContent("dataId", "group", "");
+    }
+    
+    @Test
+    public void testNotExistContentNotCached() throws IOException {
+        assertNull(contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        assertNull(contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    public void testEmptyContent() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "");
+        assertEquals("", contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        verify(delegate, never()).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    public void testBetaAndTagIsolated() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "formal");
+        contentCacheDiskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        contentCacheDiskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        assertEquals("formal", contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        assertEquals("beta", contentCacheDiskService.getBetaContent("dataId", "group", "tenant"));
+        assertEquals("tagContent", contentCacheDiskService.getTagContent("dataId", "group", "tenant", "tag"));
+        assertNull(contentCacheDiskService.getTagContent("dataId", "group", "tenant", "tag2"));
+        verify(delegate).getTagContent("dataId", "group", "tenant", "tag2");
+    }
+    
+    @Test
+    public void testRemove() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "formal");
+        contentCacheDiskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        contentCacheDiskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        contentCacheDiskService.removeConfigInfo("dataId", "group", "tenant");
+        contentCacheDiskService.removeConfigInfo4Beta("dataId", "group", "tenant");
+        contentCacheDiskService.removeConfigInfo4Tag("dataId", "group", "tenant", "tag");
+        verify(delegate).removeConfigInfo("dataId", "group", "tenant");
+        verify(delegate).removeConfigInfo4Beta("dataId", "group", "tenant");
+        verify(delegate).removeConfigInfo4Tag("dataId", "group", "tenant", "tag");
+        assertNull(contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        assertNull(contentCacheDiskService.getBetaContent("dataId", "group", "tenant"));
+        assertNull(contentCacheDiskService.getTagContent("dataId", "group", "tenant", "tag"));
+    }
+    
+    @Test
+    public void testSaveFailedInvalidateCache() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "old");
+        IOException exception = new IOException("No space left on device");
+        doThrow(exception).when(delegate).saveToDisk("dataId", "group", "tenant", "new");
+        try {
+            contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "new");
+        } catch (IOException e) {
+            assertEquals(exception, e);
+        }
+        when(delegate.getContent("dataId", "group", "tenant")).thenReturn("old");
+        assertEquals("old", contentCacheDiskService.getContent("dataId", "group", "tenant"));
+        verify(delegate).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    public void testClear() throws IOException {
+        contentCacheDiskService.saveToDisk("dataId", "group", "tenant", "formal");
+        contentCacheDiskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        contentCacheDiskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        contentCacheDiskService.clearAllBeta();
+        assertEquals(2, contentCacheDiskService.size());
+        contentCacheDiskService.clearAllTag();
+        assertEquals(1, contentCacheDiskService.size());
+        contentCacheDiskService.clearAll();
+        assertEquals(0, contentCacheDiskService.size());
+        verify(delegate).clearAll();
+        verify(delegate).clearAllBeta();
+        verify(delegate).clearAllTag();
+    }
+    
+    @Test
+    public void testEvictionBoundedByBytes() throws IOException {
+        contentCacheDiskService = new ConfigContentCacheDiskService(delegate, 1024);
+        for (int i = 0; i < 100; i++) {
+            contentCacheDiskService.saveToDisk("dataId" + i, "group", "tenant", "content" + i);
+        }
+        assertTrue(contentCacheDiskService.size() < 100);
+        assertEquals("content99", contentCacheDiskService.getContent("dataId99", "group", "tenant"));
+    }
+}
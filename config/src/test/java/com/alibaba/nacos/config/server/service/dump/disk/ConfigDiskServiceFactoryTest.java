@@ -52,6 +52,26 @@ public class ConfigDiskServiceFactoryTest {
         Assert.assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    public void getMmapDiskInstance() {
+        System.setProperty("config_disk_type", "mmapdisk");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        Assert.assertTrue(instance instanceof ConfigMmapDiskService);
+    }
+    
+    @Test
+    public void getContentCacheDiskInstance() {
+        System.setProperty("config_disk_type", "rawdisk");
+        System.setProperty("config_content_cache_max_bytes", "1024");
+        try {
+            ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+            Assert.assertTrue(instance instanceof ConfigContentCacheDiskService);
+            Assert.assertTrue(((ConfigContentCacheDiskService) instance).getDelegate() instanceof ConfigRawDiskService);
+        } finally {
+            System.clearProperty("config_content_cache_max_bytes");
+        }
+    }
+    
     @Test
     public void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MmapSegmentStoreTest {
+    
+    private static final int SEGMENT_SIZE = 1024;
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private File dir;
+    
+    @Before
+    public void setUp() throws IOException {
+        dir = temporaryFolder.newFolder("segments");
+    }
+    
+    @Test
+    public void testPutGetRemove() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        store.put("key1", bytes("value1"));
+        store.put("key2", bytes("value2"));
+        store.put("key1", bytes("value1-new"));
+        store.remove("key2");
+        store.remove("notExist");
+        assertArrayEquals(bytes("value1-new"), store.get("key1"));
+        assertNull(store.get("key2"));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    public void testPutLargerThanSegment() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        byte[] value = new byte[SEGMENT_SIZE * 2];
+        value[SEGMENT_SIZE] = 1;
+        store.put("key", value);
+        store.put("key2", bytes("value2"));
+        assertArrayEquals(value, store.get("key"));
+        assertArrayEquals(bytes("value2"), store.get("key2"));
+    }
+    
+    @Test
+    public void testRecover() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, bytes("value" + i));
+        }
+        store.remove("key0");
+        store.put("key1", bytes("value1-new"));
+        MmapSegmentStore recovered = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals(99, recovered.size());
+        assertNull(recovered.get("key0"));
+        assertArrayEquals(bytes("value1-new"), recovered.get("key1"));
+        assertArrayEquals(bytes("value99"), recovered.get("key99"));
+        assertEquals(store.getWrittenBytes(), recovered.getWrittenBytes());
+        assertEquals(store.getLiveBytes(), recovered.getLiveBytes());
+        recovered.put("key100", bytes("value100"));
+        assertArrayEquals(bytes("value100"), new MmapSegmentStore(dir, SEGMENT_SIZE).get("key100"));
+    }
+    
+    @Test
+    public void testRecoverWithBrokenRecord() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        store.put("key1", bytes("value1"));
+        store.put("key2", bytes("value2"));
+        File[] files = dir.listFiles();
+        assertEquals(1, files.length);
+        try (RandomAccessFile file = new RandomAccessFile(files[0], "rw")) {
+            // break the last byte of value2.
+            file.seek(store.getWrittenBytes() - 1);
+            file.write('x');
+        }
+        MmapSegmentStore recovered = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertArrayEquals(bytes("value1"), recovered.get("key1"));
+        assertNull(recovered.get("key2"));
+        recovered.put("key3", bytes("value3"));
+        assertArrayEquals(bytes("value3"), new MmapSegmentStore(dir, SEGMENT_SIZE).get("key3"));
+    }
+    
+    @Test
+    public void testCompact() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertFalse(store.compact());
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + (i % 10), bytes("value" + i));
+        }
+        int segmentsBefore = dir.listFiles().length;
+        assertTrue(segmentsBefore > 1);
+        assertTrue(store.compact());
+        assertEquals(store.getLiveBytes(), store.getWrittenBytes());
+        assertTrue(dir.listFiles().length < segmentsBefore);
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(bytes("value" + (90 + i)), store.get("key" + i));
+        }
+        MmapSegmentStore recovered = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals(10, recovered.size());
+        assertArrayEquals(bytes("value95"), recovered.get("key5"));
+    }
+    
+    @Test
+    public void testClear() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        store.put("key1", bytes("value1"));
+        store.clear();
+        assertNull(store.get("key1"));
+        store.put("key2", bytes("value2"));
+        MmapSegmentStore recovered = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertNull(recovered.get("key1"));
+        assertArrayEquals(bytes("value2"), recovered.get("key2"));
+    }
+    
+    @Test
+    public void testClose() throws IOException {
+        MmapSegmentStore store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, bytes("value" + i));
+        }
+        store.close();
+        assertNull(store.get("key1"));
+        try {
+            store.put("key1", bytes("value1-new"));
+            fail("put to closed store should fail");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("closed"));
+        }
+        assertFalse(store.compact());
+        MmapSegmentStore recovered = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals(100, recovered.size());
+        assertArrayEquals(bytes("value1"), recovered.get("key1"));
+    }
+    
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.ExternalDumpService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -137,7 +138,7 @@ public class DumpAllProcessorTest extends TestCase {
         page.setPageItems(list);
         
         Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L);
-        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), true))
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, 2L, PropertyUtil.getAllDumpPageSize(), true))
                 .thenReturn(page);
         
         // For config 1, assign a latter time, to make sure that it would be updated.
@@ -206,7 +207,7 @@ public class DumpAllProcessorTest extends TestCase {
         page.setPageItems(list);
         
         Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L);
-        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), false))
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, 2L, PropertyUtil.getAllDumpPageSize(), false))
                 .thenReturn(page);
         
         ConfigInfoWrapper configInfoWrapperSingle1 = new ConfigInfoWrapper();
@@ -269,5 +270,34 @@ public class DumpAllProcessorTest extends TestCase {
                         configInfoWrapper2.getTenant());
         Assert.assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
     }
-
+    
+    @Test
+    public void testDumpAllOnStartUpByPartitions() {
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        int partitionCount = Math.min(2, Runtime.getRuntime().availableProcessors());
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L * pageSize);
+        
+        Assert.assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        long partitionSize = 2L * pageSize / partitionCount;
+        for (int i = 0; i < partitionCount; i++) {
+            Mockito.verify(configInfoPersistService)
+                    .findAllConfigInfoFragment(i * partitionSize, (i + 1) * partitionSize, pageSize, true);
+        }
+        Assert.assertEquals(0, MetricsMonitor.getDumpAllPartitionMonitor().get());
+    }
+    
+    @Test
+    public void testDumpAllOnStartUpByPartitionsFailed() {
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L * pageSize);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(Mockito.anyLong(), Mockito.anyLong(),
+                Mockito.eq(pageSize), Mockito.eq(true))).thenThrow(new IllegalStateException("db error"));
+        try {
+            dumpAllProcessor.process(new DumpAllTask(true));
+            Assert.fail("dump all should fail if any partition failed");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("db error", e.getMessage());
+        }
+    }
 }
@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -33,6 +35,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -46,6 +49,7 @@ import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -230,4 +234,80 @@ public class AsyncNotifyServiceTest {
                         any(TimeUnit.class)), times(2));
         
     }
+    
+    @Test
+    public void testExecuteAsyncRpcTaskInBatch() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        Queue<AsyncNotifyService.NotifySingleRpcTask> rpcQueue = new LinkedList<>();
+        rpcQueue.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId1", "testGroup", null, null, timeStamp,
+                false, false, member1));
+        rpcQueue.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId2", "testGroup", null, "tag", timeStamp,
+                false, false, member1));
+        
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        Mockito.when(configClusterRpcClientProxy.isSupportBatchSync(eq(member1))).thenReturn(true);
+        ArgumentCaptor<Runnable> batchCaptor = ArgumentCaptor.forClass(Runnable.class);
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(batchCaptor.capture(), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> null);
+        
+        asyncNotifyService.executeAsyncRpcTask(rpcQueue);
+        
+        // changes are accumulated and only one flush is scheduled.
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)),
+                times(1));
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChange(eq(member1), any(ConfigChangeClusterSyncRequest.class), any(RequestCallBack.class));
+        
+        batchCaptor.getValue().run();
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeClusterBatchSyncRequest.class);
+        Mockito.verify(configClusterRpcClientProxy, times(1))
+                .syncConfigChanges(eq(member1), requestCaptor.capture(), any(RequestCallBack.class));
+        assertEquals(2, requestCaptor.getValue().getConfigChangeItems().size());
+        assertEquals("testDataId1", requestCaptor.getValue().getConfigChangeItems().get(0).getDataId());
+        assertEquals("tag", requestCaptor.getValue().getConfigChangeItems().get(1).getTag());
+    }
+    
+    @Test
+    public void testSyncConfigChangesCallback() {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        final AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        List<AsyncNotifyService.NotifySingleRpcTask> tasks = new ArrayList<>();
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId1", "testGroup", null, null, 0, false, false,
+                member1));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId2", "testGroup", null, null, 0, false, false,
+                member1));
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> null);
+        AsyncNotifyService.AsyncRpcBatchNotifyCallBack callBack = new AsyncNotifyService.AsyncRpcBatchNotifyCallBack(
+                asyncNotifyService, tasks);
+        ConfigChangeClusterBatchSyncResponse response = new ConfigChangeClusterBatchSyncResponse();
+        //1. success response
+        callBack.onResponse(response);
+        //2. fail response
+        response.setResultCode(500);
+        callBack.onResponse(response);
+        //3. exception
+        callBack.onException(new NacosException());
+        
+        // expect each task retried individually for fail and exception response.
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(4));
+        assertEquals(2, tasks.get(0).getFailCount());
+        assertEquals(2, tasks.get(1).getFailCount());
+    }
 }
@@ -975,6 +975,44 @@ public class ExternalConfigInfoPersistServiceImplTest {
         }
     }
     
+    @Test
+    public void testFindConfigInfoStates() {
+        ConfigInfoStateWrapper key1 = new ConfigInfoStateWrapper();
+        key1.setDataId("dataId1");
+        key1.setGroup("group1");
+        ConfigInfoStateWrapper key2 = new ConfigInfoStateWrapper();
+        key2.setDataId("dataId2");
+        key2.setGroup("group2");
+        key2.setTenant("tenant2");
+        List<ConfigInfoStateWrapper> result = new ArrayList<>();
+        result.add(key2);
+        when(jdbcTemplate.query(anyString(), eq(new Object[] {"dataId1", "group1", "", "dataId2", "group2", "tenant2"}),
+                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(result);
+        List<ConfigInfoStateWrapper> states = externalConfigInfoPersistService.findConfigInfoStates(Arrays.asList(key1, key2));
+        Assert.assertEquals(1, states.size());
+        Assert.assertEquals("dataId2", states.get(0).getDataId());
+        
+        //empty keys.
+        Assert.assertTrue(externalConfigInfoPersistService.findConfigInfoStates(new ArrayList<>()).isEmpty());
+    }
+    
+    @Test
+    public void testFindConfigInfoWrappersByIds() {
+        List<ConfigInfoWrapper> result = new ArrayList<>();
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId("dataId1");
+        configInfoWrapper.setContent("content1");
+        result.add(configInfoWrapper);
+        when(jdbcTemplate.query(anyString(), eq(new Object[] {123L, 1232345L}), eq(CONFIG_INFO_WRAPPER_ROW_MAPPER))).thenReturn(
+                result);
+        List<ConfigInfoWrapper> wrappers = externalConfigInfoPersistService.findConfigInfoWrappersByIds(Arrays.asList(123L, 1232345L));
+        Assert.assertEquals(1, wrappers.size());
+        Assert.assertEquals("content1", wrappers.get(0).getContent());
+        
+        //empty ids.
+        Assert.assertTrue(externalConfigInfoPersistService.findConfigInfoWrappersByIds(new ArrayList<>()).isEmpty());
+    }
+    
     @Test
     public void testFindConfigInfosByIds() {
         
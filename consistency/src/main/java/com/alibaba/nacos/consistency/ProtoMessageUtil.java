@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.consistency;
 
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
 import com.alibaba.nacos.consistency.entity.GetRequest;
 import com.alibaba.nacos.consistency.entity.Log;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
@@ -39,6 +40,8 @@ public class ProtoMessageUtil {
     
     public static final int REQUEST_TYPE_WRITE = 2;
     
+    public static final int REQUEST_TYPE_BATCH_WRITE = 3;
+    
     /**
      * Converts the byte array to a specific Protobuf object.
      * Internally, the protobuf new and old objects are compatible.
@@ -52,6 +55,8 @@ public class ProtoMessageUtil {
             if (bytes[0] == REQUEST_TYPE_FIELD_TAG) {
                 if (bytes[1] == REQUEST_TYPE_READ) {
                     result = ReadRequest.parseFrom(bytes);
+                } else if (bytes[1] == REQUEST_TYPE_BATCH_WRITE) {
+                    result = BatchWriteRequest.parseFrom(bytes);
                 } else {
                     result = WriteRequest.parseFrom(bytes);
                 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+/**
+ * Consistency level of read request in CP protocol, carried by extend info of read request.
+ *
+ * @author agent
+ */
+public enum ReadConsistency {
+    /**
+     * Linearizable read by read index, confirmed by heartbeat with majority.
+     */
+    LINEARIZABLE,
+    /**
+     * Linearizable read by read index, confirmed by the lease of leader, it depends on the clock of leader.
+     */
+    LEASE,
+    /**
+     * Read from local state machine directly if the applied log doesn't lag behind the known committed log too much,
+     * the result may be stale. The lag is measured against the committed log known by the local node only, so a
+     * node partitioned from the leader may serve data of any age until it notices the lost leader.
+     */
+    STALE;
+    
+    /**
+     * Key of read consistency in extend info of read request.
+     */
+    public static final String EXTEND_INFO_KEY = "readConsistency";
+    
+    /**
+     * Parse read consistency from name.
+     *
+     * @param name         name of read consistency, case-insensitive
+     * @param defaultValue default value if name is blank or unknown
+     * @return read consistency
+     */
+    public static ReadConsistency of(String name, ReadConsistency defaultValue) {
+        if (null == name) {
+            return defaultValue;
+        }
+        for (ReadConsistency each : values()) {
+            if (each.name().equalsIgnoreCase(name.trim())) {
+                return each;
+            }
+        }
+        return defaultValue;
+    }
+}
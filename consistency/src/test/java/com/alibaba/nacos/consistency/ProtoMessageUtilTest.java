@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.consistency;
 
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
 import com.alibaba.nacos.consistency.entity.GetRequest;
 import com.alibaba.nacos.consistency.entity.Log;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
@@ -78,6 +79,29 @@ public class ProtoMessageUtilTest {
         assertEquals(data, ((WriteRequest) actual).getData());
     }
     
+    @Test
+    public void testParseBatchWriteRequestWithRequestTypeField() {
+        String group = "test";
+        ByteString data = ByteString.copyFrom("data".getBytes());
+        WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group).setData(data).build();
+        BatchWriteRequest testCase = BatchWriteRequest.newBuilder().setGroup(group).addRequests(writeRequest)
+                .addRequests(writeRequest).build();
+        
+        byte[] requestTypeFieldBytes = new byte[2];
+        requestTypeFieldBytes[0] = ProtoMessageUtil.REQUEST_TYPE_FIELD_TAG;
+        requestTypeFieldBytes[1] = ProtoMessageUtil.REQUEST_TYPE_BATCH_WRITE;
+        
+        byte[] dataBytes = testCase.toByteArray();
+        ByteBuffer byteBuffer = (ByteBuffer) ByteBuffer.allocate(requestTypeFieldBytes.length + dataBytes.length)
+                .put(requestTypeFieldBytes).put(dataBytes).position(0);
+        
+        Object actual = ProtoMessageUtil.parse(byteBuffer.array());
+        assertEquals(BatchWriteRequest.class, actual.getClass());
+        assertEquals(group, ((BatchWriteRequest) actual).getGroup());
+        assertEquals(2, ((BatchWriteRequest) actual).getRequestsCount());
+        assertEquals(data, ((BatchWriteRequest) actual).getRequests(1).getData());
+    }
+    
     @Test
     public void testParseReadRequest() {
         String group = "test";
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.cluster.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RemoteConstants;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -243,4 +245,19 @@ public class ClusterRpcClientProxy extends MemberChangeListener {
         }
         return client.isRunning();
     }
+    
+    /**
+     * Get ability of the connection to member.
+     *
+     * @param member     member
+     * @param abilityKey ability key
+     * @return ability status, return null if client or connection for member is not ready
+     */
+    public AbilityStatus getConnectionAbility(Member member, AbilityKey abilityKey) {
+        RpcClient client = RpcClientFactory.getClient(memberClientKey(member));
+        if (null == client) {
+            return null;
+        }
+        return client.getConnectionAbility(abilityKey);
+    }
 }
@@ -55,6 +55,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digest.enabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digest_enabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +73,10 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_SIZE = "nacos.core.protocol.distro.data.load.chunkSize";
+    
+    public static final String DATA_LOAD_CHUNK_SIZE_STATE = "data_load_chunkSize";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_SIZE = 1000;
+    
 }
@@ -26,15 +26,19 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
+import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyExecuteTask;
 import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyTimedTask;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -135,6 +139,22 @@ public class DistroProtocol {
         }
     }
     
+    /**
+     * Start to verify data to target server.
+     *
+     * @param type         type of verify data
+     * @param verifyData   verify data
+     * @param targetServer target server
+     */
+    public void verifyToTarget(String type, List<DistroData> verifyData, String targetServer) {
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        if (null == transportAgent || verifyData.isEmpty()) {
+            return;
+        }
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(targetServer + type,
+                new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, type));
+    }
+    
     /**
      * Query data from specified server.
      *
@@ -224,4 +244,21 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query chunk of datum snapshot.
+     *
+     * @param type       datum type
+     * @param chunkIndex index of chunk
+     * @param chunkCount count of chunks, {@code -1} means decided by data storage, {@code 0} means whole snapshot
+     * @return chunk of datum snapshot
+     */
+    public DistroSnapshotChunk onSnapshotChunk(String type, int chunkIndex, int chunkCount) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroSnapshotChunk(new DistroData(new DistroKey("snapshot", type), new byte[0]), 0, 1);
+        }
+        return distroDataStorage.getDatumSnapshotChunk(chunkIndex, chunkCount);
+    }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
 import java.util.List;
 
@@ -57,6 +58,17 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get chunk of distro datum snapshot.
+     *
+     * @param chunkIndex index of chunk
+     * @param chunkCount count of chunks, {@code -1} means decided by current storage, {@code 0} means whole snapshot
+     * @return chunk of datum snapshot
+     */
+    default DistroSnapshotChunk getDatumSnapshotChunk(int chunkIndex, int chunkCount) {
+        return new DistroSnapshotChunk(getDatumSnapshot(), 0, 1);
+    }
+    
     /**
      * Get verify datum.
      *
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
 /**
  * Distro transport agent.
@@ -89,4 +90,25 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Whether support getting datum snapshot by chunks.
+     *
+     * @return {@code true} if support, otherwise {@code false}
+     */
+    default boolean supportChunkedSnapshot() {
+        return false;
+    }
+    
+    /**
+     * Get chunk of datum snapshot from target server.
+     *
+     * @param targetServer target server
+     * @param chunkIndex   index of chunk
+     * @param chunkCount   count of chunks, {@code -1} means decided by target server, {@code 0} means whole snapshot
+     * @return chunk of datum snapshot, which also carries the count of chunks
+     */
+    default DistroSnapshotChunk getDatumSnapshotChunk(String targetServer, int chunkIndex, int chunkCount) {
+        return new DistroSnapshotChunk(getDatumSnapshot(targetServer), 0, 1);
+    }
 }
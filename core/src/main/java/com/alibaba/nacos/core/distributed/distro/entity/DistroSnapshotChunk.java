@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+/**
+ * Chunk of distro datum snapshot.
+ *
+ * @author agent
+ */
+public class DistroSnapshotChunk {
+    
+    /**
+     * Chunk count in request which means the count of chunks is decided by target server.
+     */
+    public static final int CHUNK_COUNT_DECIDED_BY_TARGET = -1;
+    
+    /**
+     * Chunk count in request which means the whole snapshot is required, such as the request from old servers.
+     */
+    public static final int CHUNK_COUNT_WHOLE_SNAPSHOT = 0;
+    
+    private final DistroData data;
+    
+    private final int chunkIndex;
+    
+    private final int chunkCount;
+    
+    public DistroSnapshotChunk(DistroData data, int chunkIndex, int chunkCount) {
+        this.data = data;
+        this.chunkIndex = chunkIndex;
+        this.chunkCount = chunkCount;
+    }
+    
+    public DistroData getData() {
+        return data;
+    }
+    
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+}
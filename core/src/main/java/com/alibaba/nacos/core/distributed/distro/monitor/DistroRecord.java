@@ -36,12 +36,17 @@ public class DistroRecord {
     
     private final AtomicInteger failedVerifyCount;
     
+    private final AtomicInteger loadedSnapshotChunkCount;
+    
+    private volatile int totalSnapshotChunkCount;
+    
     public DistroRecord(String type) {
         this.type = type;
         this.totalSyncCount = new AtomicLong();
         this.successfulSyncCount = new AtomicLong();
         this.failedSyncCount = new AtomicLong();
         this.failedVerifyCount = new AtomicInteger();
+        this.loadedSnapshotChunkCount = new AtomicInteger();
     }
     
     public String getType() {
@@ -62,6 +67,28 @@ public class DistroRecord {
         failedVerifyCount.incrementAndGet();
     }
     
+    /**
+     * Start to load snapshot by chunks.
+     *
+     * @param chunkCount count of chunks
+     */
+    public void startLoadSnapshot(int chunkCount) {
+        loadedSnapshotChunkCount.set(0);
+        totalSnapshotChunkCount = chunkCount;
+    }
+    
+    public void snapshotChunkLoaded() {
+        loadedSnapshotChunkCount.incrementAndGet();
+    }
+    
+    public int getLoadedSnapshotChunkCount() {
+        return loadedSnapshotChunkCount.get();
+    }
+    
+    public int getTotalSnapshotChunkCount() {
+        return totalSnapshotChunkCount;
+    }
+    
     public long getTotalSyncCount() {
         return totalSyncCount.get();
     }
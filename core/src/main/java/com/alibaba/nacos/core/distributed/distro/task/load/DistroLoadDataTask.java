@@ -24,6 +24,9 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -101,14 +104,12 @@ public class DistroLoadDataTask implements Runnable {
             long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
+                boolean result = transportAgent.supportChunkedSnapshot() ? loadSnapshotByChunks(resourceType,
+                        transportAgent, dataProcessor, each.getAddress())
+                        : loadSnapshot(resourceType, transportAgent, dataProcessor, each.getAddress());
                 Loggers.DISTRO
-                        .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
-                                result);
+                        .info("[DISTRO-INIT] load snapshot {} from {} result: {}, it took {} ms", resourceType,
+                                each.getAddress(), result, System.currentTimeMillis() - startTime);
                 if (result) {
                     distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
@@ -120,6 +121,41 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    private boolean loadSnapshot(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, String targetServer) {
+        long startTime = System.currentTimeMillis();
+        DistroData distroData = transportAgent.getDatumSnapshot(targetServer);
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
+                System.currentTimeMillis() - startTime, resourceType, targetServer, getDistroDataLength(distroData));
+        return dataProcessor.processSnapshot(distroData);
+    }
+    
+    /**
+     * Load snapshot chunk by chunk, the next chunk is only requested after the previous one processed, so that only
+     * one chunk is held in memory and the speed of target server is limited by the speed of processing.
+     */
+    private boolean loadSnapshotByChunks(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, String targetServer) {
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+        int chunkCount = DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET;
+        int chunkIndex = 0;
+        do {
+            DistroSnapshotChunk chunk = transportAgent.getDatumSnapshotChunk(targetServer, chunkIndex, chunkCount);
+            if (DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET == chunkCount) {
+                chunkCount = Math.max(1, chunk.getChunkCount());
+                distroRecord.startLoadSnapshot(chunkCount);
+            }
+            if (!dataProcessor.processSnapshot(chunk.getData())) {
+                return false;
+            }
+            distroRecord.snapshotChunkLoaded();
+            Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} chunk {}/{} from {}, chunk size is {}.", resourceType,
+                    chunkIndex + 1, chunkCount, targetServer, getDistroDataLength(chunk.getData()));
+            chunkIndex++;
+        } while (chunkIndex < chunkCount);
+        return true;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -27,9 +27,12 @@ import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.RequestProcessor;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.core.distributed.raft.exception.DuplicateRaftGroupException;
 import com.alibaba.nacos.core.distributed.raft.exception.JRaftException;
@@ -41,6 +44,7 @@ import com.alibaba.nacos.core.distributed.raft.utils.JRaftConstants;
 import com.alibaba.nacos.core.distributed.raft.utils.JRaftUtils;
 import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
 import com.alibaba.nacos.core.distributed.raft.utils.RaftOptionsBuilder;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftWriteBatcher;
 import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -59,6 +63,7 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
 import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcProcessor;
 import com.alipay.sofa.jraft.rpc.RpcServer;
@@ -142,6 +147,13 @@ public class JRaftServer {
     
     private int rpcRequestTimeoutMs;
     
+    private RaftWriteBatcher writeBatcher;
+    
+    private ReadConsistency defaultReadConsistency = ReadConsistency.valueOf(
+            RaftSysConstants.DEFAULT_READ_CONSISTENCY);
+    
+    private long staleReadMaxLag = RaftSysConstants.DEFAULT_STALE_READ_MAX_LAG;
+    
     public JRaftServer() {
         this.conf = new Configuration();
     }
@@ -170,6 +182,22 @@ public class JRaftServer {
         rpcRequestTimeoutMs = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.RAFT_RPC_REQUEST_TIMEOUT_MS),
                 RaftSysConstants.DEFAULT_RAFT_RPC_REQUEST_TIMEOUT_MS);
         
+        if (ConvertUtils.toBoolean(raftConfig.getVal(RaftSysConstants.WRITE_BATCH_ENABLED),
+                RaftSysConstants.DEFAULT_WRITE_BATCH_ENABLED)) {
+            writeBatcher = new RaftWriteBatcher(
+                    ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.WRITE_BATCH_MAX_COUNT),
+                            RaftSysConstants.DEFAULT_WRITE_BATCH_MAX_COUNT),
+                    ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.WRITE_BATCH_MAX_BYTES),
+                            RaftSysConstants.DEFAULT_WRITE_BATCH_MAX_BYTES),
+                    ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.WRITE_BATCH_MAX_DELAY_MS),
+                            RaftSysConstants.DEFAULT_WRITE_BATCH_MAX_DELAY_MS), this::applyBatchOperation);
+        }
+        
+        defaultReadConsistency = ReadConsistency.of(raftConfig.getVal(RaftSysConstants.READ_CONSISTENCY),
+                ReadConsistency.valueOf(RaftSysConstants.DEFAULT_READ_CONSISTENCY));
+        staleReadMaxLag = ConvertUtils.toLong(raftConfig.getVal(RaftSysConstants.STALE_READ_MAX_LAG),
+                RaftSysConstants.DEFAULT_STALE_READ_MAX_LAG);
+        
         nodeOptions.setSharedElectionTimer(true);
         nodeOptions.setSharedVoteTimer(true);
         nodeOptions.setSharedStepDownTimer(true);
@@ -282,19 +310,20 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        final ReadConsistency consistency = ReadConsistency
+                .of(request.getExtendInfoMap().get(ReadConsistency.EXTEND_INFO_KEY), defaultReadConsistency);
+        if (ReadConsistency.STALE == consistency && isStaleReadAllowed(node)) {
+            readFromLocal(request, processor, future);
+            return future;
+        }
         try {
-            node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            ReadOnlyOption readOnlyOption = ReadConsistency.LEASE == consistency ? ReadOnlyOption.ReadOnlyLeaseBased
+                    : ReadOnlyOption.ReadOnlySafe;
+            node.readIndex(readOnlyOption, BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
-                        try {
-                            Response response = processor.onRequest(request);
-                            future.complete(response);
-                        } catch (Throwable t) {
-                            MetricsMonitor.raftReadIndexFailed();
-                            future.completeExceptionally(new ConsistencyException(
-                                    "The conformance protocol is temporarily unavailable for reading", t));
-                        }
+                        readFromLocal(request, processor, future);
                         return;
                     }
                     MetricsMonitor.raftReadIndexFailed();
@@ -313,6 +342,38 @@ public class JRaftServer {
         }
     }
     
+    /**
+     * Whether the local state machine can serve stale read, which requires a known leader and the applied log not
+     * lagging behind the committed log more than {@link #staleReadMaxLag}.
+     *
+     * <p>Both indexes are local, so the check only bounds the lag of applying logs this node already knows to be
+     * committed. It does not bound staleness against the cluster: a follower partitioned from the leader keeps its
+     * last known leader until the election timeout, and its committed index stops moving, so it passes the check
+     * while serving data missing every write committed since the partition.
+     *
+     * @param node raft node of the group
+     * @return {@code true} if the local state machine can serve stale read
+     */
+    private boolean isStaleReadAllowed(Node node) {
+        if (Objects.isNull(node.getLeaderId()) || node.getLeaderId().isEmpty()) {
+            return false;
+        }
+        return node.getLastCommittedIndex() - node.getLastAppliedLogIndex() <= staleReadMaxLag;
+    }
+    
+    private void readFromLocal(final ReadRequest request, final RequestProcessor processor,
+            final CompletableFuture<Response> future) {
+        try {
+            Response response = processor.onRequest(request);
+            MetricsMonitor.raftReadLocal();
+            future.complete(response);
+        } catch (Throwable t) {
+            MetricsMonitor.raftReadIndexFailed();
+            future.completeExceptionally(
+                    new ConsistencyException("The conformance protocol is temporarily unavailable for reading", t));
+        }
+    }
+    
     public void readFromLeader(final ReadRequest request, final CompletableFuture<Response> future) {
         commit(request.getGroup(), request, future);
     }
@@ -330,6 +391,11 @@ public class JRaftServer {
         
         final Node node = tuple.node;
         if (node.isLeader()) {
+            if (null != writeBatcher && data instanceof WriteRequest) {
+                // The leader node coalesces concurrent write requests into one log entry
+                writeBatcher.submit(group, (WriteRequest) data, closure);
+                return future;
+            }
             // The leader node directly applies this request
             applyOperation(node, data, closure);
         } else {
@@ -403,19 +469,48 @@ public class JRaftServer {
             closure.run(nacosStatus);
         }));
         
+        task.setData(buildTaskData(data instanceof ReadRequest ? ProtoMessageUtil.REQUEST_TYPE_READ
+                : ProtoMessageUtil.REQUEST_TYPE_WRITE, data));
+        node.apply(task);
+    }
+    
+    /**
+     * Apply batch of write requests as one log entry.
+     *
+     * @param group    raft group
+     * @param requests write requests
+     * @param closures closures of each write request
+     */
+    public void applyBatchOperation(String group, List<WriteRequest> requests, List<FailoverClosure> closures) {
+        final RaftGroupTuple tuple = findTupleByGroup(group);
+        if (tuple == null) {
+            for (FailoverClosure each : closures) {
+                each.setThrowable(new IllegalArgumentException("No corresponding Raft Group found : " + group));
+                each.run(new Status(RaftError.UNKNOWN, "No corresponding Raft Group found : %s", group));
+            }
+            return;
+        }
+        if (requests.size() == 1) {
+            applyOperation(tuple.node, requests.get(0), closures.get(0));
+            return;
+        }
+        BatchWriteRequest batchWriteRequest = BatchWriteRequest.newBuilder().setGroup(group).addAllRequests(requests)
+                .build();
+        final Task task = new Task();
+        task.setDone(new NacosBatchClosure(batchWriteRequest, closures));
+        task.setData(buildTaskData(ProtoMessageUtil.REQUEST_TYPE_BATCH_WRITE, batchWriteRequest));
+        tuple.node.apply(task);
+    }
+    
+    private ByteBuffer buildTaskData(int requestType, Message data) {
         // add request type field at the head of task data.
         byte[] requestTypeFieldBytes = new byte[2];
         requestTypeFieldBytes[0] = ProtoMessageUtil.REQUEST_TYPE_FIELD_TAG;
-        if (data instanceof ReadRequest) {
-            requestTypeFieldBytes[1] = ProtoMessageUtil.REQUEST_TYPE_READ;
-        } else {
-            requestTypeFieldBytes[1] = ProtoMessageUtil.REQUEST_TYPE_WRITE;
-        }
+        requestTypeFieldBytes[1] = (byte) requestType;
         
         byte[] dataBytes = data.toByteArray();
-        task.setData((ByteBuffer) ByteBuffer.allocate(requestTypeFieldBytes.length + dataBytes.length)
-                .put(requestTypeFieldBytes).put(dataBytes).position(0));
-        node.apply(task);
+        return (ByteBuffer) ByteBuffer.allocate(requestTypeFieldBytes.length + dataBytes.length)
+                .put(requestTypeFieldBytes).put(dataBytes).position(0);
     }
     
     private void invokeToLeader(final String group, final Message request, final int timeoutMillis,
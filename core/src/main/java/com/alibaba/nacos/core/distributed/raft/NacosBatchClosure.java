@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosure;
+import com.alipay.sofa.jraft.Status;
+
+import java.util.List;
+
+/**
+ * Closure for batched write requests, demultiplex the result of log entry to the closure of each write request.
+ *
+ * @author agent
+ */
+public class NacosBatchClosure extends NacosClosure {
+    
+    private final List<FailoverClosure> closures;
+    
+    private volatile List<Response> responses;
+    
+    private volatile Throwable throwable;
+    
+    public NacosBatchClosure(BatchWriteRequest message, List<FailoverClosure> closures) {
+        super(message, null);
+        this.closures = closures;
+    }
+    
+    @Override
+    public void run(Status status) {
+        for (int i = 0; i < closures.size(); i++) {
+            FailoverClosure each = closures.get(i);
+            each.setThrowable(throwable);
+            if (null != responses && i < responses.size()) {
+                each.setResponse(responses.get(i));
+            }
+            each.run(status);
+        }
+    }
+    
+    public void setResponses(List<Response> responses) {
+        this.responses = responses;
+    }
+    
+    @Override
+    public void setThrowable(Throwable throwable) {
+        this.throwable = throwable;
+    }
+}
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.consistency.RequestProcessor;
 import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
 import com.alibaba.nacos.consistency.entity.WriteRequest;
@@ -123,6 +124,13 @@ class NacosStateMachine extends StateMachineAdapter {
                         postProcessor(response, closure);
                     }
                     
+                    if (message instanceof BatchWriteRequest) {
+                        List<Response> responses = applyBatch((BatchWriteRequest) message);
+                        if (closure instanceof NacosBatchClosure) {
+                            ((NacosBatchClosure) closure).setResponses(responses);
+                        }
+                    }
+                    
                     if (message instanceof ReadRequest) {
                         Response response = processor.onRequest((ReadRequest) message);
                         postProcessor(response, closure);
@@ -148,6 +156,14 @@ class NacosStateMachine extends StateMachineAdapter {
         }
     }
     
+    private List<Response> applyBatch(BatchWriteRequest batchWriteRequest) {
+        List<Response> responses = new ArrayList<>(batchWriteRequest.getRequestsCount());
+        for (WriteRequest each : batchWriteRequest.getRequestsList()) {
+            responses.add(processor.onApply(each));
+        }
+        return responses;
+    }
+    
     public void setNode(Node node) {
         this.node = node;
     }
@@ -126,6 +126,37 @@ public final class RaftSysConstants {
      */
     public static final boolean DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM = false;
     
+    /**
+     * Whether to coalesce concurrent write requests of one group into one log entry, disabled by default because nodes
+     * of old version can't apply the batched log entry
+     */
+    public static final boolean DEFAULT_WRITE_BATCH_ENABLED = false;
+    
+    /**
+     * The maximum count of write requests coalesced into one log entry, 64 by default
+     */
+    public static final int DEFAULT_WRITE_BATCH_MAX_COUNT = 64;
+    
+    /**
+     * The maximum bytes of write requests coalesced into one log entry, 128K by default
+     */
+    public static final int DEFAULT_WRITE_BATCH_MAX_BYTES = 128 * 1024;
+    
+    /**
+     * The maximum milliseconds a write request waits for other requests to be coalesced, 1 millisecond by default
+     */
+    public static final int DEFAULT_WRITE_BATCH_MAX_DELAY_MS = 1;
+    
+    /**
+     * The default read consistency of read request without specified consistency, linearizable by default
+     */
+    public static final String DEFAULT_READ_CONSISTENCY = "LINEARIZABLE";
+    
+    /**
+     * The maximum lag between committed index and applied index allowed by stale read, 0 by default
+     */
+    public static final long DEFAULT_STALE_READ_MAX_LAG = 0L;
+    
     // ========= setting key ========= //
     
     public static final String RAFT_STATE = "raft";
@@ -235,4 +266,35 @@ public final class RaftSysConstants {
      * Whether to enable LogEntry checksum
      */
     public static final String ENABLE_LOG_ENTRY_CHECKSUM = "enable_log_entry_checksum";
+    
+    /**
+     * Whether to coalesce concurrent write requests of one group into one log entry
+     */
+    public static final String WRITE_BATCH_ENABLED = "write_batch_enabled";
+    
+    /**
+     * Maximum count of write requests coalesced into one log entry, default is 64
+     */
+    public static final String WRITE_BATCH_MAX_COUNT = "write_batch_max_count";
+    
+    /**
+     * Maximum bytes of write requests coalesced into one log entry, default is 128K
+     */
+    public static final String WRITE_BATCH_MAX_BYTES = "write_batch_max_bytes";
+    
+    /**
+     * Maximum milliseconds a write request waits to be coalesced, default is 1 millisecond
+     */
+    public static final String WRITE_BATCH_MAX_DELAY_MS = "write_batch_max_delay_ms";
+    
+    /**
+     * Read consistency of read request without specified consistency, one of LINEARIZABLE, LEASE and STALE, default
+     * is LINEARIZABLE
+     */
+    public static final String READ_CONSISTENCY = "read_consistency";
+    
+    /**
+     * Maximum lag between committed index and applied index allowed by stale read, default is 0
+     */
+    public static final String STALE_READ_MAX_LAG = "stale_read_max_lag";
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft.utils;
+
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesce concurrent write requests of the same raft group, so that they can be applied as one log entry.
+ *
+ * <p>A batch is flushed when the count of pending requests reaches the max count, or the first pending request has
+ * waited for the max delay. The bytes of one batch won't exceed the max bytes except the batch only has one request.
+ *
+ * @author agent
+ */
+public class RaftWriteBatcher {
+    
+    private final int maxCount;
+    
+    private final int maxBytes;
+    
+    private final long maxDelayMs;
+    
+    private final BatchApplier applier;
+    
+    private final Map<String, GroupQueue> groupQueues = new ConcurrentHashMap<>();
+    
+    public RaftWriteBatcher(int maxCount, int maxBytes, long maxDelayMs, BatchApplier applier) {
+        this.maxCount = Math.max(1, maxCount);
+        this.maxBytes = maxBytes;
+        this.maxDelayMs = maxDelayMs;
+        this.applier = applier;
+    }
+    
+    /**
+     * Submit write request to be applied with other requests of the same group.
+     *
+     * @param group   raft group
+     * @param request write request
+     * @param closure closure of the write request
+     */
+    public void submit(String group, WriteRequest request, FailoverClosure closure) {
+        GroupQueue groupQueue = groupQueues.computeIfAbsent(group, GroupQueue::new);
+        groupQueue.pending.offer(new PendingWrite(request, closure));
+        if (groupQueue.size.incrementAndGet() == maxCount) {
+            RaftExecutor.executeByCommon(() -> flush(groupQueue));
+        } else if (groupQueue.scheduled.compareAndSet(false, true)) {
+            RaftExecutor.scheduleByCommon(() -> {
+                groupQueue.scheduled.set(false);
+                flush(groupQueue);
+            }, maxDelayMs);
+        }
+    }
+    
+    void flush(GroupQueue groupQueue) {
+        synchronized (groupQueue) {
+            List<WriteRequest> requests = new ArrayList<>();
+            List<FailoverClosure> closures = new ArrayList<>();
+            while (drainBatch(groupQueue, requests, closures)) {
+                applier.apply(groupQueue.group, requests, closures);
+                requests = new ArrayList<>();
+                closures = new ArrayList<>();
+            }
+        }
+    }
+    
+    private boolean drainBatch(GroupQueue groupQueue, List<WriteRequest> requests, List<FailoverClosure> closures) {
+        int bytes = 0;
+        PendingWrite each;
+        while (requests.size() < maxCount && null != (each = groupQueue.pending.peek())) {
+            int size = each.request.getSerializedSize();
+            if (!requests.isEmpty() && bytes + size > maxBytes) {
+                break;
+            }
+            groupQueue.pending.poll();
+            groupQueue.size.decrementAndGet();
+            requests.add(each.request);
+            closures.add(each.closure);
+            bytes += size;
+        }
+        return !requests.isEmpty();
+    }
+    
+    /**
+     * Applier for batch of write requests.
+     */
+    @FunctionalInterface
+    public interface BatchApplier {
+        
+        /**
+         * Apply batch of write requests, the closures are in the same order with requests.
+         *
+         * @param group    raft group
+         * @param requests write requests
+         * @param closures closures of write requests
+         */
+        void apply(String group, List<WriteRequest> requests, List<FailoverClosure> closures);
+    }
+    
+    static class GroupQueue {
+        
+        private final String group;
+        
+        private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger size = new AtomicInteger();
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        GroupQueue(String group) {
+            this.group = group;
+        }
+    }
+    
+    private static class PendingWrite {
+        
+        private final WriteRequest request;
+        
+        private final FailoverClosure closure;
+        
+        PendingWrite(WriteRequest request, FailoverClosure closure) {
+            this.request = request;
+            this.closure = closure;
+        }
+    }
+}
@@ -44,6 +44,8 @@ public final class MetricsMonitor {
     
     private static final DistributionSummary RAFT_FROM_LEADER;
     
+    private static final DistributionSummary RAFT_READ_LOCAL;
+    
     private static final Timer RAFT_APPLY_LOG_TIMER;
     
     private static final Timer RAFT_APPLY_READ_TIMER;
@@ -68,6 +70,11 @@ public final class MetricsMonitor {
         tags.add(new ImmutableTag("name", "raft_read_from_leader"));
         RAFT_FROM_LEADER = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
     
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_local"));
+        RAFT_READ_LOCAL = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
+    
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_apply_log_timer"));
@@ -143,6 +150,10 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    public static void raftReadLocal() {
+        RAFT_READ_LOCAL.record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -158,6 +169,10 @@ public final class MetricsMonitor {
     public static DistributionSummary getRaftFromLeader() {
         return RAFT_FROM_LEADER;
     }
+    
+    public static DistributionSummary getRaftReadLocal() {
+        return RAFT_READ_LOCAL;
+    }
 
     public static GrpcServerExecutorMetric getSdkServerExecutorMetric() {
         return sdkServerExecutorMetric;
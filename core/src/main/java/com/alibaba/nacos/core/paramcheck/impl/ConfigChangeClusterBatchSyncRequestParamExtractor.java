@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.paramcheck.impl;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.paramcheck.ParamInfo;
+import com.alibaba.nacos.core.paramcheck.AbstractRpcParamExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Param extractor and checker for grpc config changes cluster batch sync request{@link
+ * ConfigChangeClusterBatchSyncRequest}.
+ *
+ * @author agent
+ */
+public class ConfigChangeClusterBatchSyncRequestParamExtractor extends AbstractRpcParamExtractor {
+    
+    @Override
+    public List<ParamInfo> extractParam(Request request) {
+        ConfigChangeClusterBatchSyncRequest req = (ConfigChangeClusterBatchSyncRequest) request;
+        List<ConfigChangeClusterBatchSyncRequest.ConfigChangeItem> items = req.getConfigChangeItems();
+        ArrayList<ParamInfo> paramInfos = new ArrayList<>();
+        if (items == null) {
+            return paramInfos;
+        }
+        for (ConfigChangeClusterBatchSyncRequest.ConfigChangeItem each : items) {
+            ParamInfo paramInfo = new ParamInfo();
+            paramInfo.setNamespaceId(each.getTenant());
+            paramInfo.setGroup(each.getGroup());
+            paramInfo.setDataId(each.getDataId());
+            paramInfos.add(paramInfo);
+        }
+        return paramInfos;
+    }
+}
@@ -32,6 +32,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -227,8 +228,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -251,8 +251,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -275,8 +274,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(),
                         ClassUtils.resolveGenericTypeByInterface(mapper.getClass()));
@@ -300,8 +298,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -324,8 +321,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -348,8 +344,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -360,6 +355,22 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Build read request for query data, the read consistency specified in {@link EmbeddedStorageContextHolder} will be
+     * carried by the extend info of read request.
+     *
+     * @param data serialized {@link SelectRequest}
+     * @return {@link ReadRequest}
+     */
+    private ReadRequest buildReadRequest(byte[] data) {
+        ReadRequest.Builder builder = ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data));
+        String consistency = EmbeddedStorageContextHolder.getCurrentExtendInfo().get(ReadConsistency.EXTEND_INFO_KEY);
+        if (StringUtils.isNotBlank(consistency)) {
+            builder.putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, consistency);
+        }
+        return builder.build();
+    }
+    
     /**
      * In some business situations, you need to avoid the timeout issue, so blockRead is used to determine this.
      *
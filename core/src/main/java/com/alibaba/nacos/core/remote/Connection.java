@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.api.remote.request.Request;
 
 import java.util.Map;
 
@@ -70,6 +73,21 @@ public abstract class Connection implements Requester {
      */
     public abstract boolean isConnected();
     
+    /**
+     * Send a request whose body is pre-encoded and shared by multiple connections.
+     *
+     * <p>Default implementation ignores the shared body and encodes the request by itself.
+     *
+     * @param request         request.
+     * @param sharedBody      body pre-encoded without request id.
+     * @param requestCallBack callback of request.
+     * @throws NacosException exception throw.
+     */
+    public void asyncRequest(Request request, byte[] sharedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        asyncRequest(request, requestCallBack);
+    }
+    
     /**
      * Update last Active Time to now.
      */
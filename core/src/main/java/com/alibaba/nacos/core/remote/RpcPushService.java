@@ -49,10 +49,23 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        pushWithCallback(connectionId, request, null, requestCallBack, executor);
+    }
+    
+    /**
+     * push request with a body which is pre-encoded and shared by multiple connections.
+     *
+     * @param connectionId    connectionId.
+     * @param request         request.
+     * @param sharedBody      body of request pre-encoded without request id, encode request directly if null.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushWithCallback(String connectionId, ServerRequest request, byte[] sharedBody,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                AbstractRequestCallBack callBack = new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
@@ -72,7 +85,12 @@ public class RpcPushService {
                     public void onException(Throwable e) {
                         requestCallBack.onFail(e);
                     }
-                });
+                };
+                if (null == sharedBody) {
+                    connection.asyncRequest(request, callBack);
+                } else {
+                    connection.asyncRequest(request, sharedBody, callBack);
+                }
             } catch (ConnectionAlreadyClosedException e) {
                 connectionManager.unregister(connectionId);
                 requestCallBack.onSuccess();
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -39,6 +40,7 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -69,12 +71,24 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendRequestNoAck(request, null);
+    }
+    
+    /**
+     * send request without ack, the body of request is pre-encoded and shared by multiple connections.
+     *
+     * @param request    request data.
+     * @param sharedBody body pre-encoded without request id, encode request directly if null.
+     * @throws NacosException NacosException
+     */
+    public void sendRequestNoAck(Request request, byte[] sharedBody) throws NacosException {
         sendQueueBlockCheck();
         Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = null == sharedBody ? GrpcUtils.convert(request, isBinaryPayloadSupported())
+                            : GrpcUtils.convert(request, sharedBody);
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -99,6 +113,12 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    private boolean isBinaryPayloadSupported() {
+        Map<String, Boolean> abilityTable = getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName()));
+    }
+    
     private void sendQueueBlockCheck() {
         if (streamObserver instanceof ServerCallStreamObserver) {
             // if bytes on queue is greater than  32k ,isReady will return false.
@@ -142,6 +162,11 @@ public class GrpcConnection extends Connection {
     }
     
     private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+        return sendRequestInner(request, null, callBack);
+    }
+    
+    private DefaultRequestFuture sendRequestInner(Request request, byte[] sharedBody, RequestCallBack callBack)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -149,7 +174,7 @@ public class GrpcConnection extends Connection {
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        sendRequestNoAck(request, sharedBody);
         return defaultPushFuture;
     }
     
@@ -175,6 +200,12 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(Request request, byte[] sharedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        sendRequestInner(request, sharedBody, requestCallBack);
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
@@ -26,6 +26,9 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import junit.framework.TestCase;
 import org.junit.Before;
@@ -42,6 +45,10 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,7 +102,7 @@ public class DistroLoadDataTaskTest extends TestCase {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
         when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
@@ -109,4 +116,20 @@ public class DistroLoadDataTaskTest extends TestCase {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    public void testRunWithChunkedSnapshot() {
+        when(distroTransportAgent.supportChunkedSnapshot()).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshotChunk(any(String.class), anyInt(), anyInt()))
+                .thenAnswer(invocation -> new DistroSnapshotChunk(distroData, invocation.getArgument(1), 3));
+        distroLoadDataTask.run();
+        verify(distroTransportAgent).getDatumSnapshotChunk(any(String.class), eq(0),
+                eq(DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET));
+        verify(distroTransportAgent).getDatumSnapshotChunk(any(String.class), eq(1), eq(3));
+        verify(distroTransportAgent).getDatumSnapshotChunk(any(String.class), eq(2), eq(3));
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+        assertEquals(3, distroRecord.getTotalSnapshotChunkCount());
+        assertEquals(3, distroRecord.getLoadedSnapshotChunkCount());
+    }
 }
@@ -16,18 +16,25 @@
 
 package com.alibaba.nacos.core.distributed.raft;
 
+import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.BatchWriteRequest;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
 import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosure;
+import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosureImpl;
 import com.alipay.sofa.jraft.CliService;
 import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
+import com.alipay.sofa.jraft.entity.Task;
 import com.alipay.sofa.jraft.error.RemotingException;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcClient;
 import com.alipay.sofa.jraft.rpc.impl.cli.CliClientServiceImpl;
@@ -51,6 +58,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mock.env.MockEnvironment;
@@ -72,6 +80,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -268,6 +277,56 @@ public class JRaftServerTest {
         verify(cliClientServiceMock).getRpcClient();
     }
     
+    @Test
+    public void testApplyBatchOperation() {
+        WriteRequest writeRequest = WriteRequest.newBuilder().setGroup("test_nacos").setKey("key").build();
+        List<FailoverClosure> closures = Arrays.asList(new FailoverClosureImpl(new CompletableFuture<>()),
+                new FailoverClosureImpl(new CompletableFuture<>()));
+        server.applyBatchOperation("test_nacos", Arrays.asList(writeRequest, writeRequest), closures);
+        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+        verify(node).apply(taskCaptor.capture());
+        Assert.assertTrue(taskCaptor.getValue().getDone() instanceof NacosBatchClosure);
+        Message actual = ProtoMessageUtil.parse(taskCaptor.getValue().getData().array());
+        Assert.assertEquals(2, ((BatchWriteRequest) actual).getRequestsCount());
+        
+        server.applyBatchOperation("test_nacos", Collections.singletonList(writeRequest), closures.subList(0, 1));
+        verify(node, times(2)).apply(taskCaptor.capture());
+        Assert.assertFalse(taskCaptor.getValue().getDone() instanceof NacosBatchClosure);
+        Assert.assertTrue(ProtoMessageUtil.parse(taskCaptor.getValue().getData().array()) instanceof WriteRequest);
+    }
+    
+    @Test
+    public void testGetWithStaleRead() throws Exception {
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, ReadConsistency.STALE.name()).build();
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(request)).thenReturn(expected);
+        when(node.getLeaderId()).thenReturn(peerId1);
+        when(node.getLastCommittedIndex()).thenReturn(10L);
+        when(node.getLastAppliedLogIndex()).thenReturn(10L);
+        Assert.assertEquals(expected, server.get(request).get());
+        verify(node, never()).readIndex(any(ReadOnlyOption.class), any(byte[].class), any(ReadIndexClosure.class));
+        
+        // applied log lags behind, go to read index.
+        when(node.getLastAppliedLogIndex()).thenReturn(9L);
+        server.get(request);
+        verify(node).readIndex(eq(ReadOnlyOption.ReadOnlySafe), any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    public void testGetWithLeaseRead() throws Exception {
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, ReadConsistency.LEASE.name()).build();
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(request)).thenReturn(expected);
+        doAnswer(invocationOnMock -> {
+            ReadIndexClosure closure = invocationOnMock.getArgument(2);
+            closure.run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(eq(ReadOnlyOption.ReadOnlyLeaseBased), any(byte[].class), any(ReadIndexClosure.class));
+        Assert.assertEquals(expected, server.get(request).get());
+    }
+    
     @Test
     public void testRegisterSelfToCluster() {
         PeerId selfPeerId = new PeerId("4.4.4.4", 8080);
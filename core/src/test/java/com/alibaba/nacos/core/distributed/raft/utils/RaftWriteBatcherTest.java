@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft.utils;
+
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.distributed.raft.RaftConfig;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.google.protobuf.ByteString;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RaftWriteBatcherTest {
+    
+    private static final String GROUP = "test_group";
+    
+    private final List<List<WriteRequest>> batches = new CopyOnWriteArrayList<>();
+    
+    @BeforeClass
+    public static void beforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        RaftExecutor.init(new RaftConfig());
+    }
+    
+    @Test
+    public void testFlushWhenReachMaxCount() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        RaftWriteBatcher batcher = new RaftWriteBatcher(3, Integer.MAX_VALUE, 60000L,
+                (group, requests, closures) -> collect(latch, requests, closures));
+        for (int i = 0; i < 3; i++) {
+            batcher.submit(GROUP, buildRequest("key" + i, 10), new FailoverClosureImpl(new CompletableFuture<>()));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals("key2", batches.get(0).get(2).getKey());
+    }
+    
+    @Test
+    public void testFlushAfterMaxDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        RaftWriteBatcher batcher = new RaftWriteBatcher(100, Integer.MAX_VALUE, 50L,
+                (group, requests, closures) -> collect(latch, requests, closures));
+        batcher.submit(GROUP, buildRequest("key0", 10), new FailoverClosureImpl(new CompletableFuture<>()));
+        batcher.submit(GROUP, buildRequest("key1", 10), new FailoverClosureImpl(new CompletableFuture<>()));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+    }
+    
+    @Test
+    public void testSplitBatchByMaxBytes() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        WriteRequest request = buildRequest("key", 100);
+        RaftWriteBatcher batcher = new RaftWriteBatcher(100, request.getSerializedSize() * 2, 50L,
+                (group, requests, closures) -> collect(latch, requests, closures));
+        for (int i = 0; i < 3; i++) {
+            batcher.submit(GROUP, request, new FailoverClosureImpl(new CompletableFuture<>()));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(1).size());
+    }
+    
+    private void collect(CountDownLatch latch, List<WriteRequest> requests, List<FailoverClosure> closures) {
+        assertEquals(requests.size(), closures.size());
+        batches.add(requests);
+        for (int i = 0; i < requests.size(); i++) {
+            latch.countDown();
+        }
+    }
+    
+    private WriteRequest buildRequest(String key, int dataLength) {
+        return WriteRequest.newBuilder().setGroup(GROUP).setKey(key).setData(ByteString.copyFrom(new byte[dataLength]))
+                .build();
+    }
+}
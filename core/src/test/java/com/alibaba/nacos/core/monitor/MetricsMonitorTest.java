@@ -113,6 +113,12 @@ public class MetricsMonitorTest {
         Assert.assertEquals(1D, MetricsMonitor.getRaftFromLeader().totalAmount(), 0.01);
     }
     
+    @Test
+    public void testRaftReadLocal() {
+        MetricsMonitor.raftReadLocal();
+        Assert.assertEquals(1D, MetricsMonitor.getRaftReadLocal().totalAmount(), 0.01);
+    }
+    
     @Test
     public void testRaftApplyLogTimer() {
         Timer raftApplyTimerLog = MetricsMonitor.getRaftApplyLogTimer();
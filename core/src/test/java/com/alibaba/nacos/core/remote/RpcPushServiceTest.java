@@ -78,6 +78,21 @@ public class RpcPushServiceTest {
         }
     }
     
+    @Test
+    public void testPushWithSharedBody() throws NacosException {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
+        byte[] sharedBody = "{}".getBytes();
+        PushCallBack pushCallBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, null, sharedBody, pushCallBack, null);
+        Mockito.verify(grpcConnection).asyncRequest(Mockito.any(), Mockito.eq(sharedBody), Mockito.any());
+        
+        Mockito.doThrow(ConnectionAlreadyClosedException.class).when(grpcConnection)
+                .asyncRequest(Mockito.any(), Mockito.eq(sharedBody), Mockito.any());
+        rpcPushService.pushWithCallback(connectId, null, sharedBody, pushCallBack, null);
+        Mockito.verify(connectionManager).unregister(connectId);
+        Mockito.verify(pushCallBack).onSuccess();
+    }
+    
     @Test
     public void testPushWithoutAck() {
         Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
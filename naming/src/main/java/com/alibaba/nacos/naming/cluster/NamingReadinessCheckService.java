@@ -18,7 +18,9 @@ package com.alibaba.nacos.naming.cluster;
 
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.core.cluster.health.AbstractModuleHealthChecker;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.springframework.stereotype.Service;
 
 /**
@@ -38,13 +40,27 @@ public class NamingReadinessCheckService extends AbstractModuleHealthChecker {
     @Override
     public boolean readiness() {
         try {
-            return ServerStatus.UP.equals(serverStatusManager.getServerStatus());
+            if (ServerStatus.UP.equals(serverStatusManager.getServerStatus())) {
+                return true;
+            }
+            logSnapshotLoadProgress();
         } catch (Exception e) {
             Loggers.CLUSTER.error("Naming health check fail.", e);
         }
         return false;
     }
     
+    /**
+     * Before the first distro snapshot is loaded, the naming module is not ready, log the loaded chunks of the snapshot
+     * to show the progress of loading.
+     */
+    private void logSnapshotLoadProgress() {
+        DistroRecordsHolder.getInstance().getRecordIfExist(DistroClientDataProcessor.TYPE)
+                .filter(record -> record.getTotalSnapshotChunkCount() > 0).ifPresent(
+                    record -> Loggers.CLUSTER.info("Naming is not ready, loaded {}/{} chunks of distro snapshot.",
+                        record.getLoadedSnapshotChunkCount(), record.getTotalSnapshotChunkCount()));
+    }
+    
     @Override
     public String getModuleName() {
         return Constants.Naming.NAMING_MODULE;
@@ -28,6 +28,8 @@ public class DistroDataResponse extends Response {
     
     private DistroData distroData;
     
+    private int chunkCount;
+    
     public DistroData getDistroData() {
         return distroData;
     }
@@ -35,4 +37,12 @@ public class DistroDataResponse extends Response {
     public void setDistroData(DistroData distroData) {
         this.distroData = distroData;
     }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
 }
@@ -0,0 +1,604 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDigestVerifyInfo;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyInfo;
+import com.alibaba.nacos.naming.core.v2.client.ClientAttributes;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstanceData;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializer with compact binary layout for distro client data.
+ *
+ * <p>Only {@link ClientSyncData}, {@link ClientSyncDatumSnapshot}, {@link DistroClientVerifyInfo} and
+ * {@link DistroClientDigestVerifyInfo} are supported. Numbers are written as varints, and every string is written
+ * only once per message, later occurrences refer to the first one by index. Values of extend datum and client
+ * attributes are decoded to the same java types as {@link JacksonSerializer} does, other values are embedded as json.
+ *
+ * @author agent
+ */
+public class BinarySerializer implements Serializer {
+    
+    private static final byte[] MAGIC = new byte[] {(byte) 0xD1, (byte) 0x57};
+    
+    private static final byte VERSION = 1;
+    
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+    
+    private static final byte TYPE_CLIENT_SYNC_DATA = 1;
+    
+    private static final byte TYPE_SNAPSHOT = 2;
+    
+    private static final byte TYPE_VERIFY_INFO = 3;
+    
+    private static final byte TYPE_DIGEST_VERIFY_INFO = 4;
+    
+    private static final byte VALUE_NULL = 0;
+    
+    private static final byte VALUE_STRING = 1;
+    
+    private static final byte VALUE_TRUE = 2;
+    
+    private static final byte VALUE_FALSE = 3;
+    
+    private static final byte VALUE_INTEGRAL = 4;
+    
+    private static final byte VALUE_FLOATING = 5;
+    
+    private static final byte VALUE_JSON = 6;
+    
+    private static final long VARINT_PAYLOAD_MASK = 0x7FL;
+    
+    private static final int VARINT_CONTINUE_BIT = 0x80;
+    
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    
+    private static final Map<Class<?>, Byte> SUPPORTED_TYPES = new HashMap<>(4);
+    
+    private static final ThreadLocal<Writer> WRITER = ThreadLocal.withInitial(Writer::new);
+    
+    static {
+        SUPPORTED_TYPES.put(ClientSyncData.class, TYPE_CLIENT_SYNC_DATA);
+        SUPPORTED_TYPES.put(ClientSyncDatumSnapshot.class, TYPE_SNAPSHOT);
+        SUPPORTED_TYPES.put(DistroClientVerifyInfo.class, TYPE_VERIFY_INFO);
+        SUPPORTED_TYPES.put(DistroClientDigestVerifyInfo.class, TYPE_DIGEST_VERIFY_INFO);
+    }
+    
+    /**
+     * Whether the type can be serialized by this serializer.
+     *
+     * @param type type of data
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported(Class<?> type) {
+        return SUPPORTED_TYPES.containsKey(type);
+    }
+    
+    /**
+     * Whether the data is serialized by this serializer.
+     *
+     * @param data serialized data
+     * @return {@code true} if data starts with magic of this serializer
+     */
+    public static boolean isBinaryData(byte[] data) {
+        return null != data && data.length >= HEADER_LENGTH && MAGIC[0] == data[0] && MAGIC[1] == data[1];
+    }
+    
+    @Override
+    public <T> byte[] serialize(T data) {
+        Byte type = null == data ? null : SUPPORTED_TYPES.get(data.getClass());
+        if (null == type) {
+            throw new NacosSerializationException(null == data ? null : data.getClass());
+        }
+        Writer writer = WRITER.get();
+        try {
+            writer.reset();
+            writer.writeBytes(MAGIC);
+            writer.writeByte(VERSION);
+            writer.writeByte(type);
+            switch (type) {
+                case TYPE_CLIENT_SYNC_DATA:
+                    writeClientSyncData(writer, (ClientSyncData) data);
+                    break;
+                case TYPE_SNAPSHOT:
+                    writeSnapshot(writer, (ClientSyncDatumSnapshot) data);
+                    break;
+                case TYPE_VERIFY_INFO:
+                    writeVerifyInfo(writer, (DistroClientVerifyInfo) data);
+                    break;
+                default:
+                    writeDigestVerifyInfo(writer, (DistroClientDigestVerifyInfo) data);
+            }
+            return writer.toByteArray();
+        } finally {
+            writer.release();
+        }
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+        if (!isBinaryData(data) || VERSION != data[MAGIC.length]) {
+            throw new NacosDeserializationException(clazz);
+        }
+        Reader reader = new Reader(data, HEADER_LENGTH);
+        try {
+            Object result;
+            switch (data[MAGIC.length + 1]) {
+                case TYPE_CLIENT_SYNC_DATA:
+                    result = readClientSyncData(reader);
+                    break;
+                case TYPE_SNAPSHOT:
+                    result = readSnapshot(reader);
+                    break;
+                case TYPE_VERIFY_INFO:
+                    result = readVerifyInfo(reader);
+                    break;
+                case TYPE_DIGEST_VERIFY_INFO:
+                    result = readDigestVerifyInfo(reader);
+                    break;
+                default:
+                    throw new NacosDeserializationException(clazz);
+            }
+            return clazz.cast(result);
+        } catch (ClassCastException | IndexOutOfBoundsException e) {
+            throw new NacosDeserializationException(clazz, e);
+        }
+    }
+    
+    private void writeSnapshot(Writer writer, ClientSyncDatumSnapshot snapshot) {
+        List<ClientSyncData> clientSyncDataList = snapshot.getClientSyncDataList();
+        if (writer.writeSize(clientSyncDataList)) {
+            for (ClientSyncData each : clientSyncDataList) {
+                writeClientSyncData(writer, each);
+            }
+        }
+    }
+    
+    private ClientSyncDatumSnapshot readSnapshot(Reader reader) {
+        ClientSyncDatumSnapshot result = new ClientSyncDatumSnapshot();
+        int size = reader.readSize();
+        if (size < 0) {
+            result.setClientSyncDataList(null);
+            return result;
+        }
+        List<ClientSyncData> clientSyncDataList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            clientSyncDataList.add(readClientSyncData(reader));
+        }
+        result.setClientSyncDataList(clientSyncDataList);
+        return result;
+    }
+    
+    private void writeClientSyncData(Writer writer, ClientSyncData data) {
+        writer.writeString(data.getClientId());
+        ClientAttributes attributes = data.getAttributes();
+        writer.writeBoolean(null != attributes);
+        if (null != attributes) {
+            writeValueMap(writer, attributes.getClientAttributes());
+        }
+        writeStrings(writer, data.getNamespaces());
+        writeStrings(writer, data.getGroupNames());
+        writeStrings(writer, data.getServiceNames());
+        writeInstances(writer, data.getInstancePublishInfos());
+        BatchInstanceData batchInstanceData = data.getBatchInstanceData();
+        writer.writeBoolean(null != batchInstanceData);
+        if (null != batchInstanceData) {
+            writeStrings(writer, batchInstanceData.getNamespaces());
+            writeStrings(writer, batchInstanceData.getGroupNames());
+            writeStrings(writer, batchInstanceData.getServiceNames());
+            List<BatchInstancePublishInfo> batchInstances = batchInstanceData.getBatchInstancePublishInfos();
+            if (writer.writeSize(batchInstances)) {
+                for (BatchInstancePublishInfo each : batchInstances) {
+                    writeInstance(writer, each);
+                    writeInstances(writer, null == each ? null : each.getInstancePublishInfos());
+                }
+            }
+        }
+    }
+    
+    private ClientSyncData readClientSyncData(Reader reader) {
+        ClientSyncData result = new ClientSyncData();
+        result.setClientId(reader.readString());
+        if (reader.readBoolean()) {
+            ClientAttributes attributes = new ClientAttributes();
+            attributes.setClientAttributes(readValueMap(reader));
+            result.setAttributes(attributes);
+        }
+        result.setNamespaces(readStrings(reader));
+        result.setGroupNames(readStrings(reader));
+        result.setServiceNames(readStrings(reader));
+        result.setInstancePublishInfos(readInstances(reader));
+        if (reader.readBoolean()) {
+            BatchInstanceData batchInstanceData = new BatchInstanceData();
+            batchInstanceData.setNamespaces(readStrings(reader));
+            batchInstanceData.setGroupNames(readStrings(reader));
+            batchInstanceData.setServiceNames(readStrings(reader));
+            int size = reader.readSize();
+            if (size >= 0) {
+                List<BatchInstancePublishInfo> batchInstances = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    BatchInstancePublishInfo each = new BatchInstancePublishInfo();
+                    if (readInstance(reader, each)) {
+                        each.setInstancePublishInfos(readInstances(reader));
+                    } else {
+                        readInstances(reader);
+                        each = null;
+                    }
+                    batchInstances.add(each);
+                }
+                batchInstanceData.setBatchInstancePublishInfos(batchInstances);
+            }
+            result.setBatchInstanceData(batchInstanceData);
+        }
+        return result;
+    }
+    
+    private void writeInstances(Writer writer, List<InstancePublishInfo> instances) {
+        if (writer.writeSize(instances)) {
+            for (InstancePublishInfo each : instances) {
+                writeInstance(writer, each);
+            }
+        }
+    }
+    
+    private List<InstancePublishInfo> readInstances(Reader reader) {
+        int size = reader.readSize();
+        if (size < 0) {
+            return null;
+        }
+        List<InstancePublishInfo> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            InstancePublishInfo each = new InstancePublishInfo();
+            result.add(readInstance(reader, each) ? each : null);
+        }
+        return result;
+    }
+    
+    private void writeInstance(Writer writer, InstancePublishInfo instance) {
+        writer.writeBoolean(null != instance);
+        if (null == instance) {
+            return;
+        }
+        writer.writeString(instance.getIp());
+        writer.writeVarLong(instance.getPort());
+        writer.writeBoolean(instance.isHealthy());
+        writer.writeString(instance.getCluster());
+        writeValueMap(writer, instance.getExtendDatum());
+    }
+    
+    private boolean readInstance(Reader reader, InstancePublishInfo instance) {
+        if (!reader.readBoolean()) {
+            return false;
+        }
+        instance.setIp(reader.readString());
+        instance.setPort((int) reader.readVarLong());
+        instance.setHealthy(reader.readBoolean());
+        instance.setCluster(reader.readString());
+        instance.setExtendDatum(readValueMap(reader));
+        return true;
+    }
+    
+    private void writeVerifyInfo(Writer writer, DistroClientVerifyInfo verifyInfo) {
+        writer.writeString(verifyInfo.getClientId());
+        writer.writeVarLong(verifyInfo.getRevision());
+    }
+    
+    private DistroClientVerifyInfo readVerifyInfo(Reader reader) {
+        return new DistroClientVerifyInfo(reader.readString(), reader.readVarLong());
+    }
+    
+    private void writeDigestVerifyInfo(Writer writer, DistroClientDigestVerifyInfo digestVerifyInfo) {
+        writer.writeVarLong(digestVerifyInfo.getFrom());
+        writer.writeVarLong(digestVerifyInfo.getTo());
+        writer.writeVarLong(digestVerifyInfo.getClientCount());
+        writer.writeVarLong(digestVerifyInfo.getDigest());
+    }
+    
+    private DistroClientDigestVerifyInfo readDigestVerifyInfo(Reader reader) {
+        return new DistroClientDigestVerifyInfo((int) reader.readVarLong(), (int) reader.readVarLong(),
+                (int) reader.readVarLong(), reader.readVarLong());
+    }
+    
+    private void writeStrings(Writer writer, List<String> strings) {
+        if (writer.writeSize(strings)) {
+            for (String each : strings) {
+                writer.writeString(each);
+            }
+        }
+    }
+    
+    private List<String> readStrings(Reader reader) {
+        int size = reader.readSize();
+        if (size < 0) {
+            return null;
+        }
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(reader.readString());
+        }
+        return result;
+    }
+    
+    private void writeValueMap(Writer writer, Map<String, Object> map) {
+        if (null == map) {
+            writer.writeVarLong(0);
+            return;
+        }
+        writer.writeVarLong(map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writer.writeString(entry.getKey());
+            writeValue(writer, entry.getValue());
+        }
+    }
+    
+    private Map<String, Object> readValueMap(Reader reader) {
+        int size = reader.readSize();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(2, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            result.put(reader.readString(), readValue(reader));
+        }
+        return result;
+    }
+    
+    private void writeValue(Writer writer, Object value) {
+        if (null == value) {
+            writer.writeByte(VALUE_NULL);
+        } else if (value instanceof String) {
+            writer.writeByte(VALUE_STRING);
+            writer.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writer.writeByte((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            writer.writeByte(VALUE_INTEGRAL);
+            writer.writeVarLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            writer.writeByte(VALUE_FLOATING);
+            writer.writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else {
+            byte[] json = JacksonUtils.toJsonBytes(value);
+            writer.writeByte(VALUE_JSON);
+            writer.writeVarLong(json.length);
+            writer.writeBytes(json);
+        }
+    }
+    
+    /**
+     * Read value with the same type as jackson reads untyped json value, so integral number fitting in int is read
+     * as {@link Integer}.
+     */
+    private Object readValue(Reader reader) {
+        byte type = reader.readByte();
+        switch (type) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return reader.readString();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_INTEGRAL:
+                long value = reader.readVarLong();
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            case VALUE_FLOATING:
+                return Double.longBitsToDouble(reader.readLong());
+            case VALUE_JSON:
+                return JacksonUtils.toObj(reader.readBytes((int) reader.readVarLong()), Object.class);
+            default:
+                throw new NacosDeserializationException(Object.class);
+        }
+    }
+    
+    /**
+     * Reusable writer, the buffer is kept by thread and strings are written into per message dictionary.
+     */
+    private static final class Writer {
+        
+        private static final int INITIAL_CAPACITY = 1024;
+        
+        private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+        
+        private final Map<String, Integer> dictionary = new HashMap<>(64);
+        
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        
+        private int position;
+        
+        private void reset() {
+            position = 0;
+            dictionary.clear();
+        }
+        
+        private void release() {
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+            dictionary.clear();
+        }
+        
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+        
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+            }
+        }
+        
+        private void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+        
+        private void writeBytes(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buffer, position, value.length);
+            position += value.length;
+        }
+        
+        private void writeBoolean(boolean value) {
+            writeByte(value ? (byte) 1 : (byte) 0);
+        }
+        
+        private void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                buffer[position++] = (byte) (value >>> (i * Byte.SIZE));
+            }
+        }
+        
+        /**
+         * Write zigzag encoded varint, so small negative number also takes few bytes.
+         */
+        private void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~VARINT_PAYLOAD_MASK) != 0) {
+                buffer[position++] = (byte) ((zigzag & VARINT_PAYLOAD_MASK) | VARINT_CONTINUE_BIT);
+                zigzag >>>= VARINT_PAYLOAD_BITS;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+        
+        /**
+         * Write size of collection, {@code 0} means null and others mean size plus one.
+         *
+         * @return {@code true} if collection is not null
+         */
+        private boolean writeSize(List<?> list) {
+            writeVarLong(null == list ? 0 : list.size() + 1);
+            return null != list;
+        }
+        
+        /**
+         * Write string reference, {@code 0} means null, {@code 1} means a new string following and others mean the
+         * index plus two of string written before.
+         */
+        private void writeString(String value) {
+            if (null == value) {
+                writeVarLong(0);
+                return;
+            }
+            Integer index = dictionary.get(value);
+            if (null != index) {
+                writeVarLong(index + 2);
+                return;
+            }
+            dictionary.put(value, dictionary.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(1);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+    
+    private static final class Reader {
+        
+        private final List<String> dictionary = new ArrayList<>(64);
+        
+        private final byte[] buffer;
+        
+        private int position;
+        
+        private Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+        
+        private byte readByte() {
+            if (position >= buffer.length) {
+                throw new IndexOutOfBoundsException("Unexpected end of binary data");
+            }
+            return buffer[position++];
+        }
+        
+        private byte[] readBytes(int length) {
+            if (length < 0 || position + length > buffer.length) {
+                throw new IndexOutOfBoundsException("Unexpected end of binary data");
+            }
+            byte[] result = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return result;
+        }
+        
+        private boolean readBoolean() {
+            return 0 != readByte();
+        }
+        
+        private long readLong() {
+            long result = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                result = (result << Byte.SIZE) | (readByte() & 0xFF);
+            }
+            return result;
+        }
+        
+        private long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = readByte();
+                zigzag |= (current & VARINT_PAYLOAD_MASK) << shift;
+                shift += VARINT_PAYLOAD_BITS;
+            } while ((current & VARINT_CONTINUE_BIT) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        
+        private int readSize() {
+            return (int) readVarLong() - 1;
+        }
+        
+        private String readString() {
+            int reference = (int) readVarLong();
+            if (0 == reference) {
+                return null;
+            }
+            if (1 != reference) {
+                return dictionary.get(reference - 2);
+            }
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > buffer.length) {
+                throw new IndexOutOfBoundsException("Unexpected end of binary data");
+            }
+            String result = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            dictionary.add(result);
+            return result;
+        }
+    }
+}
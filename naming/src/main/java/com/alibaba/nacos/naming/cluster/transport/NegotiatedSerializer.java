@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializer negotiated between cluster members.
+ *
+ * <p>Data supported by {@link BinarySerializer} is serialized into binary only when all other members advertise
+ * that they can read it, otherwise {@link JacksonSerializer} is used. Deserialization detects the format by content,
+ * so both formats can be read during rolling upgrade.
+ *
+ * @author agent
+ */
+@Primary
+@Component
+public class NegotiatedSerializer implements Serializer {
+    
+    /**
+     * Member extend info key to advertise that current member can deserialize binary data.
+     */
+    public static final String SUPPORT_BINARY_SERIALIZER = "supportDistroBinarySerializer";
+    
+    public static final String BINARY_SERIALIZER_ENABLED = "nacos.naming.distro.serializer.binary.enabled";
+    
+    private final JacksonSerializer jacksonSerializer;
+    
+    private final BinarySerializer binarySerializer;
+    
+    private final ServerMemberManager memberManager;
+    
+    private final boolean binaryEnabled;
+    
+    public NegotiatedSerializer(JacksonSerializer jacksonSerializer, ServerMemberManager memberManager) {
+        this.jacksonSerializer = jacksonSerializer;
+        this.binarySerializer = new BinarySerializer();
+        this.memberManager = memberManager;
+        this.binaryEnabled = EnvUtil.getProperty(BINARY_SERIALIZER_ENABLED, Boolean.class, true);
+        memberManager.getSelf().setExtendVal(SUPPORT_BINARY_SERIALIZER, true);
+    }
+    
+    @Override
+    public <T> byte[] serialize(T data) {
+        if (null != data && BinarySerializer.isSupported(data.getClass()) && isBinaryNegotiated()) {
+            return binarySerializer.serialize(data);
+        }
+        return jacksonSerializer.serialize(data);
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+        if (BinarySerializer.isBinaryData(data)) {
+            return binarySerializer.deserialize(data, clazz);
+        }
+        return jacksonSerializer.deserialize(data, clazz);
+    }
+    
+    private boolean isBinaryNegotiated() {
+        if (!binaryEnabled) {
+            return false;
+        }
+        for (Member each : memberManager.allMembersWithoutSelf()) {
+            if (!Boolean.parseBoolean(String.valueOf(each.getExtendVal(SUPPORT_BINARY_SERIALIZER)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -20,11 +20,13 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,6 +47,9 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -63,11 +68,18 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientDigestIndex digestIndex;
+    
+    private volatile DistroClientDigestTree digestTree;
+    
     private volatile boolean isFinishInitial;
     
+    private volatile SnapshotPartition snapshotPartition;
+    
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
+        this.digestIndex = new DistroClientDigestIndex();
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -103,6 +115,10 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     }
     
     private void syncToVerifyFailedServer(ClientEvent.ClientVerifyFailedEvent event) {
+        if (DistroClientDigestTree.isDigestKey(event.getClientId())) {
+            verifyDivergedRangeToServer(event.getClientId(), event.getTargetServer());
+            return;
+        }
         Client client = clientManager.getClient(event.getClientId());
         if (isInvalidClient(client)) {
             return;
@@ -112,6 +128,34 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         distroProtocol.syncToTarget(distroKey, DataOperation.ADD, event.getTargetServer(), 0L);
     }
     
+    /**
+     * Digest of range diverged, verify sub ranges, or verify each client when range is a leaf.
+     */
+    private void verifyDivergedRangeToServer(String digestKey, String targetServer) {
+        DistroClientDigestTree tree = digestTree;
+        if (null == tree) {
+            return;
+        }
+        int[] range = DistroClientDigestTree.parseRange(digestKey);
+        List<DistroData> verifyData = new LinkedList<>();
+        if (range[1] - range[0] > 1) {
+            for (int[] each : DistroClientDigestTree.splitRange(range[0], range[1])) {
+                DistroClientDigestVerifyInfo digest = tree.getDigest(each[0], each[1]);
+                if (digest.getClientCount() > 0) {
+                    verifyData.add(buildDigestVerifyData(digest));
+                }
+            }
+        } else {
+            for (String each : tree.getClients(range[0])) {
+                Client client = clientManager.getClient(each);
+                if (!isInvalidClient(client)) {
+                    verifyData.add(buildClientVerifyData(client));
+                }
+            }
+        }
+        distroProtocol.verifyToTarget(TYPE, verifyData, targetServer);
+    }
+    
     private void syncToAllServer(ClientEvent event) {
         Client client = event.getClient();
         if (isInvalidClient(client)) {
@@ -225,9 +269,20 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public boolean processVerifyData(DistroData distroData, String sourceAddress) {
+        // prefer the address of source server, old version server only send with ip
+        String source = null != distroData.getDistroKey().getTargetServer() ? distroData.getDistroKey()
+                .getTargetServer() : sourceAddress;
+        if (DistroClientDigestTree.isDigestKey(distroData.getDistroKey().getResourceKey())) {
+            DistroClientDigestVerifyInfo digestData = ApplicationUtils.getBean(Serializer.class)
+                    .deserialize(distroData.getContent(), DistroClientDigestVerifyInfo.class);
+            return digestIndex.verify(digestData, source, clientManager);
+        }
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
         if (clientManager.verifyClient(verifyData)) {
+            if (DistroConfig.getInstance().isVerifyDigestEnabled()) {
+                digestIndex.recordSource(verifyData.getClientId(), source);
+            }
             return true;
         }
         Loggers.DISTRO.info("client {} is invalid, get new client from {}", verifyData.getClientId(), sourceAddress);
@@ -256,8 +311,46 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
+        return buildSnapshot(clientManager.allClientId());
+    }
+    
+    @Override
+    public DistroSnapshotChunk getDatumSnapshotChunk(int chunkIndex, int chunkCount) {
+        if (DistroSnapshotChunk.CHUNK_COUNT_WHOLE_SNAPSHOT == chunkCount) {
+            // Request without chunk, such as from old servers, requires the whole snapshot.
+            return new DistroSnapshotChunk(getDatumSnapshot(), 0, 1);
+        }
+        SnapshotPartition partition = getSnapshotPartition(chunkIndex, chunkCount);
+        return new DistroSnapshotChunk(buildSnapshot(partition.getChunk(chunkIndex)), chunkIndex,
+                partition.chunkCount);
+    }
+    
+    /**
+     * Get the partition of client ids for the chunk request. The first chunk of a load partitions all clients once,
+     * the following chunks of the load reuse the partition instead of scanning all clients again.
+     */
+    private SnapshotPartition getSnapshotPartition(int chunkIndex, int chunkCount) {
+        SnapshotPartition result = snapshotPartition;
+        if (0 == chunkIndex || null == result || result.chunkCount != chunkCount) {
+            Collection<String> allClientIds = clientManager.allClientId();
+            int actualChunkCount = chunkCount > 0 ? chunkCount : calculateChunkCount(allClientIds.size());
+            result = new SnapshotPartition(allClientIds, actualChunkCount);
+            snapshotPartition = result;
+        }
+        return result;
+    }
+    
+    private int calculateChunkCount(int clientCount) {
+        int chunkSize = DistroConfig.getInstance().getLoadDataChunkSize();
+        if (chunkSize <= 0) {
+            return 1;
+        }
+        return Math.max(1, (clientCount + chunkSize - 1) / chunkSize);
+    }
+    
+    private DistroData buildSnapshot(Collection<String> clientIds) {
         List<ClientSyncData> datum = new LinkedList<>();
-        for (String each : clientManager.allClientId()) {
+        for (String each : clientIds) {
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -272,6 +365,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public List<DistroData> getVerifyData() {
+        if (DistroConfig.getInstance().isVerifyDigestEnabled()) {
+            return getDigestVerifyData();
+        }
         List<DistroData> result = null;
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
@@ -279,18 +375,71 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
                 continue;
             }
             if (clientManager.isResponsibleClient(client)) {
-                DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(),
-                        client.getRevision());
-                DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
-                DistroData data = new DistroData(distroKey,
-                        ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
-                data.setType(DataOperation.VERIFY);
                 if (result == null) {
                     result = new LinkedList<>();
                 }
-                result.add(data);
+                result.add(buildClientVerifyData(client));
+            }
+        }
+        return result;
+    }
+    
+    private List<DistroData> getDigestVerifyData() {
+        DistroClientDigestTree tree = new DistroClientDigestTree();
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (!isInvalidClient(client)) {
+                tree.addClient(client.getClientId(), client.getRevision());
             }
         }
+        digestTree = tree;
+        if (tree.isEmpty()) {
+            return null;
+        }
+        List<DistroData> result = new LinkedList<>();
+        result.add(buildDigestVerifyData(tree.getDigest(0, DistroClientDigestTree.LEAF_COUNT)));
         return result;
     }
+    
+    private DistroData buildClientVerifyData(Client client) {
+        DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(), client.getRevision());
+        DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
+        DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+        data.setType(DataOperation.VERIFY);
+        return data;
+    }
+    
+    private DistroData buildDigestVerifyData(DistroClientDigestVerifyInfo digest) {
+        DistroKey distroKey = new DistroKey(DistroClientDigestTree.buildDigestKey(digest.getFrom(), digest.getTo()),
+                TYPE);
+        DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        data.setType(DataOperation.VERIFY);
+        return data;
+    }
+    
+    /**
+     * Client ids divided into chunks by hash of client id, so that the chunks are stable even if clients are added or
+     * removed between the requests of two chunks.
+     */
+    private static class SnapshotPartition {
+        
+        private final int chunkCount;
+        
+        private final List<List<String>> chunks;
+        
+        private SnapshotPartition(Collection<String> clientIds, int chunkCount) {
+            this.chunkCount = chunkCount;
+            this.chunks = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                chunks.add(new LinkedList<>());
+            }
+            for (String each : clientIds) {
+                chunks.get(Math.floorMod(each.hashCode(), chunkCount)).add(each);
+            }
+        }
+        
+        private List<String> getChunk(int chunkIndex) {
+            return chunkIndex >= 0 && chunkIndex < chunkCount ? chunks.get(chunkIndex) : Collections.emptyList();
+        }
+    }
 }
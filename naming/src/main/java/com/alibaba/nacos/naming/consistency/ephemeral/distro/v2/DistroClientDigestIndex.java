@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of synced clients by source server and leaf of {@link DistroClientDigestTree}.
+ *
+ * <p>Source of client is recorded when client verified by source server one by one, so the digest of the same leaf
+ * range can be calculated by the clients synced from the source server.
+ *
+ * @author agent
+ */
+public class DistroClientDigestIndex {
+    
+    private final ConcurrentMap<String, String> clientSources = new ConcurrentHashMap<>(1 << 10);
+    
+    private final ConcurrentMap<String, List<Set<String>>> sourceLeafClients = new ConcurrentHashMap<>(8);
+    
+    /**
+     * Record source server of client.
+     *
+     * @param clientId client id
+     * @param source   source server
+     */
+    public void recordSource(String clientId, String source) {
+        String oldSource = clientSources.put(clientId, source);
+        if (source.equals(oldSource)) {
+            return;
+        }
+        int leaf = DistroClientDigestTree.leafOf(clientId);
+        if (null != oldSource) {
+            getLeafClients(oldSource).get(leaf).remove(clientId);
+        }
+        getLeafClients(source).get(leaf).add(clientId);
+    }
+    
+    /**
+     * Verify digest of clients synced from source server, and renew the clients if digest matched.
+     *
+     * @param verifyInfo    digest verify info from source server
+     * @param source        source server
+     * @param clientManager client manager
+     * @return {@code true} if digest matched, otherwise {@code false}
+     */
+    public boolean verify(DistroClientDigestVerifyInfo verifyInfo, String source, ClientManager clientManager) {
+        List<Set<String>> leafClients = sourceLeafClients.get(source);
+        List<DistroClientVerifyInfo> clients = new ArrayList<>(verifyInfo.getClientCount());
+        long digest = 0L;
+        long verifyBytes = 0L;
+        for (int i = verifyInfo.getFrom(); null != leafClients && i < verifyInfo.getTo(); i++) {
+            Iterator<String> iterator = leafClients.get(i).iterator();
+            while (iterator.hasNext()) {
+                String clientId = iterator.next();
+                Client client = clientManager.getClient(clientId);
+                if (null == client) {
+                    iterator.remove();
+                    clientSources.remove(clientId, source);
+                    continue;
+                }
+                clients.add(new DistroClientVerifyInfo(clientId, client.getRevision()));
+                digest += DistroClientDigestTree.digestOf(clientId, client.getRevision());
+                verifyBytes += clientId.length() + Long.BYTES;
+            }
+        }
+        if (clients.size() != verifyInfo.getClientCount() || digest != verifyInfo.getDigest()) {
+            MetricsMonitor.getDistroDigestVerifyDivergence().incrementAndGet();
+            return false;
+        }
+        for (DistroClientVerifyInfo each : clients) {
+            clientManager.verifyClient(each);
+        }
+        MetricsMonitor.getDistroDigestVerifySavedBytes().addAndGet(verifyBytes);
+        return true;
+    }
+    
+    private List<Set<String>> getLeafClients(String source) {
+        return sourceLeafClients.computeIfAbsent(source, key -> {
+            List<Set<String>> result = new ArrayList<>(DistroClientDigestTree.LEAF_COUNT);
+            for (int i = 0; i < DistroClientDigestTree.LEAF_COUNT; i++) {
+                result.add(new ConcurrentHashSet<>());
+            }
+            return result;
+        });
+    }
+}
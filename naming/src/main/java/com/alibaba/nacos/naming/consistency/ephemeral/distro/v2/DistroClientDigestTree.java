@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hash range tree of the clients responsible by current server for digest verifying.
+ *
+ * <p>Clients are hashed into {@link #LEAF_COUNT} leaves. The digest of a leaf range is the sum of the digests of
+ * the clients in it, so the root range covers all clients and each range is split into {@link #FANOUT} sub ranges.
+ * Peers only descend into the ranges whose digest diverged, and verify each client of the diverged leaves.
+ *
+ * @author agent
+ */
+public class DistroClientDigestTree {
+    
+    public static final int LEAF_COUNT = 4096;
+    
+    public static final int FANOUT = 16;
+    
+    private static final String KEY_PREFIX = "distro_digest@";
+    
+    private static final String RANGE_SPLITTER = "-";
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final List<List<String>> leafClients;
+    
+    private final long[] leafDigests;
+    
+    private final int[] leafCounts;
+    
+    public DistroClientDigestTree() {
+        this.leafClients = new ArrayList<>(LEAF_COUNT);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            leafClients.add(new ArrayList<>());
+        }
+        this.leafDigests = new long[LEAF_COUNT];
+        this.leafCounts = new int[LEAF_COUNT];
+    }
+    
+    /**
+     * Add client into tree.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     */
+    public void addClient(String clientId, long revision) {
+        int leaf = leafOf(clientId);
+        leafClients.get(leaf).add(clientId);
+        leafDigests[leaf] += digestOf(clientId, revision);
+        leafCounts[leaf]++;
+    }
+    
+    /**
+     * Get digest of leaf range.
+     *
+     * @param from start leaf, inclusive
+     * @param to   end leaf, exclusive
+     * @return digest verify info of range
+     */
+    public DistroClientDigestVerifyInfo getDigest(int from, int to) {
+        int count = 0;
+        long digest = 0L;
+        for (int i = from; i < to; i++) {
+            count += leafCounts[i];
+            digest += leafDigests[i];
+        }
+        return new DistroClientDigestVerifyInfo(from, to, count, digest);
+    }
+    
+    /**
+     * Get clients of leaf.
+     *
+     * @param leaf leaf index
+     * @return client ids in leaf
+     */
+    public List<String> getClients(int leaf) {
+        return Collections.unmodifiableList(leafClients.get(leaf));
+    }
+    
+    public boolean isEmpty() {
+        return getDigest(0, LEAF_COUNT).getClientCount() == 0;
+    }
+    
+    /**
+     * Split range into sub ranges.
+     *
+     * @param from start leaf, inclusive
+     * @param to   end leaf, exclusive
+     * @return sub ranges, each element is {from, to}
+     */
+    public static List<int[]> splitRange(int from, int to) {
+        int step = Math.max(1, (to - from) / FANOUT);
+        List<int[]> result = new ArrayList<>(FANOUT);
+        for (int i = from; i < to; i += step) {
+            result.add(new int[] {i, Math.min(i + step, to)});
+        }
+        return result;
+    }
+    
+    /**
+     * Whether the key is the resource key of digest verify data.
+     *
+     * @param resourceKey resource key
+     * @return {@code true} if it is digest resource key
+     */
+    public static boolean isDigestKey(String resourceKey) {
+        return null != resourceKey && resourceKey.startsWith(KEY_PREFIX);
+    }
+    
+    public static String buildDigestKey(int from, int to) {
+        return KEY_PREFIX + from + RANGE_SPLITTER + to;
+    }
+    
+    /**
+     * Parse range from digest resource key.
+     *
+     * @param digestKey digest resource key
+     * @return range {from, to}
+     */
+    public static int[] parseRange(String digestKey) {
+        String[] range = digestKey.substring(KEY_PREFIX.length()).split(RANGE_SPLITTER);
+        return new int[] {Integer.parseInt(range[0]), Integer.parseInt(range[1])};
+    }
+    
+    public static int leafOf(String clientId) {
+        int hash = clientId.hashCode();
+        return (hash ^ (hash >>> 16)) & (LEAF_COUNT - 1);
+    }
+    
+    /**
+     * Calculate digest of client, independent of the hash used for leaf.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     * @return digest
+     */
+    public static long digestOf(String clientId, long revision) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < clientId.length(); i++) {
+            hash ^= clientId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash ^ mix(revision));
+    }
+    
+    private static long mix(long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+
+/**
+ * Digest of clients in a leaf range of {@link DistroClientDigestTree} for verifying.
+ *
+ * @author agent
+ */
+public class DistroClientDigestVerifyInfo implements Serializable {
+    
+    private static final long serialVersionUID = -3578370497187463219L;
+    
+    private int from;
+    
+    private int to;
+    
+    private int clientCount;
+    
+    private long digest;
+    
+    public DistroClientDigestVerifyInfo() {
+    }
+    
+    public DistroClientDigestVerifyInfo(int from, int to, int clientCount, long digest) {
+        this.from = from;
+        this.to = to;
+        this.clientCount = clientCount;
+        this.digest = digest;
+    }
+    
+    public int getFrom() {
+        return from;
+    }
+    
+    public void setFrom(int from) {
+        this.from = from;
+    }
+    
+    public int getTo() {
+        return to;
+    }
+    
+    public void setTo(int to) {
+        this.to = to;
+    }
+    
+    public int getClientCount() {
+        return clientCount;
+    }
+    
+    public void setClientCount(int clientCount) {
+        this.clientCount = clientCount;
+    }
+    
+    public long getDigest() {
+        return digest;
+    }
+    
+    public void setDigest(long digest) {
+        this.digest = digest;
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
@@ -137,6 +138,7 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             callback.onSuccess();
             return;
         }
+        verifyData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
         DistroDataRequest request = new DistroDataRequest(verifyData, DataOperation.VERIFY);
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
@@ -184,6 +186,16 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
+        return getDatumSnapshotChunk(targetServer, 0, 1).getData();
+    }
+    
+    @Override
+    public boolean supportChunkedSnapshot() {
+        return true;
+    }
+    
+    @Override
+    public DistroSnapshotChunk getDatumSnapshotChunk(String targetServer, int chunkIndex, int chunkCount) {
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
             throw new DistroException(
@@ -191,11 +203,16 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
         DistroDataRequest request = new DistroDataRequest();
         request.setDataOperation(DataOperation.SNAPSHOT);
+        request.setChunkIndex(chunkIndex);
+        request.setChunkCount(chunkCount);
         try {
             Response response = clusterRpcClientProxy
                     .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
             if (checkResponse(response)) {
-                return ((DistroDataResponse) response).getDistroData();
+                DistroDataResponse distroDataResponse = (DistroDataResponse) response;
+                // Target server without chunk supported will return whole snapshot without chunk count.
+                int actualChunkCount = distroDataResponse.getChunkCount() > 0 ? distroDataResponse.getChunkCount() : 1;
+                return new DistroSnapshotChunk(distroDataResponse.getDistroData(), chunkIndex, actualChunkCount);
             } else {
                 throw new DistroException(
                         String.format("[DISTRO-FAILED] Get snapshot request to %s failed, code: %d, message: %s",
@@ -65,6 +65,16 @@ public final class Constants {
      */
     public static final String EXPIRE_INSTANCE = "nacos.naming.expireInstance";
     
+    /**
+     * Max count of in-flight health checks for persistent instances. default: 4096.
+     */
+    public static final String HEALTH_CHECK_MAX_IN_FLIGHT = "nacos.naming.health-check.max-in-flight";
+    
+    /**
+     * Max count of in-flight health checks to the same target ip. default: 32.
+     */
+    public static final String HEALTH_CHECK_MAX_IN_FLIGHT_PER_TARGET = "nacos.naming.health-check.max-in-flight-per-target";
+    
     /**
      * UDP max retry times.
      */
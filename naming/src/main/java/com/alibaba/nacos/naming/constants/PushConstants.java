@@ -43,4 +43,12 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push delta of instances to clients which support delta push, disabled by default until clients with
+     * delta push support are widely deployed.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.deltaEnabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
 }
@@ -32,9 +32,13 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,6 +64,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceSnapshot> serviceSnapshotIndex;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +74,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceSnapshotIndex = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +96,15 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove all cached data of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceSnapshotIndex.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,27 +117,52 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+        ServiceSnapshot previous = serviceSnapshotIndex.get(service);
+        Map<String, ParsedClientInstances> previousClients =
+                null == previous ? Collections.emptyMap() : previous.clients;
+        Collection<String> clientIds = serviceIndexesManager.getAllClientsRegisteredService(service);
+        Map<String, ParsedClientInstances> clients = new HashMap<>(clientIds.size());
+        boolean changed = null == previous;
+        for (String each : clientIds) {
             Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
+            if (!instancePublishInfo.isPresent()) {
+                continue;
+            }
+            // Only re-parse the instances of clients which changed since last build, others reuse the parsed result.
+            ParsedClientInstances parsed = previousClients.get(each);
+            if (null == parsed || !parsed.isLatest(service, instancePublishInfo.get())) {
+                parsed = parseClientInstances(service, instancePublishInfo.get());
+                changed = true;
+            }
+            clients.put(each, parsed);
+        }
+        ServiceSnapshot snapshot = previous;
+        if (changed || clients.size() != previousClients.size()) {
+            snapshot = new ServiceSnapshot(clients);
+            // Publish the new snapshot only if no one else did, a lost race is corrected by the next build.
+            if (null == previous) {
+                serviceSnapshotIndex.putIfAbsent(service, snapshot);
+            } else {
+                serviceSnapshotIndex.replace(service, previous, snapshot);
             }
         }
         // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        serviceClusterIndex.put(service, new HashSet<>(snapshot.clusters));
+        return new LinkedList<>(snapshot.instances);
+    }
+    
+    private ParsedClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo) {
+        // snapshot the status before parsing, so that changes during parsing will trigger re-parsing next time
+        ParsedClientInstances result = new ParsedClientInstances(service, publishInfo);
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            result.instances.addAll(parseBatchInstance(service, (BatchInstancePublishInfo) publishInfo, result.clusters));
+        } else {
+            Instance instance = parseInstance(service, publishInfo);
+            result.instances.add(instance);
+            result.clusters.add(instance.getClusterName());
+        }
+        return result;
     }
     
     /**
@@ -159,4 +197,76 @@ public class ServiceStorage {
         metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
         return result;
     }
+    
+    /**
+     * Immutable parsed instances of one service, replaced as a whole when any client of the service changed.
+     */
+    private static class ServiceSnapshot {
+        
+        private final Map<String, ParsedClientInstances> clients;
+        
+        private final Set<Instance> instances = new HashSet<>();
+        
+        private final Set<String> clusters = new HashSet<>();
+        
+        private ServiceSnapshot(Map<String, ParsedClientInstances> clients) {
+            this.clients = clients;
+            for (ParsedClientInstances each : clients.values()) {
+                instances.addAll(each.instances);
+                clusters.addAll(each.clusters);
+            }
+        }
+    }
+    
+    /**
+     * Instances parsed from the publish info of one client.
+     *
+     * <p>Publish info is replaced when client registers or updates instance, and instance metadata is replaced when
+     * updated, only the healthy status is changed in place. So the parsed instances are still latest when the
+     * references and healthy status are not changed.
+     */
+    private class ParsedClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final InstancePublishInfo[] parsedInfos;
+        
+        private final boolean[] parsedHealthy;
+        
+        private final InstanceMetadata[] parsedMetadata;
+        
+        private final List<Instance> instances = new ArrayList<>();
+        
+        private final Set<String> clusters = new HashSet<>();
+        
+        private ParsedClientInstances(Service service, InstancePublishInfo publishInfo) {
+            this.publishInfo = publishInfo;
+            this.parsedInfos = publishInfo instanceof BatchInstancePublishInfo
+                    ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                    .toArray(new InstancePublishInfo[0]) : new InstancePublishInfo[] {publishInfo};
+            this.parsedHealthy = new boolean[parsedInfos.length];
+            this.parsedMetadata = new InstanceMetadata[parsedInfos.length];
+            for (int i = 0; i < parsedInfos.length; i++) {
+                parsedHealthy[i] = parsedInfos[i].isHealthy();
+                parsedMetadata[i] = getInstanceMetadata(service, parsedInfos[i]);
+            }
+        }
+        
+        private boolean isLatest(Service service, InstancePublishInfo latestPublishInfo) {
+            if (publishInfo != latestPublishInfo) {
+                return false;
+            }
+            for (int i = 0; i < parsedInfos.length; i++) {
+                if (parsedInfos[i].isHealthy() != parsedHealthy[i]
+                        || getInstanceMetadata(service, parsedInfos[i]) != parsedMetadata[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private InstanceMetadata getInstanceMetadata(Service service, InstancePublishInfo instanceInfo) {
+            return metadataManager.getInstanceMetadata(service, instanceInfo.getMetadataId()).orElse(null);
+        }
+    }
 }
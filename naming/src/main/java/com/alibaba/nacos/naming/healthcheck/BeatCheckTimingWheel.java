@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hashed timing wheel for periodic beat check tasks.
+ *
+ * <p>All beat check tasks share the same period, so tasks are hashed into the buckets of one wheel by the tick when
+ * they are scheduled, and one wheel revolution equals the period. Each tick only submits the tasks of one bucket to
+ * the naming health executor, which replaces one repeating scheduled future per client.
+ *
+ * <p>The wheel ticks at a fixed rate. If ticks are delayed, the next tick catches up all missed buckets.
+ *
+ * @author agent
+ */
+public class BeatCheckTimingWheel {
+    
+    private final long tickMillis;
+    
+    private final List<Map<String, Runnable>> buckets;
+    
+    private final Map<String, Integer> taskBuckets;
+    
+    private final AtomicBoolean started;
+    
+    private final Executor taskExecutor;
+    
+    private volatile long currentTick;
+    
+    private long startTime;
+    
+    public BeatCheckTimingWheel(long periodMillis, int wheelSize) {
+        this(periodMillis, wheelSize, GlobalExecutor::executeNamingHealth);
+    }
+    
+    BeatCheckTimingWheel(long periodMillis, int wheelSize, Executor taskExecutor) {
+        this.tickMillis = periodMillis / wheelSize;
+        this.taskExecutor = taskExecutor;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ConcurrentHashMap<>(16));
+        }
+        this.taskBuckets = new ConcurrentHashMap<>(1 << 10);
+        this.started = new AtomicBoolean(false);
+        this.startTime = System.currentTimeMillis();
+    }
+    
+    /**
+     * Start ticking the wheel if not started.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            startTime = System.currentTimeMillis();
+            GlobalExecutor.scheduleNamingHealthAtFixedRate(() -> catchUp(System.currentTimeMillis()), tickMillis,
+                    tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Schedule task to run once per revolution, the first run is about one period later.
+     *
+     * @param taskKey key of task
+     * @param task    task
+     */
+    public void schedule(String taskKey, Runnable task) {
+        taskBuckets.computeIfAbsent(taskKey, key -> {
+            int bucket = (int) (currentTick % buckets.size());
+            buckets.get(bucket).put(key, task);
+            return bucket;
+        });
+    }
+    
+    /**
+     * Cancel task.
+     *
+     * @param taskKey key of task
+     */
+    public void cancel(String taskKey) {
+        Integer bucket = taskBuckets.remove(taskKey);
+        if (null != bucket) {
+            buckets.get(bucket).remove(taskKey);
+        }
+    }
+    
+    public int size() {
+        return taskBuckets.size();
+    }
+    
+    /**
+     * Run all ticks which should have happened since the wheel started.
+     */
+    void catchUp(long now) {
+        long dueTick = (now - startTime) / tickMillis;
+        MetricsMonitor.getBeatCheckWheelTickLag().set(Math.max(0L, now - startTime - (currentTick + 1) * tickMillis));
+        while (currentTick < dueTick) {
+            tick();
+        }
+    }
+    
+    void tick() {
+        long nextTick = currentTick + 1;
+        currentTick = nextTick;
+        for (Runnable each : buckets.get((int) (nextTick % buckets.size())).values()) {
+            try {
+                taskExecutor.execute(() -> runTask(each));
+            } catch (Exception e) {
+                Loggers.SRV_LOG.warn("Submit beat check task in timing wheel failed", e);
+            }
+        }
+        MetricsMonitor.getBeatCheckWheelDepth().set(taskBuckets.size());
+    }
+    
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            Loggers.SRV_LOG.warn("Run beat check task in timing wheel failed", e);
+        }
+    }
+}
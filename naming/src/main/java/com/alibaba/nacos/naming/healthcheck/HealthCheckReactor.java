@@ -16,14 +16,12 @@
 
 package com.alibaba.nacos.naming.healthcheck;
 
+import com.alibaba.nacos.common.utils.RandomUtils;
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
-import com.alibaba.nacos.naming.misc.Loggers;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -35,7 +33,18 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_PERIOD_MILLIS = 5000L;
+    
+    private static final int BEAT_CHECK_WHEEL_SIZE = 10;
+    
+    /**
+     * Max jitter of health check delay, as a divisor of normalized check rt, to avoid checks of instances registered
+     * at the same time being fired at the same time.
+     */
+    private static final int CHECK_JITTER_DIVISOR = 10;
+    
+    private static final BeatCheckTimingWheel BEAT_CHECK_WHEEL = new BeatCheckTimingWheel(BEAT_CHECK_PERIOD_MILLIS,
+            BEAT_CHECK_WHEEL_SIZE);
     
     /**
      * Schedule health check task for v2.
@@ -43,9 +52,13 @@ public class HealthCheckReactor {
      * @param task health check task
      */
     public static void scheduleCheck(HealthCheckTaskV2 task) {
-        task.setStartTime(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        long delay = task.getCheckRtNormalized() + RandomUtils
+                .nextLong(0, Math.max(1L, task.getCheckRtNormalized() / CHECK_JITTER_DIVISOR));
+        task.setStartTime(now);
+        task.setExpectedCheckTime(now + delay);
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        GlobalExecutor.scheduleNamingHealth(wrapperTask, delay, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -57,8 +70,8 @@ public class HealthCheckReactor {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        BEAT_CHECK_WHEEL.start();
+        BEAT_CHECK_WHEEL.schedule(task.taskKey(), wrapperTask);
     }
     
     /**
@@ -67,16 +80,7 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
-            return;
-        }
-        try {
-            scheduledFuture.cancel(true);
-            futureMap.remove(task.taskKey());
-        } catch (Exception e) {
-            Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
-        }
+        BEAT_CHECK_WHEEL.cancel(task.taskKey());
     }
     
     /**
@@ -28,6 +28,7 @@ import com.alibaba.nacos.naming.healthcheck.NacosHealthCheckTask;
 import com.alibaba.nacos.naming.healthcheck.v2.processor.HealthCheckProcessorV2Delegate;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import com.alibaba.nacos.common.utils.RandomUtils;
 
@@ -66,6 +67,8 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
     
     private long startTime;
     
+    private long expectedCheckTime;
+    
     private volatile boolean cancelled = false;
     
     public HealthCheckTaskV2(IpPortBasedClient client) {
@@ -108,6 +111,7 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
     
     @Override
     public void doHealthCheck() {
+        recordCheckLag();
         try {
             initIfNecessary();
             for (Service each : client.getAllPublishedService()) {
@@ -144,6 +148,12 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
         }
     }
     
+    private void recordCheckLag() {
+        if (expectedCheckTime > 0) {
+            MetricsMonitor.getHealthCheckLag().set(Math.max(0L, System.currentTimeMillis() - expectedCheckTime));
+        }
+    }
+    
     @Override
     public void passIntercept() {
         doHealthCheck();
@@ -216,6 +226,14 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
         this.startTime = startTime;
     }
     
+    public long getExpectedCheckTime() {
+        return expectedCheckTime;
+    }
+    
+    public void setExpectedCheckTime(long expectedCheckTime) {
+        this.expectedCheckTime = expectedCheckTime;
+    }
+    
     public long getCheckRtLast() {
         return checkRtLast;
     }
@@ -50,6 +50,31 @@ public class HealthCheckCommonV2 {
     @Autowired
     private PersistentHealthStatusSynchronizer healthStatusSynchronizer;
     
+    @Autowired
+    private HealthCheckConcurrencyLimiter concurrencyLimiter;
+    
+    /**
+     * Try to acquire the permit to check instance, which should be called after {@link
+     * HealthCheckInstancePublishInfo#tryStartCheck()} succeed. If exceeding the concurrency limits, the check of
+     * instance will be finished without changing state and the check interval will be backed off.
+     *
+     * @param task     health check task
+     * @param instance instance to check
+     * @param params   health params
+     * @return permit which should be released when check finished, or {@code null} if exceeding the limits
+     */
+    public HealthCheckConcurrencyLimiter.Permit tryAcquireCheck(HealthCheckTaskV2 task,
+            HealthCheckInstancePublishInfo instance, SwitchDomain.HealthParams params) {
+        HealthCheckConcurrencyLimiter.Permit result = concurrencyLimiter.tryAcquire(instance.getIp());
+        if (null == result) {
+            instance.finishCheck();
+            Loggers.SRV_LOG.debug("[HEALTH-CHECK-V2] too many in-flight checks, delay check for {}:{}",
+                    instance.getIp(), instance.getPort());
+            reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, params);
+        }
+        return result;
+    }
+    
     /**
      * Re-evaluate check response time.
      *
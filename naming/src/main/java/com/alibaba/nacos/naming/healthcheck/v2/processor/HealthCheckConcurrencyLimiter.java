@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.misc.GlobalConfig;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limiter of health checks for persistent instances.
+ *
+ * <p>Both the total count of in-flight checks and the count of in-flight checks to the same target ip are bounded, so
+ * that tens of thousands of persistent instances or many instances on the same host will not pile up checks. Each
+ * acquired {@link Permit} must be released by the completion of the check, and releasing is idempotent.
+ *
+ * @author agent
+ */
+@Component
+public class HealthCheckConcurrencyLimiter {
+    
+    private final int maxInFlight;
+    
+    private final int maxInFlightPerTarget;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private final ConcurrentMap<String, Integer> targetInFlight = new ConcurrentHashMap<>();
+    
+    public HealthCheckConcurrencyLimiter() {
+        this(GlobalConfig.getHealthCheckMaxInFlight(), GlobalConfig.getHealthCheckMaxInFlightPerTarget());
+    }
+    
+    HealthCheckConcurrencyLimiter(int maxInFlight, int maxInFlightPerTarget) {
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerTarget = maxInFlightPerTarget;
+    }
+    
+    /**
+     * Try to acquire a permit to check target.
+     *
+     * @param target target ip of health check
+     * @return permit, or {@code null} if exceeding the limits
+     */
+    public Permit tryAcquire(String target) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            MetricsMonitor.getHealthCheckRejected().incrementAndGet();
+            return null;
+        }
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        targetInFlight.compute(target, (key, count) -> {
+            int current = null == count ? 0 : count;
+            if (current >= maxInFlightPerTarget) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        if (!acquired.get()) {
+            inFlight.decrementAndGet();
+            MetricsMonitor.getHealthCheckRejected().incrementAndGet();
+            return null;
+        }
+        MetricsMonitor.getHealthCheckInFlight().incrementAndGet();
+        return new Permit(target);
+    }
+    
+    private void release(String target) {
+        targetInFlight.computeIfPresent(target, (key, count) -> count <= 1 ? null : count - 1);
+        inFlight.decrementAndGet();
+        MetricsMonitor.getHealthCheckInFlight().decrementAndGet();
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public int getInFlight(String target) {
+        return targetInFlight.getOrDefault(target, 0);
+    }
+    
+    /**
+     * Permit of one health check.
+     */
+    public class Permit {
+        
+        private final String target;
+        
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        
+        private Permit(String target) {
+            this.target = target;
+        }
+        
+        /**
+         * Release the permit when check finished, only the first invocation takes effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                HealthCheckConcurrencyLimiter.this.release(target);
+            }
+        }
+    }
+}
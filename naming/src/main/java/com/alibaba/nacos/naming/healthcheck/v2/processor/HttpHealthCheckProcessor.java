@@ -72,6 +72,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         if (null == instance) {
             return;
         }
+        HealthCheckConcurrencyLimiter.Permit permit = null;
         try {
             // TODO handle marked(white list) logic like v1.x.
             if (!instance.tryStartCheck()) {
@@ -81,6 +82,10 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getHttpHealthParams());
                 return;
             }
+            permit = healthCheckCommon.tryAcquireCheck(task, instance, switchDomain.getHttpHealthParams());
+            if (null == permit) {
+                return;
+            }
             
             Http healthChecker = (Http) metadata.getHealthChecker();
             int ckPort = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
@@ -91,9 +96,12 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             header.addAll(customHeaders);
             
             ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
-                    new HttpHealthCheckCallback(instance, task, service));
+                    new HttpHealthCheckCallback(instance, task, service, permit));
             MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
         } catch (Throwable e) {
+            if (null != permit) {
+                permit.release();
+            }
             instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
             healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
             healthCheckCommon.reEvaluateCheckRT(switchDomain.getHttpHealthParams().getMax(), task,
@@ -114,17 +122,32 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final HealthCheckInstancePublishInfo instance;
         
+        private final HealthCheckConcurrencyLimiter.Permit permit;
+        
         private long startTime = System.currentTimeMillis();
         
         public HttpHealthCheckCallback(HealthCheckInstancePublishInfo instance, HealthCheckTaskV2 task,
                 Service service) {
+            this(instance, task, service, null);
+        }
+        
+        public HttpHealthCheckCallback(HealthCheckInstancePublishInfo instance, HealthCheckTaskV2 task,
+                Service service, HealthCheckConcurrencyLimiter.Permit permit) {
             this.instance = instance;
             this.task = task;
             this.service = service;
+            this.permit = permit;
+        }
+        
+        private void releasePermit() {
+            if (null != permit) {
+                permit.release();
+            }
         }
         
         @Override
         public void onReceive(RestResult<String> result) {
+            releasePermit();
             instance.setCheckRt(System.currentTimeMillis() - startTime);
             int httpCode = result.getCode();
             if (HttpURLConnection.HTTP_OK == httpCode) {
@@ -147,6 +170,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onError(Throwable throwable) {
+            releasePermit();
             Throwable cause = throwable;
             instance.setCheckRt(System.currentTimeMillis() - startTime);
             int maxStackDepth = 50;
@@ -172,7 +196,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onCancel() {
-        
+            releasePermit();
         }
     }
 }
@@ -84,6 +84,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
             return;
         }
         SRV_LOG.debug("mysql check, ip:" + instance);
+        HealthCheckConcurrencyLimiter.Permit permit = null;
         try {
             // TODO handle marked(white list) logic like v1.x.
             if (!instance.tryStartCheck()) {
@@ -93,9 +94,16 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
                 return;
             }
-            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata));
+            permit = healthCheckCommon.tryAcquireCheck(task, instance, switchDomain.getMysqlHealthParams());
+            if (null == permit) {
+                return;
+            }
+            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata, permit));
             MetricsMonitor.getMysqlHealthCheckMonitor().incrementAndGet();
         } catch (Exception e) {
+            if (null != permit) {
+                permit.release();
+            }
             instance.setCheckRt(switchDomain.getMysqlHealthParams().getMax());
             healthCheckCommon.checkFail(task, service, "mysql:error:" + e.getMessage());
             healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
@@ -113,14 +121,17 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final ClusterMetadata metadata;
         
+        private final HealthCheckConcurrencyLimiter.Permit permit;
+        
         private long startTime = System.currentTimeMillis();
         
         public MysqlCheckTask(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
-                ClusterMetadata metadata) {
+                ClusterMetadata metadata, HealthCheckConcurrencyLimiter.Permit permit) {
             this.task = task;
             this.service = service;
             this.instance = instance;
             this.metadata = metadata;
+            this.permit = permit;
         }
         
         @Override
@@ -186,6 +197,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
                         switchDomain.getMysqlHealthParams());
             } finally {
+                permit.release();
                 instance.setCheckRt(System.currentTimeMillis() - startTime);
                 if (statement != null) {
                     try {
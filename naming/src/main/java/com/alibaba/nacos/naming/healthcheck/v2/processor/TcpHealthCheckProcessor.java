@@ -107,7 +107,12 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        HealthCheckConcurrencyLimiter.Permit permit = healthCheckCommon
+                .tryAcquireCheck(task, instance, switchDomain.getTcpHealthParams());
+        if (null == permit) {
+            return;
+        }
+        taskQueue.add(new Beat(task, service, metadata, instance, permit));
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
@@ -224,14 +229,17 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         private final HealthCheckInstancePublishInfo instance;
         
+        private final HealthCheckConcurrencyLimiter.Permit permit;
+        
         long startTime = System.currentTimeMillis();
         
         public Beat(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata,
-                HealthCheckInstancePublishInfo instance) {
+                HealthCheckInstancePublishInfo instance, HealthCheckConcurrencyLimiter.Permit permit) {
             this.task = task;
             this.service = service;
             this.metadata = metadata;
             this.instance = instance;
+            this.permit = permit;
         }
         
         public void setStartTime(long time) {
@@ -266,10 +274,12 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
          * finish check only, no ip state will be changed.
          */
         public void finishCheck() {
+            permit.release();
             instance.finishCheck();
         }
         
         public void finishCheck(boolean success, boolean now, long rt, String msg) {
+            permit.release();
             if (success) {
                 healthCheckCommon.checkOk(task, service, msg);
             } else {
@@ -285,6 +295,13 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             healthCheckCommon.reEvaluateCheckRT(rt, task, switchDomain.getTcpHealthParams());
         }
         
+        /**
+         * Release the concurrency permit of this check, idempotent.
+         */
+        public void releasePermit() {
+            permit.release();
+        }
+        
         @Override
         public String toString() {
             return service.getGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp() + ":"
@@ -328,9 +345,15 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         @Override
         public void run() {
-            if (key != null && key.isValid()) {
+            if (key == null) {
+                return;
+            }
+            Beat beat = (Beat) key.attachment();
+            try {
+                if (!key.isValid()) {
+                    return;
+                }
                 SocketChannel channel = (SocketChannel) key.channel();
-                Beat beat = (Beat) key.attachment();
                 
                 if (channel.isConnected()) {
                     return;
@@ -347,6 +370,11 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     key.channel().close();
                 } catch (Exception ignore) {
                 }
+            } finally {
+                // The connect phase is over in any case, so the check no longer holds a permit.
+                if (null != beat) {
+                    beat.releasePermit();
+                }
             }
         }
     }
@@ -370,17 +398,20 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             
             SocketChannel channel = null;
             try {
-                HealthCheckInstancePublishInfo instance = beat.getInstance();
+                final HealthCheckInstancePublishInfo instance = beat.getInstance();
                 
                 BeatKey beatKey = keyMap.get(beat.toString());
                 if (beatKey != null && beatKey.key.isValid()) {
                     if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
-                        instance.finishCheck();
+                        beat.finishCheck();
                         return null;
                     }
                     
+                    releaseStalePermit(beatKey);
                     beatKey.key.cancel();
                     beatKey.key.channel().close();
+                } else if (beatKey != null) {
+                    releaseStalePermit(beatKey);
                 }
                 
                 channel = SocketChannel.open();
@@ -417,5 +448,12 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             
             return null;
         }
+        
+        private void releaseStalePermit(BeatKey beatKey) {
+            Object attachment = beatKey.key.attachment();
+            if (attachment instanceof Beat && attachment != beat) {
+                ((Beat) attachment).releasePermit();
+            }
+        }
     }
 }
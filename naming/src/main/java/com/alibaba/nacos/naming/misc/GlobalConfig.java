@@ -25,6 +25,8 @@ import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_EXPIRED
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRED_METADATA_CLEAN_INTERVAL;
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRED_METADATA_EXPIRED_TIME;
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRE_INSTANCE;
+import static com.alibaba.nacos.naming.constants.Constants.HEALTH_CHECK_MAX_IN_FLIGHT;
+import static com.alibaba.nacos.naming.constants.Constants.HEALTH_CHECK_MAX_IN_FLIGHT_PER_TARGET;
 
 /**
  * Stores some configurations for Distro protocol.
@@ -59,4 +61,12 @@ public class GlobalConfig {
         return EnvUtil.getProperty(EXPIRED_METADATA_EXPIRED_TIME, Long.class, 60000L);
     }
     
+    public static Integer getHealthCheckMaxInFlight() {
+        return EnvUtil.getProperty(HEALTH_CHECK_MAX_IN_FLIGHT, Integer.class, 4096);
+    }
+    
+    public static Integer getHealthCheckMaxInFlightPerTarget() {
+        return EnvUtil.getProperty(HEALTH_CHECK_MAX_IN_FLIGHT_PER_TARGET, Integer.class, 32);
+    }
+    
 }
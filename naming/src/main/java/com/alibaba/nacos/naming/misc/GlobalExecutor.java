@@ -121,6 +121,15 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static ScheduledFuture<?> scheduleNamingHealthAtFixedRate(Runnable command, long initialDelay, long period,
+            TimeUnit unit) {
+        return NAMING_HEALTH_EXECUTOR.scheduleAtFixedRate(command, initialDelay, period, unit);
+    }
+    
+    public static void executeNamingHealth(Runnable command) {
+        NAMING_HEALTH_EXECUTOR.execute(command);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
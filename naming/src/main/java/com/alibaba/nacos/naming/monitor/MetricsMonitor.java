@@ -77,6 +77,26 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong sharedPushPayloadHit = new AtomicLong();
+    
+    private final AtomicLong sharedPushPayloadMiss = new AtomicLong();
+    
+    private final AtomicLong sharedPushPayloadSavedBytes = new AtomicLong();
+    
+    private final AtomicInteger beatCheckWheelDepth = new AtomicInteger();
+    
+    private final AtomicLong beatCheckWheelTickLag = new AtomicLong();
+    
+    private final AtomicInteger healthCheckInFlight = new AtomicInteger();
+    
+    private final AtomicLong healthCheckRejected = new AtomicLong();
+    
+    private final AtomicLong healthCheckLag = new AtomicLong();
+    
+    private final AtomicLong distroDigestVerifyDivergence = new AtomicLong();
+    
+    private final AtomicLong distroDigestVerifySavedBytes = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -198,6 +218,46 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getSharedPushPayloadHit() {
+        return INSTANCE.sharedPushPayloadHit;
+    }
+    
+    public static AtomicLong getSharedPushPayloadMiss() {
+        return INSTANCE.sharedPushPayloadMiss;
+    }
+    
+    public static AtomicLong getSharedPushPayloadSavedBytes() {
+        return INSTANCE.sharedPushPayloadSavedBytes;
+    }
+    
+    public static AtomicInteger getBeatCheckWheelDepth() {
+        return INSTANCE.beatCheckWheelDepth;
+    }
+    
+    public static AtomicLong getBeatCheckWheelTickLag() {
+        return INSTANCE.beatCheckWheelTickLag;
+    }
+    
+    public static AtomicInteger getHealthCheckInFlight() {
+        return INSTANCE.healthCheckInFlight;
+    }
+    
+    public static AtomicLong getHealthCheckRejected() {
+        return INSTANCE.healthCheckRejected;
+    }
+    
+    public static AtomicLong getHealthCheckLag() {
+        return INSTANCE.healthCheckLag;
+    }
+    
+    public static AtomicLong getDistroDigestVerifyDivergence() {
+        return INSTANCE.distroDigestVerifyDivergence;
+    }
+    
+    public static AtomicLong getDistroDigestVerifySavedBytes() {
+        return INSTANCE.distroDigestVerifySavedBytes;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -16,12 +16,16 @@
 
 package com.alibaba.nacos.naming.push.v2;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos push data wrapper.
@@ -30,16 +34,39 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    /**
+     * Max different views of shared payloads for one push data, avoid too much memory used when each subscriber gets
+     * different view, such as healthy protection with copied instances.
+     */
+    private static final int MAX_SHARED_PAYLOAD_VIEWS = 64;
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
     
     private final Map<String, Object> processedDatum;
     
+    private final Map<Integer, SharedPushPayload> sharedPayloads;
+    
+    /**
+     * Revision of this push data, null if delta push is disabled.
+     */
+    private Long revision;
+    
+    /**
+     * Base revision of delta, null if delta is unavailable.
+     */
+    private Long baseRevision;
+    
+    private List<Instance> changedHosts;
+    
+    private List<Instance> removedHosts;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
         processedDatum = new HashMap<>(1);
+        sharedPayloads = new ConcurrentHashMap<>(4);
     }
     
     public ServiceInfo getOriginalData() {
@@ -57,4 +84,66 @@ public class PushDataWrapper {
     public void addProcessedPushData(String key, Object processedData) {
         processedDatum.put(key, processedData);
     }
+    
+    public Long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+    
+    public Long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public List<Instance> getChangedHosts() {
+        return changedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    /**
+     * Set delta of instances since base revision.
+     *
+     * @param baseRevision base revision
+     * @param changedHosts added or modified instances since base revision
+     * @param removedHosts removed instances since base revision
+     */
+    public void setDelta(long baseRevision, List<Instance> changedHosts, List<Instance> removedHosts) {
+        this.baseRevision = baseRevision;
+        this.changedHosts = changedHosts;
+        this.removedHosts = removedHosts;
+    }
+    
+    public boolean isDeltaAvailable() {
+        return null != baseRevision && null != revision;
+    }
+    
+    /**
+     * Get the shared pre-encoded payload for the selected view of this push data.
+     *
+     * @param request request with service info selected for subscriber
+     * @return shared payload if the same view has been encoded, otherwise empty
+     */
+    public Optional<SharedPushPayload> getSharedPayload(NotifySubscriberRequest request) {
+        SharedPushPayload result = sharedPayloads.get(SharedPushPayload.viewHash(request));
+        if (null != result && result.isSameView(request)) {
+            return Optional.of(result);
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Add shared pre-encoded payload of one selected view.
+     *
+     * @param payload shared payload
+     */
+    public void addSharedPayload(SharedPushPayload payload) {
+        if (sharedPayloads.size() < MAX_SHARED_PAYLOAD_VIEWS) {
+            sharedPayloads.putIfAbsent(payload.getViewHash(), payload);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Revision log of pushed data for each service, used to generate delta of instances for delta push.
+ *
+ * <p>Each generated push data gets a new revision. The snapshot of the last revision pushed to all subscribers is kept,
+ * so the next push to all subscribers can carry the instances added, modified and removed since that revision. A push
+ * to part of subscribers with the same instances as that snapshot reuses its revision, so these subscribers can apply
+ * the next delta. Subscribers which missed that revision will get a full push after revision gap.
+ *
+ * @author agent
+ */
+public class PushRevisionLog {
+    
+    /**
+     * Delta is only generated when the changed instances are no more than 1/N of all instances.
+     */
+    private static final int MAX_DELTA_RATIO = 2;
+    
+    private final ConcurrentMap<Service, ServiceRevision> revisions = new ConcurrentHashMap<>();
+    
+    /**
+     * Record push data as new revision of service.
+     *
+     * @param service   service
+     * @param pushData  push data of service
+     * @param pushToAll whether push data to all subscribers
+     */
+    public void record(Service service, PushDataWrapper pushData, boolean pushToAll) {
+        revisions.computeIfAbsent(service, key -> new ServiceRevision()).record(pushData, pushToAll);
+    }
+    
+    /**
+     * Remove revision log of service.
+     *
+     * @param service service
+     */
+    public void remove(Service service) {
+        revisions.remove(service);
+    }
+    
+    public int size() {
+        return revisions.size();
+    }
+    
+    /**
+     * Build the key to identify one instance in delta push.
+     *
+     * @param instance instance
+     * @return key of instance
+     */
+    public static String getDeltaKey(Instance instance) {
+        return instance.toInetAddr() + "#" + instance.getClusterName();
+    }
+    
+    private static class ServiceRevision {
+        
+        /**
+         * Start from random revision to avoid the same revision generated by other servers or after restart.
+         */
+        private long revision = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE >> 1);
+        
+        private long broadcastRevision;
+        
+        private Map<String, Instance> broadcastSnapshot;
+        
+        private synchronized void record(PushDataWrapper pushData, boolean pushToAll) {
+            Map<String, Instance> snapshot = new HashMap<>(pushData.getOriginalData().getHosts().size());
+            for (Instance each : pushData.getOriginalData().getHosts()) {
+                snapshot.put(getDeltaKey(each), each);
+            }
+            if (!pushToAll) {
+                // Same data as last push to all, keep the revision so the next delta can be applied.
+                boolean sameAsBroadcast = null != broadcastSnapshot && broadcastSnapshot.equals(snapshot);
+                pushData.setRevision(sameAsBroadcast ? broadcastRevision : ++revision);
+                return;
+            }
+            pushData.setRevision(++revision);
+            if (null != broadcastSnapshot) {
+                List<Instance> changedHosts = new ArrayList<>();
+                List<Instance> removedHosts = new ArrayList<>();
+                for (Map.Entry<String, Instance> entry : snapshot.entrySet()) {
+                    Instance old = broadcastSnapshot.get(entry.getKey());
+                    if (null == old || !old.equals(entry.getValue())) {
+                        changedHosts.add(entry.getValue());
+                    }
+                }
+                for (Map.Entry<String, Instance> entry : broadcastSnapshot.entrySet()) {
+                    if (!snapshot.containsKey(entry.getKey())) {
+                        removedHosts.add(entry.getValue());
+                    }
+                }
+                // Full push is cheaper when most of instances changed.
+                if ((changedHosts.size() + removedHosts.size()) * MAX_DELTA_RATIO <= snapshot.size()) {
+                    pushData.setDelta(broadcastRevision, changedHosts, removedHosts);
+                }
+            }
+            broadcastSnapshot = snapshot;
+            broadcastRevision = revision;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pre-encoded push payload of one selected view of service info, or one selected view of delta.
+ *
+ * <p>Subscribers of the same service usually get the same view after selector and healthy protection, so the encoded
+ * body can be shared by all of them instead of serializing the same service info for each connection.
+ *
+ * @author agent
+ */
+public class SharedPushPayload {
+    
+    private final NotifySubscriberRequest request;
+    
+    private final byte[] body;
+    
+    private final int viewHash;
+    
+    public SharedPushPayload(NotifySubscriberRequest request, byte[] body) {
+        this.request = request;
+        this.body = body;
+        this.viewHash = viewHash(request);
+    }
+    
+    public NotifySubscriberRequest getRequest() {
+        return request;
+    }
+    
+    public byte[] getBody() {
+        return body;
+    }
+    
+    public int getViewHash() {
+        return viewHash;
+    }
+    
+    /**
+     * Whether the input request is the same view with this payload.
+     *
+     * @param other other request with selected service info
+     * @return {@code true} if the encoded body of this payload can be used for other request
+     */
+    public boolean isSameView(NotifySubscriberRequest other) {
+        if (request == other) {
+            return true;
+        }
+        if (!Objects.equals(request.getRevision(), other.getRevision()) || !Objects
+                .equals(request.getBaseRevision(), other.getBaseRevision())) {
+            return false;
+        }
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        ServiceInfo otherServiceInfo = other.getServiceInfo();
+        if (!Objects.equals(serviceInfo.getClusters(), otherServiceInfo.getClusters())
+                || serviceInfo.isReachProtectionThreshold() != otherServiceInfo.isReachProtectionThreshold()) {
+            return false;
+        }
+        return isSameHosts(serviceInfo.getHosts(), otherServiceInfo.getHosts()) && isSameHosts(
+                request.getRemovedHosts(), other.getRemovedHosts());
+    }
+    
+    private boolean isSameHosts(List<Instance> hosts, List<Instance> otherHosts) {
+        if (null == hosts || null == otherHosts) {
+            return hosts == otherHosts;
+        }
+        if (hosts.size() != otherHosts.size()) {
+            return false;
+        }
+        Iterator<Instance> iterator = hosts.iterator();
+        Iterator<Instance> otherIterator = otherHosts.iterator();
+        while (iterator.hasNext()) {
+            Instance each = iterator.next();
+            Instance otherEach = otherIterator.next();
+            // Most of the selected instances are the same object with original data, so compare reference first.
+            if (each != otherEach && !each.equals(otherEach)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Calculate a cheap hash for the selected view of request.
+     *
+     * <p>{@link Instance#hashCode()} is based on {@link Instance#toString()} which is too expensive for every push,
+     * so only use the key fields which are usually changed by selector and healthy protection.
+     *
+     * @param request request with selected service info
+     * @return hash of view
+     */
+    public static int viewHash(NotifySubscriberRequest request) {
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        int result = Objects.hashCode(serviceInfo.getClusters());
+        result = 31 * result + (serviceInfo.isReachProtectionThreshold() ? 1 : 0);
+        result = 31 * result + Objects.hashCode(request.getBaseRevision());
+        result = hostsHash(result, serviceInfo.getHosts());
+        if (null != request.getRemovedHosts()) {
+            result = hostsHash(31 * result, request.getRemovedHosts());
+        }
+        return result;
+    }
+    
+    private static int hostsHash(int hash, List<Instance> hosts) {
+        int result = hash;
+        for (Instance each : hosts) {
+            result = 31 * result + Objects.hashCode(each.getIp());
+            result = 31 * result + each.getPort();
+            result = 31 * result + Objects.hashCode(each.getClusterName());
+            result = 31 * result + (each.isHealthy() ? 1 : 0);
+            result = 31 * result + (each.isEnabled() ? 1 : 0);
+            result = 31 * result + Double.hashCode(each.getWeight());
+        }
+        return result;
+    }
+}
@@ -16,16 +16,35 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.SharedPushPayload;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Push execute service for rpc.
  *
@@ -36,8 +55,11 @@ public class PushExecutorRpcImpl implements PushExecutor {
     
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
     }
     
     @Override
@@ -51,8 +73,91 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        NotifySubscriberRequest request = buildRequest(clientId, subscriber, data, actualServiceInfo);
+        pushService.pushWithCallback(clientId, request, getSharedBody(data, request), callBack,
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private NotifySubscriberRequest buildRequest(String clientId, Subscriber subscriber, PushDataWrapper data,
+            ServiceInfo actualServiceInfo) {
+        if (!isDeltaApplicable(clientId, data, actualServiceInfo)) {
+            NotifySubscriberRequest result = NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo);
+            result.setRevision(data.getRevision());
+            return result;
+        }
+        ServiceInfo delta = new ServiceInfo();
+        delta.setName(actualServiceInfo.getName());
+        delta.setGroupName(actualServiceInfo.getGroupName());
+        delta.setCacheMillis(actualServiceInfo.getCacheMillis());
+        delta.setLastRefTime(actualServiceInfo.getLastRefTime());
+        delta.setClusters(actualServiceInfo.getClusters());
+        String cluster = subscriber.getCluster();
+        Set<String> clusterSets =
+                StringUtils.isNotBlank(cluster) ? new HashSet<>(Arrays.asList(cluster.split(","))) : Collections
+                        .emptySet();
+        List<Instance> changedHosts = new ArrayList<>();
+        List<Instance> removedHosts = new ArrayList<>();
+        for (Instance each : data.getChangedHosts()) {
+            if (!clusterSets.isEmpty() && !clusterSets.contains(each.getClusterName())) {
+                continue;
+            }
+            // Disabled instance is not selected for subscriber, so it should be removed from client.
+            if (each.isEnabled()) {
+                changedHosts.add(each);
+            } else {
+                removedHosts.add(each);
+            }
+        }
+        for (Instance each : data.getRemovedHosts()) {
+            if (clusterSets.isEmpty() || clusterSets.contains(each.getClusterName())) {
+                removedHosts.add(each);
+            }
+        }
+        delta.setHosts(changedHosts);
+        NotifySubscriberRequest result = NotifySubscriberRequest.buildNotifySubscriberRequest(delta);
+        result.setRevision(data.getRevision());
+        result.setBaseRevision(data.getBaseRevision());
+        result.setRemovedHosts(removedHosts);
+        return result;
+    }
+    
+    /**
+     * Delta can only be applied when instances are selected one by one, so it is not applicable for selector and
+     * healthy protection which select instances with all instances.
+     */
+    private boolean isDeltaApplicable(String clientId, PushDataWrapper data, ServiceInfo actualServiceInfo) {
+        if (!data.isDeltaAvailable() || actualServiceInfo.isReachProtectionThreshold()) {
+            return false;
+        }
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        if (null != serviceMetadata && null != serviceMetadata.getSelector() && !(serviceMetadata
+                .getSelector() instanceof NoneSelector)) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName()));
+    }
+    
+    /**
+     * Get the encoded body shared by all subscribers with the same selected view, encode and cache it if absent.
+     */
+    private byte[] getSharedBody(PushDataWrapper data, NotifySubscriberRequest request) {
+        Optional<SharedPushPayload> sharedPayload = data.getSharedPayload(request);
+        if (sharedPayload.isPresent()) {
+            byte[] result = sharedPayload.get().getBody();
+            MetricsMonitor.getSharedPushPayloadHit().incrementAndGet();
+            MetricsMonitor.getSharedPushPayloadSavedBytes().addAndGet(result.length);
+            return result;
+        }
+        MetricsMonitor.getSharedPushPayloadMiss().incrementAndGet();
+        byte[] result = GrpcUtils.convertRequestToSharedBody(request);
+        data.addSharedPayload(new SharedPushPayload(request, result));
+        return result;
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
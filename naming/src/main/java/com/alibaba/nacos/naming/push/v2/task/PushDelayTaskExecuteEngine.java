@@ -27,6 +27,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLog;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
 /**
@@ -48,6 +49,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    private final PushRevisionLog pushRevisionLog;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -58,6 +61,7 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.metadataManager = metadataManager;
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
+        this.pushRevisionLog = new PushRevisionLog();
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
     }
     
@@ -81,6 +85,10 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    public PushRevisionLog getPushRevisionLog() {
+        return pushRevisionLog;
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
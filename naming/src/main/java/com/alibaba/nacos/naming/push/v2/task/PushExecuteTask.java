@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.common.trace.event.naming.PushServiceTraceEvent;
@@ -57,8 +59,10 @@ public class PushExecuteTask extends AbstractExecuteTask {
     public void run() {
         try {
             PushDataWrapper wrapper = generatePushData();
+            Collection<String> targetClientIds = getTargetClientIds();
+            recordRevision(wrapper, targetClientIds);
             ClientManager clientManager = delayTaskEngine.getClientManager();
-            for (String each : getTargetClientIds()) {
+            for (String each : targetClientIds) {
                 Client client = clientManager.getClient(each);
                 if (null == client) {
                     // means this client has disconnect
@@ -84,6 +88,18 @@ public class PushExecuteTask extends AbstractExecuteTask {
         return new PushDataWrapper(serviceMetadata, serviceInfo);
     }
     
+    private void recordRevision(PushDataWrapper wrapper, Collection<String> targetClientIds) {
+        if (!PushConfig.getInstance().isPushDeltaEnabled()) {
+            return;
+        }
+        if (delayTask.isPushToAll() && targetClientIds.isEmpty()) {
+            // No subscriber, revision log of this service is useless.
+            delayTaskEngine.getPushRevisionLog().remove(service);
+            return;
+        }
+        delayTaskEngine.getPushRevisionLog().record(service, wrapper, delayTask.isPushToAll());
+    }
+    
     private Collection<String> getTargetClientIds() {
         return delayTask.isPushToAll() ? delayTaskEngine.getIndexesManager().getAllClientsSubscribeService(service)
                 : delayTask.getTargetClients();
@@ -151,6 +167,12 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         @Override
         public void onFail(Throwable e) {
+            if (isRevisionGap(e)) {
+                // Client can't apply delta push, push full data to this client again without delay.
+                Loggers.PUSH.info("[PUSH-REVISION-GAP] {}, target={}", service, subscriber.getIp());
+                delayTaskEngine.addTask(service, new PushDelayTask(service, 0L, clientId));
+                return;
+            }
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
@@ -164,6 +186,11 @@ public class PushExecuteTask extends AbstractExecuteTask {
             PushResultHookHolder.getInstance().pushFailed(result);
         }
         
+        private boolean isRevisionGap(Throwable e) {
+            return e instanceof NacosException
+                    && NotifySubscriberResponse.REVISION_GAP == ((NacosException) e).getErrCode();
+        }
+        
         public void setActualServiceInfo(ServiceInfo actualServiceInfo) {
             this.actualServiceInfo = actualServiceInfo;
         }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster;
+
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NamingReadinessCheckServiceTest {
+    
+    @Mock
+    private ServerStatusManager serverStatusManager;
+    
+    @Test
+    public void testReadinessWhenUp() {
+        when(serverStatusManager.getServerStatus()).thenReturn(ServerStatus.UP);
+        assertTrue(new NamingReadinessCheckService(serverStatusManager).readiness());
+    }
+    
+    @Test
+    public void testReadinessWhileLoadingSnapshot() {
+        when(serverStatusManager.getServerStatus()).thenReturn(ServerStatus.STARTING);
+        DistroRecordsHolder.getInstance().getRecord(DistroClientDataProcessor.TYPE).startLoadSnapshot(2);
+        assertFalse(new NamingReadinessCheckService(serverStatusManager).readiness());
+    }
+    
+    @Test
+    public void testReadinessWithException() {
+        when(serverStatusManager.getServerStatus()).thenThrow(new IllegalStateException("test"));
+        assertFalse(new NamingReadinessCheckService(serverStatusManager).readiness());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDigestVerifyInfo;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyInfo;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstanceData;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BinarySerializerTest {
+    
+    private BinarySerializer serializer;
+    
+    private JacksonSerializer jacksonSerializer;
+    
+    @Before
+    public void setUp() {
+        serializer = new BinarySerializer();
+        jacksonSerializer = new JacksonSerializer();
+    }
+    
+    @Test
+    public void testClientSyncDataRoundTrip() {
+        ClientSyncData expected = buildClientSyncData("1.1.1.1:8848#true");
+        byte[] data = serializer.serialize(expected);
+        assertTrue(BinarySerializer.isBinaryData(data));
+        assertFalse(BinarySerializer.isBinaryData(jacksonSerializer.serialize(expected)));
+        ClientSyncData actual = serializer.deserialize(data, ClientSyncData.class);
+        assertEquals(expected.getClientId(), actual.getClientId());
+        assertEquals(expected.getNamespaces(), actual.getNamespaces());
+        assertEquals(expected.getGroupNames(), actual.getGroupNames());
+        assertEquals(expected.getServiceNames(), actual.getServiceNames());
+        assertEquals(expected.getInstancePublishInfos(), actual.getInstancePublishInfos());
+        assertEquals(expected.getBatchInstanceData().getServiceNames(),
+                actual.getBatchInstanceData().getServiceNames());
+        assertEquals(expected.getBatchInstanceData().getBatchInstancePublishInfos(),
+                actual.getBatchInstanceData().getBatchInstancePublishInfos());
+        assertEquals(10L, (long) actual.getAttributes().<Integer>getClientAttribute("revision"));
+    }
+    
+    @Test
+    public void testValueTypesSameAsJackson() {
+        ClientSyncData expected = buildClientSyncData("1.1.1.1:8848#true");
+        ClientSyncData actual = serializer.deserialize(serializer.serialize(expected), ClientSyncData.class);
+        ClientSyncData json = jacksonSerializer
+                .deserialize(jacksonSerializer.serialize(expected), ClientSyncData.class);
+        assertEquals(json.getAttributes().getClientAttributes(), actual.getAttributes().getClientAttributes());
+        assertEquals(json.getInstancePublishInfos().get(0).getExtendDatum(),
+                actual.getInstancePublishInfos().get(0).getExtendDatum());
+    }
+    
+    @Test
+    public void testSnapshotRoundTripSmallerThanJson() {
+        ClientSyncDatumSnapshot expected = new ClientSyncDatumSnapshot();
+        expected.setClientSyncDataList(
+                Arrays.asList(buildClientSyncData("1.1.1.1:8848#true"), buildClientSyncData("2.2.2.2:8848#true")));
+        byte[] data = serializer.serialize(expected);
+        assertTrue(data.length < jacksonSerializer.serialize(expected).length);
+        ClientSyncDatumSnapshot actual = serializer.deserialize(data, ClientSyncDatumSnapshot.class);
+        assertEquals(2, actual.getClientSyncDataList().size());
+        assertEquals("2.2.2.2:8848#true", actual.getClientSyncDataList().get(1).getClientId());
+        assertEquals(expected.getClientSyncDataList().get(1).getInstancePublishInfos(),
+                actual.getClientSyncDataList().get(1).getInstancePublishInfos());
+    }
+    
+    @Test
+    public void testNullFields() {
+        ClientSyncData expected = new ClientSyncData();
+        expected.setClientId("1.1.1.1:8848#true");
+        ClientSyncData actual = serializer.deserialize(serializer.serialize(expected), ClientSyncData.class);
+        assertEquals(expected.getClientId(), actual.getClientId());
+        assertNull(actual.getAttributes());
+        assertNull(actual.getNamespaces());
+        assertNull(actual.getInstancePublishInfos());
+        assertNull(actual.getBatchInstanceData());
+    }
+    
+    @Test
+    public void testVerifyInfoRoundTrip() {
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo("1.1.1.1:8848#true", Long.MAX_VALUE);
+        DistroClientVerifyInfo actual = serializer
+                .deserialize(serializer.serialize(verifyInfo), DistroClientVerifyInfo.class);
+        assertEquals(verifyInfo.getClientId(), actual.getClientId());
+        assertEquals(verifyInfo.getRevision(), actual.getRevision());
+        DistroClientDigestVerifyInfo digestVerifyInfo = new DistroClientDigestVerifyInfo(16, 32, 100, -1L);
+        DistroClientDigestVerifyInfo actualDigest = serializer
+                .deserialize(serializer.serialize(digestVerifyInfo), DistroClientDigestVerifyInfo.class);
+        assertEquals(16, actualDigest.getFrom());
+        assertEquals(32, actualDigest.getTo());
+        assertEquals(100, actualDigest.getClientCount());
+        assertEquals(-1L, actualDigest.getDigest());
+    }
+    
+    @Test(expected = NacosSerializationException.class)
+    public void testSerializeUnsupportedType() {
+        serializer.serialize(new SwitchDomain());
+    }
+    
+    @Test(expected = NacosDeserializationException.class)
+    public void testDeserializeTruncatedData() {
+        byte[] data = serializer.serialize(buildClientSyncData("1.1.1.1:8848#true"));
+        serializer.deserialize(Arrays.copyOf(data, data.length / 2), ClientSyncData.class);
+    }
+    
+    private ClientSyncData buildClientSyncData(String clientId) {
+        InstancePublishInfo instance = new InstancePublishInfo("127.0.0.1", 8080);
+        instance.setHealthy(true);
+        instance.setCluster("DEFAULT");
+        instance.getExtendDatum().put("weight", 1.0D);
+        instance.getExtendDatum().put("enabled", true);
+        instance.getExtendDatum().put("version", "1.0.0");
+        instance.getExtendDatum().put("count", 100);
+        instance.getExtendDatum().put("timestamp", 1L << 40);
+        instance.getExtendDatum().put("tags", Collections.singletonMap("env", "test"));
+        BatchInstancePublishInfo batchInstance = new BatchInstancePublishInfo();
+        batchInstance.setInstancePublishInfos(Collections.singletonList(instance));
+        List<String> namespaces = Arrays.asList("public", "public");
+        List<String> groups = Arrays.asList("DEFAULT_GROUP", "DEFAULT_GROUP");
+        ClientSyncData result = new ClientSyncData(clientId, namespaces, groups, Arrays.asList("a", "b"),
+                Arrays.asList(instance, instance), new BatchInstanceData(namespaces, groups,
+                Collections.singletonList("c"), Collections.singletonList(batchInstance)));
+        result.getAttributes().addClientAttribute("revision", 10L);
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.transport;
+
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientVerifyInfo;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NegotiatedSerializerTest {
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    private Member self;
+    
+    private Member other;
+    
+    private NegotiatedSerializer serializer;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        self = Member.builder().ip("1.1.1.1").port(8848).build();
+        other = Member.builder().ip("2.2.2.2").port(8848).build();
+        when(memberManager.getSelf()).thenReturn(self);
+        when(memberManager.allMembersWithoutSelf()).thenReturn(Collections.singletonList(other));
+        serializer = new NegotiatedSerializer(new JacksonSerializer(), memberManager);
+    }
+    
+    @Test
+    public void testAdvertiseSelf() {
+        assertEquals(true, self.getExtendVal(NegotiatedSerializer.SUPPORT_BINARY_SERIALIZER));
+    }
+    
+    @Test
+    public void testSerializeWithOldMember() {
+        byte[] data = serializer.serialize(new DistroClientVerifyInfo("1.1.1.1:8848#true", 1L));
+        assertFalse(BinarySerializer.isBinaryData(data));
+        assertEquals(1L, serializer.deserialize(data, DistroClientVerifyInfo.class).getRevision());
+    }
+    
+    @Test
+    public void testSerializeWithAllMembersSupported() {
+        other.setExtendVal(NegotiatedSerializer.SUPPORT_BINARY_SERIALIZER, "true");
+        byte[] data = serializer.serialize(new DistroClientVerifyInfo("1.1.1.1:8848#true", 1L));
+        assertTrue(BinarySerializer.isBinaryData(data));
+        assertEquals(1L, serializer.deserialize(data, DistroClientVerifyInfo.class).getRevision());
+        assertFalse(BinarySerializer.isBinaryData(serializer.serialize(Collections.singletonMap("key", "value"))));
+    }
+    
+    @Test
+    public void testSerializeWithBinaryDisabled() {
+        EnvUtil.setEnvironment(
+                new MockEnvironment().withProperty(NegotiatedSerializer.BINARY_SERIALIZER_ENABLED, "false"));
+        serializer = new NegotiatedSerializer(new JacksonSerializer(), memberManager);
+        other.setExtendVal(NegotiatedSerializer.SUPPORT_BINARY_SERIALIZER, true);
+        assertFalse(BinarySerializer
+                .isBinaryData(serializer.serialize(new DistroClientVerifyInfo("1.1.1.1:8848#true", 1L))));
+    }
+}
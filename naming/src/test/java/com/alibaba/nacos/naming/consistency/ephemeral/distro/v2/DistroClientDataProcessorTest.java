@@ -18,9 +18,12 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -41,6 +44,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -375,6 +379,65 @@ public class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    public void testGetDatumSnapshotChunk() {
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "2222_2.2.2.2_3306", "3333_3.3.3.3_3306"));
+        int chunkOfClient = Math.floorMod(CLIENT_ID.hashCode(), 2);
+        DistroSnapshotChunk actual = distroClientDataProcessor.getDatumSnapshotChunk(chunkOfClient, 2);
+        assertEquals(2, actual.getChunkCount());
+        assertEquals(chunkOfClient, actual.getChunkIndex());
+        assertEquals(DataOperation.SNAPSHOT.name(), actual.getData().getDistroKey().getResourceKey());
+        distroClientDataProcessor.getDatumSnapshotChunk(1 - chunkOfClient, 2);
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, Mockito.times(2)).serialize(captor.capture());
+        assertEquals(1, captor.getAllValues().get(0).getClientSyncDataList().size());
+        assertEquals(0, captor.getAllValues().get(1).getClientSyncDataList().size());
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkPartitionClientsOnce() {
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "2222_2.2.2.2_3306", "3333_3.3.3.3_3306"));
+        for (int i = 0; i < 3; i++) {
+            distroClientDataProcessor.getDatumSnapshotChunk(i, 3);
+        }
+        verify(clientManager).allClientId();
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, Mockito.times(3)).serialize(captor.capture());
+        assertEquals(1, captor.getAllValues().stream().mapToInt(each -> each.getClientSyncDataList().size()).sum());
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkWithDecidedCount() {
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "2222_2.2.2.2_3306", "3333_3.3.3.3_3306"));
+        DistroConfig.getInstance().setLoadDataChunkSize(2);
+        try {
+            assertEquals(2, distroClientDataProcessor.getDatumSnapshotChunk(0,
+                    DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET).getChunkCount());
+            DistroConfig.getInstance().setLoadDataChunkSize(0);
+            assertEquals(1, distroClientDataProcessor.getDatumSnapshotChunk(0,
+                    DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET).getChunkCount());
+        } finally {
+            DistroConfig.getInstance().setLoadDataChunkSize(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
+        }
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkForOldRequest() {
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "2222_2.2.2.2_3306", "3333_3.3.3.3_3306"));
+        DistroConfig.getInstance().setLoadDataChunkSize(1);
+        try {
+            DistroSnapshotChunk actual = distroClientDataProcessor.getDatumSnapshotChunk(0,
+                    DistroSnapshotChunk.CHUNK_COUNT_WHOLE_SNAPSHOT);
+            assertEquals(0, actual.getChunkIndex());
+            assertEquals(1, actual.getChunkCount());
+            ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+            verify(serializer).serialize(captor.capture());
+            assertEquals(1, captor.getValue().getClientSyncDataList().size());
+        } finally {
+            DistroConfig.getInstance().setLoadDataChunkSize(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
+        }
+    }
+    
     @Test
     public void testGetVerifyData() {
         client.setRevision(10L);
@@ -385,4 +448,68 @@ public class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testGetDigestVerifyData() {
+        DistroConfig.getInstance().setVerifyDigestEnabled(true);
+        try {
+            client.setRevision(10L);
+            when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+            when(serializer.serialize(any())).thenReturn(new byte[0]);
+            List<DistroData> list = distroClientDataProcessor.getVerifyData();
+            assertEquals(1, list.size());
+            String rootKey = DistroClientDigestTree.buildDigestKey(0, DistroClientDigestTree.LEAF_COUNT);
+            assertEquals(rootKey, list.get(0).getDistroKey().getResourceKey());
+            assertEquals(DataOperation.VERIFY, list.get(0).getType());
+            // diverged ranges descend to the leaf of client, and verify client at last
+            String divergedKey = rootKey;
+            for (int i = 0; i < 3; i++) {
+                distroClientDataProcessor.onEvent(new ClientEvent.ClientVerifyFailedEvent(divergedKey, MOCK_TARGET_SERVER));
+                List<DistroData> verifyData = captureVerifyToTarget(i + 1);
+                assertEquals(1, verifyData.size());
+                divergedKey = verifyData.get(0).getDistroKey().getResourceKey();
+                int[] range = DistroClientDigestTree.parseRange(divergedKey);
+                assertTrue(DistroClientDigestTree.leafOf(CLIENT_ID) >= range[0]);
+                assertTrue(DistroClientDigestTree.leafOf(CLIENT_ID) < range[1]);
+            }
+            assertEquals(DistroClientDigestTree.buildDigestKey(DistroClientDigestTree.leafOf(CLIENT_ID),
+                    DistroClientDigestTree.leafOf(CLIENT_ID) + 1), divergedKey);
+            distroClientDataProcessor.onEvent(new ClientEvent.ClientVerifyFailedEvent(divergedKey, MOCK_TARGET_SERVER));
+            List<DistroData> verifyData = captureVerifyToTarget(4);
+            assertEquals(1, verifyData.size());
+            assertEquals(CLIENT_ID, verifyData.get(0).getDistroKey().getResourceKey());
+        } finally {
+            DistroConfig.getInstance().setVerifyDigestEnabled(false);
+        }
+    }
+    
+    @Test
+    public void testProcessDigestVerifyData() {
+        DistroConfig.getInstance().setVerifyDigestEnabled(true);
+        try {
+            client.setRevision(10L);
+            DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 10L);
+            when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+            when(clientManager.verifyClient(any())).thenReturn(true);
+            assertTrue(distroClientDataProcessor.processVerifyData(distroData, "2.2.2.2"));
+            DistroClientDigestTree tree = new DistroClientDigestTree();
+            tree.addClient(CLIENT_ID, 10L);
+            DistroClientDigestVerifyInfo digest = tree.getDigest(0, DistroClientDigestTree.LEAF_COUNT);
+            when(serializer.deserialize(any(), eq(DistroClientDigestVerifyInfo.class))).thenReturn(digest);
+            distroKey.setResourceKey(DistroClientDigestTree.buildDigestKey(0, DistroClientDigestTree.LEAF_COUNT));
+            assertTrue(distroClientDataProcessor.processVerifyData(distroData, "2.2.2.2"));
+            verify(clientManager, Mockito.times(2)).verifyClient(any());
+            client.setRevision(11L);
+            assertFalse(distroClientDataProcessor.processVerifyData(distroData, "2.2.2.2"));
+        } finally {
+            DistroConfig.getInstance().setVerifyDigestEnabled(false);
+        }
+    }
+    
+    private List<DistroData> captureVerifyToTarget(int times) {
+        ArgumentCaptor<List<DistroData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(distroProtocol, Mockito.times(times)).verifyToTarget(eq(DistroClientDataProcessor.TYPE), captor.capture(),
+                eq(MOCK_TARGET_SERVER));
+        return captor.getValue();
+    }
+}
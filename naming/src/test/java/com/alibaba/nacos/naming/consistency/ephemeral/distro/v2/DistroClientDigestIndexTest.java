@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroClientDigestIndexTest {
+    
+    private static final String SOURCE = "1.1.1.1:8848";
+    
+    private static final int CLIENT_COUNT = 1000;
+    
+    @Mock
+    private ClientManager clientManager;
+    
+    private Map<String, ConnectionBasedClient> clients;
+    
+    private DistroClientDigestIndex digestIndex;
+    
+    private DistroClientDigestTree digestTree;
+    
+    @Before
+    public void setUp() {
+        clients = new HashMap<>(CLIENT_COUNT);
+        digestIndex = new DistroClientDigestIndex();
+        digestTree = new DistroClientDigestTree();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            String clientId = System.currentTimeMillis() + "_127.0.0.1_" + i;
+            clients.put(clientId, new ConnectionBasedClient(clientId, false, 1L));
+            digestIndex.recordSource(clientId, SOURCE);
+            digestTree.addClient(clientId, 1L);
+        }
+        when(clientManager.getClient(anyString())).thenAnswer(invocation -> clients.get(invocation.getArgument(0)));
+    }
+    
+    @Test
+    public void testVerifyMatched() {
+        long savedBytes = MetricsMonitor.getDistroDigestVerifySavedBytes().get();
+        assertTrue(digestIndex.verify(digestTree.getDigest(0, DistroClientDigestTree.LEAF_COUNT), SOURCE,
+                clientManager));
+        verify(clientManager, times(CLIENT_COUNT)).verifyClient(any());
+        assertTrue(MetricsMonitor.getDistroDigestVerifySavedBytes().get() > savedBytes);
+    }
+    
+    @Test
+    public void testVerifyDiverged() {
+        final long divergence = MetricsMonitor.getDistroDigestVerifyDivergence().get();
+        ConnectionBasedClient changed = clients.values().iterator().next();
+        changed.setRevision(2L);
+        int leaf = DistroClientDigestTree.leafOf(changed.getClientId());
+        assertFalse(digestIndex.verify(digestTree.getDigest(0, DistroClientDigestTree.LEAF_COUNT), SOURCE,
+                clientManager));
+        assertFalse(digestIndex.verify(digestTree.getDigest(leaf, leaf + 1), SOURCE, clientManager));
+        assertEquals(divergence + 2, MetricsMonitor.getDistroDigestVerifyDivergence().get());
+        verify(clientManager, never()).verifyClient(any());
+        // other ranges are still matched
+        int otherLeaf = (leaf + 1) % DistroClientDigestTree.LEAF_COUNT;
+        assertTrue(digestIndex.verify(digestTree.getDigest(otherLeaf, otherLeaf + 1), SOURCE, clientManager));
+    }
+    
+    @Test
+    public void testVerifyFromOtherSource() {
+        assertFalse(digestIndex.verify(digestTree.getDigest(0, DistroClientDigestTree.LEAF_COUNT), "2.2.2.2:8848",
+                clientManager));
+    }
+    
+    @Test
+    public void testVerifyAfterClientRemovedAndMoved() {
+        String removed = clients.keySet().iterator().next();
+        clients.remove(removed);
+        assertFalse(digestIndex.verify(digestTree.getDigest(0, DistroClientDigestTree.LEAF_COUNT), SOURCE,
+                clientManager));
+        String moved = clients.keySet().iterator().next();
+        digestIndex.recordSource(moved, "2.2.2.2:8848");
+        DistroClientDigestTree latestTree = new DistroClientDigestTree();
+        for (String each : clients.keySet()) {
+            if (!moved.equals(each)) {
+                latestTree.addClient(each, 1L);
+            }
+        }
+        assertTrue(digestIndex.verify(latestTree.getDigest(0, DistroClientDigestTree.LEAF_COUNT), SOURCE,
+                clientManager));
+    }
+    
+    @Test
+    public void testSplitRange() {
+        assertEquals(DistroClientDigestTree.FANOUT,
+                DistroClientDigestTree.splitRange(0, DistroClientDigestTree.LEAF_COUNT).size());
+        assertEquals(2, DistroClientDigestTree.splitRange(16, 18).size());
+        int[] range = DistroClientDigestTree.parseRange(DistroClientDigestTree.buildDigestKey(16, 32));
+        assertEquals(16, range[0]);
+        assertEquals(32, range[1]);
+    }
+}
@@ -27,6 +27,7 @@ import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -41,6 +42,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -470,4 +472,28 @@ public class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    public void testGetDatumSnapshotChunkSuccess() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        ((DistroDataResponse) response).setChunkCount(3);
+        assertTrue(transportAgent.supportChunkedSnapshot());
+        DistroSnapshotChunk actual = transportAgent.getDatumSnapshotChunk(member.getAddress(), 1,
+                DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET);
+        assertEquals(1, actual.getChunkIndex());
+        assertEquals(3, actual.getChunkCount());
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkFromOldServer() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        assertEquals(1, transportAgent.getDatumSnapshotChunk(member.getAddress(), 0,
+                DistroSnapshotChunk.CHUNK_COUNT_DECIDED_BY_TARGET).getChunkCount());
+    }
 }
@@ -18,7 +18,9 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -34,12 +36,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ServiceStorageTest {
@@ -164,4 +170,90 @@ public class ServiceStorageTest {
         Assert.assertNotNull(instance);
     }
     
-}
\ No newline at end of file
+    @Test
+    public void testGetAllInstancesFromIndexReuseUnchangedClients() throws Exception {
+        int clientCount = 1000;
+        List<InstancePublishInfo> publishInfos = mockRegisteredClients(clientCount);
+        List<Instance> first = invokeGetAllInstancesFromIndex();
+        Assert.assertEquals(clientCount, first.size());
+        List<Instance> second = invokeGetAllInstancesFromIndex();
+        Assert.assertEquals(clientCount, countSameInstances(first, second));
+        // flapping one instance only re-parses the instance of its client
+        publishInfos.get(0).setHealthy(false);
+        List<Instance> third = invokeGetAllInstancesFromIndex();
+        Assert.assertEquals(clientCount - 1, countSameInstances(first, third));
+        Assert.assertFalse(third.stream().filter(each -> "1.1.1.0".equals(each.getIp())).findFirst().get().isHealthy());
+    }
+    
+    @Test
+    public void testGetAllInstancesFromIndexReuseSnapshotIfNothingChanged() throws Exception {
+        final List<InstancePublishInfo> publishInfos = mockRegisteredClients(2);
+        invokeGetAllInstancesFromIndex();
+        Object first = getServiceSnapshot();
+        invokeGetAllInstancesFromIndex();
+        Assert.assertSame(first, getServiceSnapshot());
+        publishInfos.get(1).setHealthy(false);
+        invokeGetAllInstancesFromIndex();
+        Assert.assertNotSame(first, getServiceSnapshot());
+    }
+    
+    @Test
+    public void testGetAllInstancesFromIndexAfterMetadataChanged() throws Exception {
+        mockRegisteredClients(1);
+        List<Instance> first = invokeGetAllInstancesFromIndex();
+        InstanceMetadata instanceMetadata = new InstanceMetadata();
+        instanceMetadata.setWeight(2.0D);
+        Mockito.when(namingMetadataManager.getInstanceMetadata(SERVICE, "1.1.1.0:8848:" + NACOS))
+                .thenReturn(Optional.of(instanceMetadata));
+        List<Instance> second = invokeGetAllInstancesFromIndex();
+        Assert.assertEquals(1.0D, first.get(0).getWeight(), 0.0D);
+        Assert.assertEquals(2.0D, second.get(0).getWeight(), 0.0D);
+    }
+    
+    @Test
+    public void testGetAllInstancesFromIndexAfterClientRemoved() throws Exception {
+        mockRegisteredClients(2);
+        Assert.assertEquals(2, invokeGetAllInstancesFromIndex().size());
+        Mockito.when(clientManagerDelegate.getClient("1")).thenReturn(null);
+        List<Instance> instances = invokeGetAllInstancesFromIndex();
+        Assert.assertEquals(1, instances.size());
+        Assert.assertEquals("1.1.1.0", instances.get(0).getIp());
+    }
+    
+    private List<InstancePublishInfo> mockRegisteredClients(int clientCount) {
+        List<InstancePublishInfo> result = new ArrayList<>(clientCount);
+        Collection<String> clientIds = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            final String clientId = String.valueOf(i);
+            InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1." + i, 8848);
+            publishInfo.setCluster(NACOS);
+            publishInfo.setHealthy(true);
+            Client client = Mockito.mock(Client.class);
+            Mockito.when(client.getInstancePublishInfo(SERVICE)).thenReturn(publishInfo);
+            Mockito.when(clientManagerDelegate.getClient(clientId)).thenReturn(client);
+            clientIds.add(clientId);
+            result.add(publishInfo);
+        }
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE)).thenReturn(clientIds);
+        return result;
+    }
+    
+    private List<Instance> invokeGetAllInstancesFromIndex() throws Exception {
+        Method getAllInstancesFromIndex = ServiceStorage.class.getDeclaredMethod("getAllInstancesFromIndex",
+                Service.class);
+        getAllInstancesFromIndex.setAccessible(true);
+        return (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+    }
+    
+    private Object getServiceSnapshot() throws Exception {
+        Field serviceSnapshotIndex = ServiceStorage.class.getDeclaredField("serviceSnapshotIndex");
+        serviceSnapshotIndex.setAccessible(true);
+        return ((ConcurrentMap<Service, ?>) serviceSnapshotIndex.get(serviceStorage)).get(SERVICE);
+    }
+    
+    private long countSameInstances(List<Instance> previous, List<Instance> current) {
+        Set<Instance> identities = Collections.newSetFromMap(new IdentityHashMap<>());
+        identities.addAll(previous);
+        return current.stream().filter(identities::contains).collect(Collectors.counting());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class BeatCheckTimingWheelTest {
+    
+    private static final int WHEEL_SIZE = 10;
+    
+    private BeatCheckTimingWheel timingWheel;
+    
+    @Before
+    public void setUp() {
+        timingWheel = new BeatCheckTimingWheel(5000L, WHEEL_SIZE, Runnable::run);
+    }
+    
+    @Test
+    public void testTaskRunOncePerRevolution() {
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        for (int i = 0; i < WHEEL_SIZE - 1; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(0, counter.get());
+        timingWheel.tick();
+        assertEquals(1, counter.get());
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(2, counter.get());
+        assertEquals(1, MetricsMonitor.getBeatCheckWheelDepth().get());
+    }
+    
+    @Test
+    public void testScheduleRepeatedly() {
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        timingWheel.tick();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(1, counter.get());
+        assertEquals(1, timingWheel.size());
+    }
+    
+    @Test
+    public void testCancel() {
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        timingWheel.cancel("task");
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(0, counter.get());
+        assertEquals(0, timingWheel.size());
+    }
+    
+    @Test
+    public void testTasksSpreadOverBuckets() {
+        AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            for (int j = 0; j < 100; j++) {
+                timingWheel.schedule(i + "-" + j, counter::incrementAndGet);
+            }
+            timingWheel.tick();
+        }
+        // each tick of the next revolution only runs the tasks of one bucket
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            int before = counter.get();
+            timingWheel.tick();
+            assertEquals(100, counter.get() - before);
+        }
+    }
+    
+    @Test
+    public void testFailedTaskNotAffectOthers() {
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("failed", () -> {
+            throw new IllegalStateException("test");
+        });
+        timingWheel.schedule("task", counter::incrementAndGet);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(1, counter.get());
+    }
+    
+    @Test
+    public void testTaskSubmittedToExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        timingWheel = new BeatCheckTimingWheel(5000L, WHEEL_SIZE, submitted::add);
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            timingWheel.tick();
+        }
+        assertEquals(1, submitted.size());
+        assertEquals(0, counter.get());
+        submitted.get(0).run();
+        assertEquals(1, counter.get());
+    }
+    
+    @Test
+    public void testCatchUpMissedTicks() {
+        AtomicInteger counter = new AtomicInteger();
+        timingWheel.schedule("task", counter::incrementAndGet);
+        // one revolution is missed, all due ticks are run at once
+        long now = System.currentTimeMillis() + 5000L;
+        timingWheel.catchUp(now);
+        assertEquals(1, counter.get());
+        timingWheel.catchUp(now);
+        assertEquals(1, counter.get());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class HealthCheckConcurrencyLimiterTest {
+    
+    private static final String TARGET = "1.1.1.1";
+    
+    private static final String OTHER_TARGET = "2.2.2.2";
+    
+    private HealthCheckConcurrencyLimiter limiter;
+    
+    @Before
+    public void setUp() {
+        limiter = new HealthCheckConcurrencyLimiter(3, 2);
+    }
+    
+    @Test
+    public void testLimitPerTarget() {
+        final long rejected = MetricsMonitor.getHealthCheckRejected().get();
+        HealthCheckConcurrencyLimiter.Permit first = limiter.tryAcquire(TARGET);
+        assertNotNull(first);
+        assertNotNull(limiter.tryAcquire(TARGET));
+        assertNull(limiter.tryAcquire(TARGET));
+        assertEquals(rejected + 1, MetricsMonitor.getHealthCheckRejected().get());
+        assertEquals(2, limiter.getInFlight(TARGET));
+        assertEquals(2, limiter.getInFlight());
+        first.release();
+        assertEquals(1, limiter.getInFlight(TARGET));
+        assertNotNull(limiter.tryAcquire(TARGET));
+    }
+    
+    @Test
+    public void testLimitGlobal() {
+        assertNotNull(limiter.tryAcquire(TARGET));
+        assertNotNull(limiter.tryAcquire(TARGET));
+        HealthCheckConcurrencyLimiter.Permit permit = limiter.tryAcquire(OTHER_TARGET);
+        assertNotNull(permit);
+        assertNull(limiter.tryAcquire(OTHER_TARGET));
+        assertEquals(3, limiter.getInFlight());
+        permit.release();
+        assertEquals(0, limiter.getInFlight(OTHER_TARGET));
+        assertNotNull(limiter.tryAcquire(OTHER_TARGET));
+    }
+    
+    @Test
+    public void testReleaseIdempotent() {
+        int inFlightMetric = MetricsMonitor.getHealthCheckInFlight().get();
+        HealthCheckConcurrencyLimiter.Permit permit = limiter.tryAcquire(TARGET);
+        assertEquals(inFlightMetric + 1, MetricsMonitor.getHealthCheckInFlight().get());
+        permit.release();
+        permit.release();
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getInFlight(TARGET));
+        assertEquals(inFlightMetric, MetricsMonitor.getHealthCheckInFlight().get());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PushRevisionLogTest {
+    
+    private final Service service = Service.newService("N", "G", "S");
+    
+    private PushRevisionLog revisionLog;
+    
+    @Before
+    public void setUp() {
+        revisionLog = new PushRevisionLog();
+    }
+    
+    @Test
+    public void testRecordDelta() {
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            hosts.add(buildInstance("1.1.1." + i, true));
+        }
+        PushDataWrapper first = buildPushData(hosts);
+        revisionLog.record(service, first, true);
+        assertFalse(first.isDeltaAvailable());
+        List<Instance> newHosts = new ArrayList<>(hosts.subList(1, 6));
+        newHosts.set(0, buildInstance("1.1.1.1", false));
+        PushDataWrapper second = buildPushData(newHosts);
+        revisionLog.record(service, second, true);
+        assertTrue(second.isDeltaAvailable());
+        assertEquals(first.getRevision(), second.getBaseRevision());
+        assertEquals(first.getRevision() + 1, second.getRevision().longValue());
+        assertEquals(Collections.singletonList(newHosts.get(0)), second.getChangedHosts());
+        assertEquals(Collections.singletonList(hosts.get(0)), second.getRemovedHosts());
+        assertEquals(1, revisionLog.size());
+    }
+    
+    @Test
+    public void testRecordTooManyChanges() {
+        revisionLog.record(service, buildPushData(Collections.singletonList(buildInstance("1.1.1.1", true))), true);
+        PushDataWrapper second = buildPushData(Arrays.asList(buildInstance("1.1.1.2", true)));
+        revisionLog.record(service, second, true);
+        assertFalse(second.isDeltaAvailable());
+    }
+    
+    @Test
+    public void testRecordNotPushToAll() {
+        PushDataWrapper first = buildPushData(Collections.singletonList(buildInstance("1.1.1.1", true)));
+        revisionLog.record(service, first, false);
+        PushDataWrapper second = buildPushData(Collections.singletonList(buildInstance("1.1.1.1", true)));
+        revisionLog.record(service, second, true);
+        assertFalse(second.isDeltaAvailable());
+        assertEquals(first.getRevision() + 1, second.getRevision().longValue());
+        revisionLog.remove(service);
+        assertEquals(0, revisionLog.size());
+    }
+    
+    @Test
+    public void testTargetedPushThenDeltaApplied() {
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            hosts.add(buildInstance("1.1.1." + i, true));
+        }
+        PushDataWrapper broadcast = buildPushData(hosts);
+        revisionLog.record(service, broadcast, true);
+        // new subscriber gets the same data as last broadcast.
+        PushDataWrapper targeted = buildPushData(new ArrayList<>(hosts));
+        revisionLog.record(service, targeted, false);
+        assertFalse(targeted.isDeltaAvailable());
+        assertEquals(broadcast.getRevision(), targeted.getRevision());
+        List<Instance> newHosts = new ArrayList<>(hosts);
+        newHosts.set(0, buildInstance("1.1.1.0", false));
+        PushDataWrapper delta = buildPushData(newHosts);
+        revisionLog.record(service, delta, true);
+        assertTrue(delta.isDeltaAvailable());
+        // revision saved by the targeted subscriber is the base of delta, so the delta can be applied.
+        assertEquals(targeted.getRevision(), delta.getBaseRevision());
+        assertEquals(Collections.singletonList(newHosts.get(0)), delta.getChangedHosts());
+    }
+    
+    @Test
+    public void testTargetedPushWithDifferentData() {
+        PushDataWrapper broadcast = buildPushData(Collections.singletonList(buildInstance("1.1.1.1", true)));
+        revisionLog.record(service, broadcast, true);
+        PushDataWrapper targeted = buildPushData(Collections.singletonList(buildInstance("1.1.1.1", false)));
+        revisionLog.record(service, targeted, false);
+        assertEquals(broadcast.getRevision() + 1, targeted.getRevision().longValue());
+    }
+    
+    private PushDataWrapper buildPushData(List<Instance> hosts) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(hosts);
+        return new PushDataWrapper(new ServiceMetadata(), serviceInfo);
+    }
+    
+    private Instance buildInstance(String ip, boolean healthy) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setHealthy(healthy);
+        return result;
+    }
+}
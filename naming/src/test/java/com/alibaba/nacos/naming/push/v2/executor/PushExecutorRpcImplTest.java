@@ -16,13 +16,17 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
@@ -32,6 +36,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -39,13 +44,19 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +68,12 @@ public class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,11 +97,11 @@ public class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
-                        eq(GlobalExecutor.getCallbackExecutor()));
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(byte[].class),
+                        eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
         when(selectorManager.select(any(), any(), any()))
@@ -103,13 +120,69 @@ public class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    public void testDoPushWithCallbackReuseSharedBody() {
+        final long hit = MetricsMonitor.getSharedPushPayloadHit().get();
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(pushService, times(2))
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), bodyCaptor.capture(),
+                        eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        assertSame(bodyCaptor.getAllValues().get(0), bodyCaptor.getAllValues().get(1));
+        assertEquals(hit + 1, MetricsMonitor.getSharedPushPayloadHit().get());
+    }
+    
+    @Test
+    public void testDoPushWithCallbackDelta() {
+        Instance changed = new Instance();
+        changed.setIp("1.1.1.1");
+        changed.setPort(8848);
+        Instance disabled = new Instance();
+        disabled.setIp("2.2.2.2");
+        disabled.setPort(8848);
+        disabled.setEnabled(false);
+        Instance removed = new Instance();
+        removed.setIp("3.3.3.3");
+        removed.setPort(8848);
+        pushData.setRevision(2L);
+        pushData.setDelta(1L, Arrays.asList(changed, disabled), Collections.singletonList(removed));
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable())
+                .thenReturn(Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH.getName(), true));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> requestCaptor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), requestCaptor.capture(), any(byte[].class),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberRequest request = requestCaptor.getValue();
+        assertEquals(Long.valueOf(2L), request.getRevision());
+        assertEquals(Long.valueOf(1L), request.getBaseRevision());
+        assertEquals(Collections.singletonList(changed), request.getServiceInfo().getHosts());
+        assertEquals(2, request.getRemovedHosts().size());
+    }
+    
+    @Test
+    public void testDoPushWithCallbackDeltaWithoutAbility() {
+        pushData.setRevision(2L);
+        pushData.setDelta(1L, Collections.emptyList(), Collections.emptyList());
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(Collections.emptyMap());
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> requestCaptor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), requestCaptor.capture(), any(byte[].class),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        assertEquals(Long.valueOf(2L), requestCaptor.getValue().getRevision());
+        assertNull(requestCaptor.getValue().getBaseRevision());
+        assertFalse(requestCaptor.getValue().isDelta());
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
             NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(3);
             callBack.onSuccess();
             return null;
         }
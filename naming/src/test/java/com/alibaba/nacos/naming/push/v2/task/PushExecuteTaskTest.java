@@ -16,7 +16,11 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
+import com.alibaba.nacos.naming.constants.PushConstants;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
@@ -26,6 +30,8 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLog;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.Before;
@@ -55,6 +61,8 @@ public class PushExecuteTaskTest {
     
     private final FixturePushExecutor pushExecutor = new FixturePushExecutor();
     
+    private final PushRevisionLog pushRevisionLog = new PushRevisionLog();
+    
     @Mock
     private PushDelayTaskExecuteEngine delayTaskExecuteEngine;
     
@@ -82,6 +90,7 @@ public class PushExecuteTaskTest {
     @Before
     public void setUp() {
         EnvUtil.setEnvironment(new MockEnvironment());
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
         MetricsMonitor.resetAll();
         when(indexesManager.getAllClientsSubscribeService(service)).thenReturn(Collections.singletonList(clientId));
         when(clientManager.getClient(clientId)).thenReturn(client);
@@ -92,6 +101,7 @@ public class PushExecuteTaskTest {
         when(delayTaskExecuteEngine.getPushExecutor()).thenReturn(pushExecutor);
         when(delayTaskExecuteEngine.getServiceStorage()).thenReturn(serviceStorage);
         when(delayTaskExecuteEngine.getMetadataManager()).thenReturn(metadataManager);
+        when(delayTaskExecuteEngine.getPushRevisionLog()).thenReturn(pushRevisionLog);
         when(metadataManager.getServiceMetadata(service)).thenReturn(Optional.empty());
         ApplicationUtils.injectContext(context);
     }
@@ -143,4 +153,28 @@ public class PushExecuteTaskTest {
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().get());
         verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
     }
+    
+    @Test
+    public void testRunWithoutRevisionIfDeltaDisabled() {
+        PushDelayTask delayTask = new PushDelayTask(service, 0L);
+        PushExecuteTask executeTask = new PushExecuteTask(service, delayTaskExecuteEngine, delayTask);
+        executeTask.run();
+        assertEquals(0, pushRevisionLog.size());
+    }
+    
+    @Test
+    public void testRunFailedWithRevisionGap() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        PushDelayTask delayTask = new PushDelayTask(service, 0L);
+        PushExecuteTask executeTask = new PushExecuteTask(service, delayTaskExecuteEngine, delayTask);
+        pushExecutor.setShouldSuccess(false);
+        pushExecutor.setFailedException(new NacosException(NotifySubscriberResponse.REVISION_GAP, "gap"));
+        executeTask.run();
+        assertEquals(0, MetricsMonitor.getFailedPushMonitor().get());
+        assertEquals(1, pushRevisionLog.size());
+        verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
+    }
 }
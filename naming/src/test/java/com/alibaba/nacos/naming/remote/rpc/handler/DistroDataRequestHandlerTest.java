@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import org.junit.Assert;
@@ -63,10 +64,12 @@ public class DistroDataRequestHandlerTest {
         Assert.assertEquals(response.getErrorCode(), ResponseCode.FAIL.getCode());
     
         DistroData distroData = new DistroData();
-        Mockito.when(distroProtocol.onSnapshot(Mockito.any())).thenReturn(distroData);
+        Mockito.when(distroProtocol.onSnapshotChunk(Mockito.any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new DistroSnapshotChunk(distroData, 0, 1));
         distroDataRequest.setDataOperation(SNAPSHOT);
         DistroDataResponse response1 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         Assert.assertEquals(response1.getDistroData(), distroData);
+        Assert.assertEquals(1, response1.getChunkCount());
         
         distroDataRequest.setDataOperation(DELETE);
         Mockito.when(distroProtocol.onReceive(Mockito.any())).thenReturn(false);
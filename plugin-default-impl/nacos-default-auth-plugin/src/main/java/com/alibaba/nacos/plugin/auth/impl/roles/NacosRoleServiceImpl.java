@@ -58,6 +58,10 @@ public class NacosRoleServiceImpl {
     
     private static final int DEFAULT_PAGE_NO = 1;
     
+    private static final int MAX_CACHED_DECISIONS = 10000;
+    
+    private static final String DECISION_KEY_SPLITTER = "@@";
+    
     @Autowired
     private AuthConfigs authConfigs;
     
@@ -76,6 +80,16 @@ public class NacosRoleServiceImpl {
     
     private volatile Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
     
+    /**
+     * Compiled permission resource patterns, keyed by the raw resource expression of {@link PermissionInfo}.
+     */
+    private volatile Map<String, Pattern> permissionPatternMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Cached permission decisions keyed by user, resource and action, dropped on every reload or modification.
+     */
+    private volatile Map<String, Boolean> permissionDecisionMap = new ConcurrentHashMap<>();
+    
     @Scheduled(initialDelay = 5000, fixedDelay = 15000)
     private void reload() {
         try {
@@ -101,9 +115,21 @@ public class NacosRoleServiceImpl {
                 tmpPermissionInfoMap.put(role, permissionInfoPage.getPageItems());
             }
             
+            Map<String, Pattern> tmpPermissionPatternMap = new ConcurrentHashMap<>(16);
+            for (List<PermissionInfo> permissionInfoList : tmpPermissionInfoMap.values()) {
+                if (CollectionUtils.isEmpty(permissionInfoList)) {
+                    continue;
+                }
+                for (PermissionInfo permissionInfo : permissionInfoList) {
+                    tmpPermissionPatternMap.computeIfAbsent(permissionInfo.getResource(), this::compileResource);
+                }
+            }
+            
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            permissionPatternMap = tmpPermissionPatternMap;
+            permissionDecisionMap = new ConcurrentHashMap<>(16);
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
@@ -143,17 +169,37 @@ public class NacosRoleServiceImpl {
             return false;
         }
         
-        // For other roles, use a pattern match to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(roleInfoList, resource, permission.getAction());
+        }
+        String decisionKey = nacosUser.getUserName() + DECISION_KEY_SPLITTER + resource + DECISION_KEY_SPLITTER
+                + permission.getAction();
+        Map<String, Boolean> decisions = permissionDecisionMap;
+        Boolean cachedDecision = decisions.get(decisionKey);
+        if (cachedDecision != null) {
+            return cachedDecision.booleanValue();
+        }
+        boolean decision = matchPermission(roleInfoList, resource, permission.getAction());
+        if (decisions.size() < MAX_CACHED_DECISIONS) {
+            decisions.put(decisionKey, decision);
+        }
+        return decision;
+    }
+    
+    /**
+     * For other roles, use a pattern match to decide if pass or not.
+     */
+    private boolean matchPermission(List<RoleInfo> roleInfoList, String resource, String action) {
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
             for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
                 String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
+                if (permissionAction.contains(action) && getResourcePattern(permissionInfo.getResource())
+                        .matcher(resource).matches()) {
                     return true;
                 }
             }
@@ -161,6 +207,18 @@ public class NacosRoleServiceImpl {
         return false;
     }
     
+    private Pattern getResourcePattern(String permissionResource) {
+        return permissionPatternMap.computeIfAbsent(permissionResource, this::compileResource);
+    }
+    
+    private Pattern compileResource(String permissionResource) {
+        return Pattern.compile(permissionResource.replaceAll("\\*", ".*"));
+    }
+    
+    private void invalidatePermissionDecisions() {
+        permissionDecisionMap = new ConcurrentHashMap<>(16);
+    }
+    
     public List<RoleInfo> getRoles(String username) {
         List<RoleInfo> roleInfoList = roleInfoMap.get(username);
         if (!authConfigs.isCachingEnabled() || roleInfoList == null) {
@@ -229,6 +287,7 @@ public class NacosRoleServiceImpl {
         }
         rolePersistService.addRole(role, username);
         roleSet.add(role);
+        invalidatePermissionDecisions();
     }
     
     /**
@@ -257,6 +316,7 @@ public class NacosRoleServiceImpl {
      */
     public void deleteRole(String role, String userName) {
         rolePersistService.deleteRole(role, userName);
+        invalidatePermissionDecisions();
     }
     
     /**
@@ -267,6 +327,7 @@ public class NacosRoleServiceImpl {
     public void deleteRole(String role) {
         rolePersistService.deleteRole(role);
         roleSet.remove(role);
+        invalidatePermissionDecisions();
     }
     
     public Page<PermissionInfo> getPermissionsFromDatabase(String role, int pageNo, int pageSize) {
@@ -289,10 +350,12 @@ public class NacosRoleServiceImpl {
             throw new IllegalArgumentException("role " + role + " not found!");
         }
         permissionPersistService.addPermission(role, resource, action);
+        invalidatePermissionDecisions();
     }
     
     public void deletePermission(String role, String resource, String action) {
         permissionPersistService.deletePermission(role, resource, action);
+        invalidatePermissionDecisions();
     }
     
     public List<String> findRolesLikeRoleName(String role) {
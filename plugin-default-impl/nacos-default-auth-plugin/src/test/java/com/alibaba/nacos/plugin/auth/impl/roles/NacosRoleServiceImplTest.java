@@ -40,6 +40,10 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 /**
  * NacosRoleServiceImpl Test.
  *
@@ -114,6 +118,38 @@ public class NacosRoleServiceImplTest {
         Assert.assertTrue(res2);
     }
     
+    @Test
+    public void hasPermissionWithCompiledPatternAndCachedDecision() throws Exception {
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setUsername("nacos");
+        roleInfo.setRole("role1");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("", "", 1, Integer.MAX_VALUE)).thenReturn(rolePage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource("test:*:config/*");
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        Method reload = nacosRoleServiceClass.getDeclaredMethod("reload");
+        reload.setAccessible(true);
+        reload.invoke(nacosRoleService);
+        
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        Resource resource = new Resource("test", "group", "dataId", "config", null);
+        Permission read = new Permission(resource, "r");
+        Assert.assertTrue(nacosRoleService.hasPermission(nacosUser, read));
+        Assert.assertTrue(nacosRoleService.hasPermission(nacosUser, read));
+        Assert.assertFalse(nacosRoleService.hasPermission(nacosUser, new Permission(resource, "w")));
+        Resource otherNamespace = new Resource("other", "group", "dataId", "config", null);
+        Assert.assertFalse(nacosRoleService.hasPermission(nacosUser, new Permission(otherNamespace, "r")));
+        verify(permissionPersistService, times(1)).getPermissions("role1", 1, Integer.MAX_VALUE);
+    }
+    
     @Test
     public void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
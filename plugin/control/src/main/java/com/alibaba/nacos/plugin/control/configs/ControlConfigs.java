@@ -58,6 +58,8 @@ public class ControlConfigs {
     
     private String controlManagerType = "";
     
+    private String ruleBarrierCreator = "";
+    
     public String getRuleExternalStorage() {
         return ruleExternalStorage;
     }
@@ -89,4 +91,12 @@ public class ControlConfigs {
     public void setControlManagerType(String controlManagerType) {
         this.controlManagerType = controlManagerType;
     }
+    
+    public String getRuleBarrierCreator() {
+        return ruleBarrierCreator;
+    }
+    
+    public void setRuleBarrierCreator(String ruleBarrierCreator) {
+        this.ruleBarrierCreator = ruleBarrierCreator;
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * local sliding window rate counter.
+ *
+ * <p>Each period is split into {@code windowBuckets} buckets, the count of a request is the sum of the latest
+ * {@code windowBuckets} buckets, so the window slides by bucket instead of jumping by period. Buckets are tagged by
+ * epoch and replaced by CAS when expired, and counts are striped {@link LongAdder}s, so there is no lock or
+ * contended atomic on the request path. With one bucket per period it works as a fixed window counter.
+ *
+ * @author agent
+ */
+public class LocalSlidingWindowRateCounter extends RateCounter {
+    
+    private static final int DEFAULT_RECORD_PERIODS = 10;
+    
+    private final int windowBuckets;
+    
+    private final long bucketMillis;
+    
+    private final AtomicReferenceArray<WindowSlot> slots;
+    
+    public LocalSlidingWindowRateCounter(String name, TimeUnit period, int windowBuckets) {
+        super(name, period);
+        long periodMillis = Math.max(1L, period.toMillis(1));
+        this.windowBuckets = (int) Math.max(1L, Math.min(windowBuckets, periodMillis));
+        this.bucketMillis = periodMillis / this.windowBuckets;
+        this.slots = new AtomicReferenceArray<>(this.windowBuckets * DEFAULT_RECORD_PERIODS);
+    }
+    
+    @Override
+    public long add(long timestamp, long count) {
+        WindowSlot slot = createSlotIfAbsent(timestamp);
+        slot.count.add(count);
+        return slot.count.sum();
+    }
+    
+    @Override
+    public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
+        WindowSlot slot = createSlotIfAbsent(timestamp);
+        slot.count.add(countDelta);
+        if (getWindowCount(slot.epoch) <= upperLimit) {
+            return true;
+        }
+        slot.count.add(-countDelta);
+        slot.interceptedCount.add(countDelta);
+        return false;
+    }
+    
+    /**
+     * get count of the period which timestamp belongs to.
+     *
+     * @param timestamp timestamp.
+     * @return count of the period.
+     */
+    @Override
+    public long getCount(long timestamp) {
+        long periodStartEpoch = Math.floorDiv(timestamp, bucketMillis * windowBuckets) * windowBuckets;
+        long count = 0L;
+        for (int i = 0; i < windowBuckets; i++) {
+            WindowSlot slot = getSlot(periodStartEpoch + i);
+            count += slot == null ? 0L : slot.count.sum();
+        }
+        return count;
+    }
+    
+    /**
+     * get intercepted count of the period which timestamp belongs to.
+     *
+     * @param timestamp timestamp.
+     * @return intercepted count of the period.
+     */
+    public long getInterceptedCount(long timestamp) {
+        long periodStartEpoch = Math.floorDiv(timestamp, bucketMillis * windowBuckets) * windowBuckets;
+        long count = 0L;
+        for (int i = 0; i < windowBuckets; i++) {
+            WindowSlot slot = getSlot(periodStartEpoch + i);
+            count += slot == null ? 0L : slot.interceptedCount.sum();
+        }
+        return count;
+    }
+    
+    /**
+     * get count of the window which ends with the bucket of epoch.
+     */
+    private long getWindowCount(long epoch) {
+        long count = 0L;
+        for (int i = 0; i < windowBuckets; i++) {
+            WindowSlot slot = getSlot(epoch - i);
+            count += slot == null ? 0L : slot.count.sum();
+        }
+        return count;
+    }
+    
+    private WindowSlot getSlot(long epoch) {
+        WindowSlot slot = slots.get(indexOf(epoch));
+        return slot != null && slot.epoch == epoch ? slot : null;
+    }
+    
+    /**
+     * get slot of the timestamp, replace the expired slot if exist.
+     *
+     * @param timestamp timestamp.
+     * @return window slot, a detached slot if timestamp is older than all recorded periods.
+     */
+    private WindowSlot createSlotIfAbsent(long timestamp) {
+        long epoch = Math.floorDiv(timestamp, bucketMillis);
+        int index = indexOf(epoch);
+        for (; ; ) {
+            WindowSlot slot = slots.get(index);
+            if (slot != null && slot.epoch >= epoch) {
+                return slot.epoch == epoch ? slot : new WindowSlot(epoch);
+            }
+            WindowSlot newSlot = new WindowSlot(epoch);
+            if (slots.compareAndSet(index, slot, newSlot)) {
+                return newSlot;
+            }
+        }
+    }
+    
+    private int indexOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) slots.length());
+    }
+    
+    static class WindowSlot {
+        
+        final long epoch;
+        
+        final LongAdder count = new LongAdder();
+        
+        final LongAdder interceptedCount = new LongAdder();
+        
+        WindowSlot(long epoch) {
+            this.epoch = epoch;
+        }
+        
+        @Override
+        public String toString() {
+            return "WindowSlot{" + "epoch=" + epoch + ", count=" + count + ", interceptedCount=" + interceptedCount
+                    + '}';
+        }
+    }
+}
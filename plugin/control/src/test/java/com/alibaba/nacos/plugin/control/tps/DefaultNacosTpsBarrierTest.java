@@ -16,8 +16,12 @@
 
 package com.alibaba.nacos.plugin.control.tps;
 
-import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSimpleCountRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSlidingWindowRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalStripedCountRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
 import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
@@ -68,4 +72,20 @@ public class DefaultNacosTpsBarrierTest {
         
     }
     
+    @Test
+    public void testSelectRuleBarrierCreator() {
+        ControlConfigs.getInstance().setRuleBarrierCreator("localslidingwindow");
+        try {
+            TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier("test_barrier");
+            Assert.assertTrue(tpsBarrier.getPointBarrier() instanceof LocalSlidingWindowRuleBarrier);
+            ControlConfigs.getInstance().setRuleBarrierCreator("localstripedcount");
+            tpsBarrier = new DefaultNacosTpsBarrier("test_barrier");
+            Assert.assertTrue(tpsBarrier.getPointBarrier() instanceof LocalStripedCountRuleBarrier);
+            ControlConfigs.getInstance().setRuleBarrierCreator("notExist");
+            tpsBarrier = new DefaultNacosTpsBarrier("test_barrier");
+            Assert.assertTrue(tpsBarrier.getPointBarrier() instanceof LocalSimpleCountRuleBarrier);
+        } finally {
+            ControlConfigs.getInstance().setRuleBarrierCreator("");
+        }
+    }
 }
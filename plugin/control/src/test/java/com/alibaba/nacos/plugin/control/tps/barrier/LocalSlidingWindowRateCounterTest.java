@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalSlidingWindowRateCounterTest {
+    
+    @Test
+    public void testFixedWindow() {
+        LocalSlidingWindowRateCounter rateCounter = new LocalSlidingWindowRateCounter("test", TimeUnit.SECONDS, 1);
+        long second = RateCounter.getTrimMillsOfSecond(System.currentTimeMillis());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(rateCounter.tryAdd(second + i * 100, 1, 5));
+        }
+        Assert.assertFalse(rateCounter.tryAdd(second + 999, 1, 5));
+        Assert.assertEquals(5, rateCounter.getCount(second));
+        Assert.assertEquals(1, rateCounter.getInterceptedCount(second));
+        // next period is a new window.
+        Assert.assertTrue(rateCounter.tryAdd(second + 1000, 1, 5));
+        Assert.assertEquals(1, rateCounter.getCount(second + 1000));
+    }
+    
+    @Test
+    public void testSlidingWindow() {
+        LocalSlidingWindowRateCounter rateCounter = new LocalSlidingWindowRateCounter("test", TimeUnit.SECONDS, 10);
+        long second = RateCounter.getTrimMillsOfSecond(System.currentTimeMillis());
+        // 5 requests at the end of the first second.
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(rateCounter.tryAdd(second + 950, 1, 5));
+        }
+        // still in the window of last 1 second, denied although the second changed.
+        Assert.assertFalse(rateCounter.tryAdd(second + 1050, 1, 5));
+        // the first second bucket slides out.
+        Assert.assertTrue(rateCounter.tryAdd(second + 1950, 1, 5));
+        Assert.assertEquals(5, rateCounter.getCount(second));
+        Assert.assertEquals(1, rateCounter.getCount(second + 1000));
+        Assert.assertEquals(1, rateCounter.getInterceptedCount(second + 1000));
+    }
+    
+    @Test
+    public void testAddAndExpiredSlot() {
+        LocalSlidingWindowRateCounter rateCounter = new LocalSlidingWindowRateCounter("test", TimeUnit.SECONDS, 10);
+        long second = RateCounter.getTrimMillsOfSecond(System.currentTimeMillis());
+        Assert.assertEquals(3, rateCounter.add(second, 3));
+        Assert.assertEquals(3, rateCounter.getCount(second));
+        // slot is reused after 10 periods.
+        rateCounter.add(second + 10000, 1);
+        Assert.assertEquals(0, rateCounter.getCount(second));
+        Assert.assertEquals(1, rateCounter.getCount(second + 10000));
+        // too old timestamp is not recorded.
+        rateCounter.add(second, 1);
+        Assert.assertEquals(0, rateCounter.getCount(second));
+    }
+    
+    @Test
+    public void testConcurrentTryAdd() throws InterruptedException {
+        LocalSlidingWindowRateCounter rateCounter = new LocalSlidingWindowRateCounter("test", TimeUnit.SECONDS, 10);
+        long timestamp = System.currentTimeMillis();
+        int threads = 64;
+        int perThread = 1000;
+        long limit = 10000L;
+        AtomicLong accepted = new AtomicLong();
+        CountDownLatch latch = new CountDownLatch(threads);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    if (rateCounter.tryAdd(timestamp, 1, limit)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        Assert.assertTrue(accepted.get() <= limit);
+        Assert.assertEquals(accepted.get(), rateCounter.getCount(timestamp));
+        Assert.assertEquals((long) threads * perThread,
+                rateCounter.getCount(timestamp) + rateCounter.getInterceptedCount(timestamp));
+    }
+}
@@ -52,6 +52,8 @@ public class FieldConstant {
     
     public static final String LAST_MAX_ID = "lastMaxId";
     
+    public static final String MAX_ID = "maxId";
+    
     public static final String DATUM_ID = "datumId";
     
     public static final String IS_IN = "isIn";
@@ -68,6 +70,12 @@ public class FieldConstant {
     
     public static final String IDS = "ids";
     
+    public static final String DATA_IDS = "dataIds";
+    
+    public static final String GROUP_IDS = "groupIds";
+    
+    public static final String TENANT_IDS = "tenantIds";
+    
     public static final String C_DESC = "cDesc";
     
     public static final String C_USE = "cUse";
@@ -23,6 +23,7 @@ import com.alibaba.nacos.plugin.datasource.constants.ContextConstant;
 import com.alibaba.nacos.plugin.datasource.constants.DataSourceConstant;
 import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
 import com.alibaba.nacos.plugin.datasource.mapper.AbstractMapper;
+import com.alibaba.nacos.plugin.datasource.mapper.ConditionSqlTemplate;
 import com.alibaba.nacos.plugin.datasource.mapper.ConfigInfoMapper;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
@@ -40,6 +41,11 @@ import java.util.List;
 
 public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInfoMapper {
     
+    private static final ConditionSqlTemplate CHANGE_CONFIG_FETCH_ROWS = new ConditionSqlTemplate(
+            "SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_modified FROM"
+                    + " config_info WHERE  1=1 ", " AND data_id LIKE ? ", " AND group_id LIKE ? ",
+            " AND tenant_id = ? ", " AND app_name = ? ", " AND gmt_modified >=? ", " AND gmt_modified <=? ");
+    
     @Override
     public MapperResult findConfigInfoByAppFetchRows(MapperContext context) {
         final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
@@ -94,10 +100,15 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
     public MapperResult findAllConfigInfoFragment(MapperContext context) {
         String contextParameter = context.getContextParameter(ContextConstant.NEED_CONTENT);
         boolean needContent = contextParameter != null && Boolean.parseBoolean(contextParameter);
+        Object maxId = context.getWhereParameter(FieldConstant.MAX_ID);
+        List<Object> paramList = CollectionUtils.list(context.getWhereParameter(FieldConstant.ID));
+        if (maxId != null) {
+            paramList.add(maxId);
+        }
         return new MapperResult("SELECT id,data_id,group_id,tenant_id,app_name," + (needContent ? "content," : "")
-                + "md5,gmt_modified,type FROM config_info WHERE id > ? " + "ORDER BY id ASC OFFSET "
-                + context.getStartRow() + " ROWS FETCH NEXT " + context.getPageSize() + " ROWS ONLY",
-                CollectionUtils.list(context.getWhereParameter(FieldConstant.ID)));
+                + "md5,gmt_modified,type FROM config_info WHERE id > ? " + (maxId != null ? "AND id <= ? " : "")
+                + "ORDER BY id ASC OFFSET " + context.getStartRow() + " ROWS FETCH NEXT " + context.getPageSize()
+                + " ROWS ONLY", paramList);
     }
     
     @Override
@@ -110,41 +121,13 @@ public class ConfigInfoMapperByDerby extends AbstractMapper implements ConfigInf
         final Timestamp startTime = (Timestamp) context.getWhereParameter(FieldConstant.START_TIME);
         final Timestamp endTime = (Timestamp) context.getWhereParameter(FieldConstant.END_TIME);
         
-        List<Object> paramList = new ArrayList<>();
-        
-        final String sqlFetchRows = "SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_modified FROM"
-                + " config_info WHERE ";
-        String where = " 1=1 ";
-        
-        if (!StringUtils.isBlank(dataId)) {
-            where += " AND data_id LIKE ? ";
-            paramList.add(dataId);
-        }
-        if (!StringUtils.isBlank(group)) {
-            where += " AND group_id LIKE ? ";
-            paramList.add(group);
-        }
-        
-        if (!StringUtils.isBlank(tenant)) {
-            where += " AND tenant_id = ? ";
-            paramList.add(tenant);
-        }
-        
-        if (!StringUtils.isBlank(appName)) {
-            where += " AND app_name = ? ";
-            paramList.add(appName);
-        }
-        if (startTime != null) {
-            where += " AND gmt_modified >=? ";
-            paramList.add(startTime);
-        }
-        if (endTime != null) {
-            where += " AND gmt_modified <=? ";
-            paramList.add(endTime);
-        }
+        ConditionSqlTemplate.Condition condition = CHANGE_CONFIG_FETCH_ROWS.newCondition()
+                .add(!StringUtils.isBlank(dataId), dataId).add(!StringUtils.isBlank(group), group)
+                .add(!StringUtils.isBlank(tenant), tenant).add(!StringUtils.isBlank(appName), appName)
+                .add(startTime != null, startTime).add(endTime != null, endTime);
         return new MapperResult(
-                sqlFetchRows + where + " OFFSET " + context.getStartRow() + " ROWS FETCH NEXT " + context.getPageSize()
-                        + " ROWS ONLY", paramList);
+                condition.getSql() + " OFFSET " + context.getStartRow() + " ROWS FETCH NEXT " + context.getPageSize()
+                        + " ROWS ONLY", condition.getParams());
     }
     
     @Override
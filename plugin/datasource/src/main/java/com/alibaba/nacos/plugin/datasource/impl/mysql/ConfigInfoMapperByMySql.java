@@ -23,6 +23,7 @@ import com.alibaba.nacos.plugin.datasource.constants.ContextConstant;
 import com.alibaba.nacos.plugin.datasource.constants.DataSourceConstant;
 import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
 import com.alibaba.nacos.plugin.datasource.mapper.AbstractMapper;
+import com.alibaba.nacos.plugin.datasource.mapper.ConditionSqlTemplate;
 import com.alibaba.nacos.plugin.datasource.mapper.ConfigInfoMapper;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
@@ -50,6 +51,11 @@ public class ConfigInfoMapperByMySql extends AbstractMapper implements ConfigInf
     
     private static final String TENANT = "tenant";
     
+    private static final ConditionSqlTemplate CHANGE_CONFIG_FETCH_ROWS = new ConditionSqlTemplate(
+            "SELECT id,data_id,group_id,tenant_id,app_name,type,md5,gmt_modified FROM config_info WHERE  1=1 ",
+            " AND data_id LIKE ? ", " AND group_id LIKE ? ",
+            " AND tenant_id = ? ", " AND app_name = ? ", " AND gmt_modified >=? ", " AND gmt_modified <=? ");
+    
     @Override
     public MapperResult findConfigInfoByAppFetchRows(MapperContext context) {
         final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
@@ -94,10 +100,16 @@ public class ConfigInfoMapperByMySql extends AbstractMapper implements ConfigInf
     public MapperResult findAllConfigInfoFragment(MapperContext context) {
         String contextParameter = context.getContextParameter(ContextConstant.NEED_CONTENT);
         boolean needContent = contextParameter != null && Boolean.parseBoolean(contextParameter);
+        Object maxId = context.getWhereParameter(FieldConstant.MAX_ID);
         String sql = "SELECT id,data_id,group_id,tenant_id,app_name," + (needContent ? "content," : "")
-                + "md5,gmt_modified,type,encrypted_data_key FROM config_info WHERE id > ? ORDER BY id ASC LIMIT "
-                + context.getStartRow() + "," + context.getPageSize();
-        return new MapperResult(sql, CollectionUtils.list(context.getWhereParameter(FieldConstant.ID)));
+                + "md5,gmt_modified,type,encrypted_data_key FROM config_info WHERE id > ?"
+                + (maxId != null ? " AND id <= ?" : "") + " ORDER BY id ASC LIMIT " + context.getStartRow() + ","
+                + context.getPageSize();
+        List<Object> paramList = CollectionUtils.list(context.getWhereParameter(FieldConstant.ID));
+        if (maxId != null) {
+            paramList.add(maxId);
+        }
+        return new MapperResult(sql, paramList);
     }
     
     @Override
@@ -110,39 +122,13 @@ public class ConfigInfoMapperByMySql extends AbstractMapper implements ConfigInf
         final Timestamp startTime = (Timestamp) context.getWhereParameter(FieldConstant.START_TIME);
         final Timestamp endTime = (Timestamp) context.getWhereParameter(FieldConstant.END_TIME);
         
-        List<Object> paramList = new ArrayList<>();
-        
-        final String sqlFetchRows = "SELECT id,data_id,group_id,tenant_id,app_name,type,md5,gmt_modified FROM config_info WHERE ";
-        String where = " 1=1 ";
-        if (!StringUtils.isBlank(dataId)) {
-            where += " AND data_id LIKE ? ";
-            paramList.add(dataId);
-        }
-        if (!StringUtils.isBlank(group)) {
-            where += " AND group_id LIKE ? ";
-            paramList.add(group);
-        }
-        
-        if (!StringUtils.isBlank(tenantTmp)) {
-            where += " AND tenant_id = ? ";
-            paramList.add(tenantTmp);
-        }
-        
-        if (!StringUtils.isBlank(appName)) {
-            where += " AND app_name = ? ";
-            paramList.add(appName);
-        }
-        if (startTime != null) {
-            where += " AND gmt_modified >=? ";
-            paramList.add(startTime);
-        }
-        if (endTime != null) {
-            where += " AND gmt_modified <=? ";
-            paramList.add(endTime);
-        }
+        ConditionSqlTemplate.Condition condition = CHANGE_CONFIG_FETCH_ROWS.newCondition()
+                .add(!StringUtils.isBlank(dataId), dataId).add(!StringUtils.isBlank(group), group)
+                .add(!StringUtils.isBlank(tenantTmp), tenantTmp).add(!StringUtils.isBlank(appName), appName)
+                .add(startTime != null, startTime).add(endTime != null, endTime);
         return new MapperResult(
-                sqlFetchRows + where + " AND id > " + context.getWhereParameter(FieldConstant.LAST_MAX_ID)
-                        + " ORDER BY id ASC" + " LIMIT " + 0 + "," + context.getPageSize(), paramList);
+                condition.getSql() + " AND id > " + context.getWhereParameter(FieldConstant.LAST_MAX_ID)
+                        + " ORDER BY id ASC" + " LIMIT " + 0 + "," + context.getPageSize(), condition.getParams());
     }
     
     @Override
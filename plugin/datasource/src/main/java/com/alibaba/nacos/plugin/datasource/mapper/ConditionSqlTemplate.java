@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.datasource.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sql template made of a fixed prefix and a list of optional conditions.
+ *
+ * <p>The sql text only depends on which conditions are present, so it is generated once per condition shape and
+ * reused by later calls, instead of being concatenated on every invocation.
+ *
+ * @author agent
+ */
+public class ConditionSqlTemplate {
+    
+    private static final int MAX_CONDITIONS = Integer.SIZE - 1;
+    
+    private final String prefix;
+    
+    private final String[] conditions;
+    
+    private final Map<Integer, String> sqlCache = new ConcurrentHashMap<>(16);
+    
+    public ConditionSqlTemplate(String prefix, String... conditions) {
+        if (conditions.length > MAX_CONDITIONS) {
+            throw new IllegalArgumentException("Too many conditions for sql template: " + conditions.length);
+        }
+        this.prefix = prefix;
+        this.conditions = conditions;
+    }
+    
+    /**
+     * Start a new condition collection for this template.
+     *
+     * @return new condition collection
+     */
+    public Condition newCondition() {
+        return new Condition();
+    }
+    
+    /**
+     * Get the sql of the condition shape, generate it when absent.
+     *
+     * @param shape bit mask of present conditions, bit {@code i} means the {@code i}th condition
+     * @return sql text
+     */
+    public String getSql(int shape) {
+        return sqlCache.computeIfAbsent(shape, this::generateSql);
+    }
+    
+    private String generateSql(int shape) {
+        StringBuilder sql = new StringBuilder(prefix);
+        for (int i = 0; i < conditions.length; i++) {
+            if ((shape & (1 << i)) != 0) {
+                sql.append(conditions[i]);
+            }
+        }
+        return sql.toString();
+    }
+    
+    /**
+     * Collection of the present conditions and their parameters, conditions must be added in template order.
+     */
+    public class Condition {
+        
+        private final List<Object> params = new ArrayList<>();
+        
+        private int shape;
+        
+        private int index;
+        
+        /**
+         * Add next condition of the template.
+         *
+         * @param present whether the condition is present
+         * @param param   parameter of the condition, only used when present
+         * @return this
+         */
+        public Condition add(boolean present, Object param) {
+            if (index >= conditions.length) {
+                throw new IllegalStateException("Condition index out of template bound: " + index);
+            }
+            if (present) {
+                shape |= 1 << index;
+                params.add(param);
+            }
+            index++;
+            return this;
+        }
+        
+        public String getSql() {
+            return ConditionSqlTemplate.this.getSql(shape);
+        }
+        
+        public List<Object> getParams() {
+            return params;
+        }
+    }
+}
@@ -133,7 +133,8 @@ public interface ConfigInfoMapper extends Mapper {
     /**
      * Query all config info. The default sql: SELECT
      * id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key FROM config_info WHERE id
-     * > ? ORDER BY id ASC LIMIT startRow,pageSize
+     * > ? ORDER BY id ASC LIMIT startRow,pageSize. If the where parameter {@link FieldConstant#MAX_ID} is set, the
+     * query is also bounded by id <= ? so that a page never runs past the end of an id range.
      *
      * @param context     The context of startRow, pageSize
      * @return The sql of querying all config info.
@@ -172,37 +173,11 @@ public interface ConfigInfoMapper extends Mapper {
         final Timestamp startTime = (Timestamp) context.getWhereParameter(FieldConstant.START_TIME);
         final Timestamp endTime = (Timestamp) context.getWhereParameter(FieldConstant.END_TIME);
         
-        List<Object> paramList = new ArrayList<>();
-        final String sqlCountRows = "SELECT count(*) FROM config_info WHERE ";
-        String where = " 1=1 ";
-        
-        if (!StringUtils.isBlank(dataId)) {
-            where += " AND data_id LIKE ? ";
-            paramList.add(dataId);
-        }
-        if (!StringUtils.isBlank(group)) {
-            where += " AND group_id LIKE ? ";
-            paramList.add(group);
-        }
-        
-        if (!StringUtils.isBlank(tenant)) {
-            where += " AND tenant_id = ? ";
-            paramList.add(tenant);
-        }
-        
-        if (!StringUtils.isBlank(appName)) {
-            where += " AND app_name = ? ";
-            paramList.add(appName);
-        }
-        if (startTime != null) {
-            where += " AND gmt_modified >=? ";
-            paramList.add(startTime);
-        }
-        if (endTime != null) {
-            where += " AND gmt_modified <=? ";
-            paramList.add(endTime);
-        }
-        return new MapperResult(sqlCountRows + where, paramList);
+        ConditionSqlTemplate.Condition condition = ConfigInfoMapperSqlTemplates.CHANGE_CONFIG_COUNT_ROWS.newCondition()
+                .add(!StringUtils.isBlank(dataId), dataId).add(!StringUtils.isBlank(group), group)
+                .add(!StringUtils.isBlank(tenant), tenant).add(!StringUtils.isBlank(appName), appName)
+                .add(startTime != null, startTime).add(endTime != null, endTime);
+        return new MapperResult(condition.getSql(), condition.getParams());
     }
     
     /**
@@ -454,6 +429,59 @@ public interface ConfigInfoMapper extends Mapper {
         return new MapperResult(sql.toString(), paramList);
     }
     
+    /**
+     * find ConfigInfo with content and state by ids. <br/>The default sql: <br/>SELECT id,data_id,group_id,tenant_id,
+     * app_name,content,md5,type,encrypted_data_key,gmt_modified FROM config_info WHERE id IN (...)
+     *
+     * @param context the size of ids.
+     * @return find ConfigInfo with content and state by ids.
+     */
+    default MapperResult findConfigInfoWrappersByIds(MapperContext context) {
+        List<Long> ids = (List<Long>) context.getWhereParameter(FieldConstant.IDS);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,encrypted_data_key,gmt_modified "
+                        + "FROM config_info WHERE ");
+        sql.append("id IN (");
+        ArrayList<Object> paramList = new ArrayList<>();
+        
+        for (int i = 0; i < ids.size(); i++) {
+            if (i != 0) {
+                sql.append(", ");
+            }
+            sql.append('?');
+            paramList.add(ids.get(i));
+        }
+        sql.append(") ");
+        return new MapperResult(sql.toString(), paramList);
+    }
+    
+    /**
+     * find config info states by config keys. <br/>The default sql: <br/>SELECT id,data_id,group_id,tenant_id,
+     * gmt_modified FROM config_info WHERE (data_id=? AND group_id=? AND tenant_id=?) OR (...)
+     *
+     * @param context the dataIds, groupIds and tenantIds, which are lists in the same size and order.
+     * @return find config info states by config keys.
+     */
+    default MapperResult findConfigInfoStatesByKeys(MapperContext context) {
+        List<String> dataIds = (List<String>) context.getWhereParameter(FieldConstant.DATA_IDS);
+        List<String> groupIds = (List<String>) context.getWhereParameter(FieldConstant.GROUP_IDS);
+        List<String> tenantIds = (List<String>) context.getWhereParameter(FieldConstant.TENANT_IDS);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id,data_id,group_id,tenant_id,gmt_modified FROM config_info WHERE ");
+        ArrayList<Object> paramList = new ArrayList<>();
+        
+        for (int i = 0; i < dataIds.size(); i++) {
+            if (i != 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(data_id=? AND group_id=? AND tenant_id=?)");
+            paramList.add(dataIds.get(i));
+            paramList.add(groupIds.get(i));
+            paramList.add(tenantIds.get(i));
+        }
+        return new MapperResult(sql.toString(), paramList);
+    }
+    
     /**
      * Remove configuration; database atomic operation, minimum SQL action, no business encapsulation.
      *
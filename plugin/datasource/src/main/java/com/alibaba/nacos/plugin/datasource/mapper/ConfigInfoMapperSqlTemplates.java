@@ -0,0 +1,37 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.datasource.mapper;
+
+/**
+ * Holder of the sql templates used by default methods of {@link ConfigInfoMapper}, kept out of the mapper interface so
+ * that they are not exposed as part of the plugin contract.
+ *
+ * @author agent
+ */
+final class ConfigInfoMapperSqlTemplates {
+    
+    /**
+     * Sql template of {@link ConfigInfoMapper#findChangeConfigCountRows(MapperContext)}, generated once per condition
+     * shape.
+     */
+    static final ConditionSqlTemplate CHANGE_CONFIG_COUNT_ROWS = new ConditionSqlTemplate(
+            "SELECT count(*) FROM config_info WHERE  1=1 ", " AND data_id LIKE ? ", " AND group_id LIKE ? ",
+            " AND tenant_id = ? ", " AND app_name = ? ", " AND gmt_modified >=? ", " AND gmt_modified <=? ");
+    
+    private ConfigInfoMapperSqlTemplates() {
+    }
+}
@@ -22,6 +22,9 @@ import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
@@ -41,8 +44,17 @@ public class MapperProxy implements InvocationHandler {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(MapperProxy.class);
     
+    private static final Object[] EMPTY_ARGS = new Object[0];
+    
+    private static final MethodType SPREAD_INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+    
     private Mapper mapper;
     
+    /**
+     * Method handles bound to the mapper, used instead of reflective invocation for each proxied call.
+     */
+    private final Map<Method, MethodHandle> methodHandleCache = new ConcurrentHashMap<>(16);
+    
     private static final Map<String, Mapper> SINGLE_MAPPER_PROXY_MAP = new ConcurrentHashMap<>(16);
 
     /**
@@ -71,7 +83,7 @@ public class MapperProxy implements InvocationHandler {
     
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        Object invoke = method.invoke(mapper, args);
+        Object invoke = getMethodHandle(method).invokeExact(null == args ? EMPTY_ARGS : args);
         
         String className = mapper.getClass().getSimpleName();
         String methodName = method.getName();
@@ -84,4 +96,17 @@ public class MapperProxy implements InvocationHandler {
         LOGGER.info("[{}] METHOD : {}, SQL : {}, ARGS : {}", className, methodName, sql, JacksonUtils.toJson(args));
         return invoke;
     }
+    
+    private MethodHandle getMethodHandle(Method method) {
+        return methodHandleCache.computeIfAbsent(method, this::createMethodHandle);
+    }
+    
+    private MethodHandle createMethodHandle(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).bindTo(mapper)
+                    .asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can't access mapper method " + method, e);
+        }
+    }
 }
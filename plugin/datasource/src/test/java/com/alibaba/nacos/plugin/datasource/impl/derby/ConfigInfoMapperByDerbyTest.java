@@ -169,6 +169,17 @@ public class ConfigInfoMapperByDerbyTest {
         Assert.assertArrayEquals(mapperResult2.getParamList().toArray(), new Object[] {id});
     }
     
+    @Test
+    public void testFindAllConfigInfoFragmentWithMaxId() {
+        context.putContextParameter(ContextConstant.NEED_CONTENT, "false");
+        context.putWhereParameter(FieldConstant.MAX_ID, 100L);
+        MapperResult mapperResult = configInfoMapperByDerby.findAllConfigInfoFragment(context);
+        Assert.assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,md5,gmt_modified,type FROM config_info "
+                + "WHERE id > ? AND id <= ? ORDER BY id ASC OFFSET " + startRow + " ROWS FETCH NEXT " + pageSize
+                + " ROWS ONLY", mapperResult.getSql());
+        Assert.assertArrayEquals(new Object[] {id, 100L}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     public void testFindChangeConfig() {
         MapperResult mapperResult = configInfoMapperByDerby.findChangeConfig(context);
@@ -303,6 +314,29 @@ public class ConfigInfoMapperByDerbyTest {
         Assert.assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
     }
     
+    @Test
+    public void testFindConfigInfoWrappersByIds() {
+        MapperResult mapperResult = configInfoMapperByDerby.findConfigInfoWrappersByIds(context);
+        Assert.assertEquals(mapperResult.getSql(),
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,encrypted_data_key,gmt_modified "
+                        + "FROM config_info WHERE id IN (?, ?, ?, ?, ?) ");
+        Assert.assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
+    }
+    
+    @Test
+    public void testFindConfigInfoStatesByKeys() {
+        MapperContext keysContext = new MapperContext();
+        keysContext.putWhereParameter(FieldConstant.DATA_IDS, Lists.newArrayList("dataId1", "dataId2"));
+        keysContext.putWhereParameter(FieldConstant.GROUP_IDS, Lists.newArrayList("group1", "group2"));
+        keysContext.putWhereParameter(FieldConstant.TENANT_IDS, Lists.newArrayList("tenant1", ""));
+        MapperResult mapperResult = configInfoMapperByDerby.findConfigInfoStatesByKeys(keysContext);
+        Assert.assertEquals(mapperResult.getSql(),
+                "SELECT id,data_id,group_id,tenant_id,gmt_modified FROM config_info WHERE "
+                        + "(data_id=? AND group_id=? AND tenant_id=?) OR (data_id=? AND group_id=? AND tenant_id=?)");
+        Assert.assertArrayEquals(mapperResult.getParamList().toArray(),
+                new Object[] {"dataId1", "group1", "tenant1", "dataId2", "group2", ""});
+    }
+    
     @Test
     public void testRemoveConfigInfoByIdsAtomic() {
         MapperResult mapperResult = configInfoMapperByDerby.removeConfigInfoByIdsAtomic(context);
@@ -168,6 +168,18 @@ public class ConfigInfoMapperByMySqlTest {
         Assert.assertArrayEquals(mapperResult2.getParamList().toArray(), new Object[] {id});
     }
     
+    @Test
+    public void testFindAllConfigInfoFragmentWithMaxId() {
+        context.putContextParameter(ContextConstant.NEED_CONTENT, "true");
+        context.putWhereParameter(FieldConstant.MAX_ID, 100L);
+        MapperResult mapperResult = configInfoMapperByMySql.findAllConfigInfoFragment(context);
+        Assert.assertEquals(
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key "
+                        + "FROM config_info WHERE id > ? AND id <= ? ORDER BY id ASC LIMIT " + startRow + ","
+                        + pageSize, mapperResult.getSql());
+        Assert.assertArrayEquals(new Object[] {id, 100L}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     public void testFindChangeConfig() {
         MapperResult mapperResult = configInfoMapperByMySql.findChangeConfig(context);
@@ -302,6 +314,29 @@ public class ConfigInfoMapperByMySqlTest {
         Assert.assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
     }
     
+    @Test
+    public void testFindConfigInfoWrappersByIds() {
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoWrappersByIds(context);
+        Assert.assertEquals(mapperResult.getSql(),
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,encrypted_data_key,gmt_modified "
+                        + "FROM config_info WHERE id IN (?, ?, ?, ?, ?) ");
+        Assert.assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
+    }
+    
+    @Test
+    public void testFindConfigInfoStatesByKeys() {
+        MapperContext keysContext = new MapperContext();
+        keysContext.putWhereParameter(FieldConstant.DATA_IDS, Lists.newArrayList("dataId1", "dataId2"));
+        keysContext.putWhereParameter(FieldConstant.GROUP_IDS, Lists.newArrayList("group1", "group2"));
+        keysContext.putWhereParameter(FieldConstant.TENANT_IDS, Lists.newArrayList("tenant1", ""));
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoStatesByKeys(keysContext);
+        Assert.assertEquals(mapperResult.getSql(),
+                "SELECT id,data_id,group_id,tenant_id,gmt_modified FROM config_info WHERE "
+                        + "(data_id=? AND group_id=? AND tenant_id=?) OR (data_id=? AND group_id=? AND tenant_id=?)");
+        Assert.assertArrayEquals(mapperResult.getParamList().toArray(),
+                new Object[] {"dataId1", "group1", "tenant1", "dataId2", "group2", ""});
+    }
+    
     @Test
     public void testRemoveConfigInfoByIdsAtomic() {
         MapperResult mapperResult = configInfoMapperByMySql.removeConfigInfoByIdsAtomic(context);
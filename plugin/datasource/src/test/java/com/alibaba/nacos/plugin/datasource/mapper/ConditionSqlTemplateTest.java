@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.datasource.mapper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ConditionSqlTemplateTest {
+    
+    private final ConditionSqlTemplate template = new ConditionSqlTemplate("SELECT * FROM t WHERE 1=1", " AND a = ?",
+            " AND b = ?", " AND c = ?");
+    
+    @Test
+    public void testNoConditionPresent() {
+        ConditionSqlTemplate.Condition condition = template.newCondition().add(false, "a").add(false, "b")
+                .add(false, "c");
+        Assert.assertEquals("SELECT * FROM t WHERE 1=1", condition.getSql());
+        Assert.assertEquals(Collections.emptyList(), condition.getParams());
+    }
+    
+    @Test
+    public void testPartialConditionPresent() {
+        ConditionSqlTemplate.Condition condition = template.newCondition().add(true, "a").add(false, "b")
+                .add(true, "c");
+        Assert.assertEquals("SELECT * FROM t WHERE 1=1 AND a = ? AND c = ?", condition.getSql());
+        Assert.assertEquals(Arrays.asList("a", "c"), condition.getParams());
+    }
+    
+    @Test
+    public void testSqlReusedForSameShape() {
+        String first = template.newCondition().add(true, "a1").add(true, "b1").getSql();
+        String second = template.newCondition().add(true, "a2").add(true, "b2").add(false, null).getSql();
+        Assert.assertSame(first, second);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testTooManyConditions() {
+        template.newCondition().add(true, "a").add(true, "b").add(true, "c").add(true, "d");
+    }
+}
@@ -16,12 +16,14 @@
 
 package com.alibaba.nacos.plugin.datasource.proxy;
 
+import com.alibaba.nacos.plugin.datasource.impl.mysql.TenantInfoMapperByMySql;
 import com.alibaba.nacos.plugin.datasource.mapper.Mapper;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 
 public class MapperProxyTest {
@@ -89,4 +91,13 @@ public class MapperProxyTest {
             e.printStackTrace();
         }
     }
+    
+    @Test
+    public void testInvokeProxy() {
+        Mapper proxy = mapperProxy.createProxy(new TenantInfoMapperByMySql());
+        Assert.assertEquals("tenant_info", proxy.getTableName());
+        Assert.assertEquals("SELECT id FROM tenant_info WHERE id = ?",
+                proxy.select(Collections.singletonList("id"), Collections.singletonList("id")));
+        Assert.assertEquals(proxy.getTableName(), proxy.getTableName());
+    }
 }